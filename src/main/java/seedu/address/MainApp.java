@@ -12,9 +12,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoHistory;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,7 +24,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -46,6 +51,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Whether the model holds the address book as read from its data file, which then need not be saved until changed
+    private boolean isAddressBookLoaded;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,12 +65,14 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage,
+                new UndoHistory(config.getUndoHistoryDepth(), config.getUndoHistoryMemoryLimit()),
+                isAddressBookLoaded);
 
         ui = new UiManager(logic);
 
@@ -70,6 +80,32 @@ public class MainApp extends Application {
         model.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
     }
 
+    /**
+     * Returns the storage for the address book in the format chosen in {@code config}.
+     * The first time the binary format is used, the json file at the user prefs' path is converted to it.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        if (config.getAddressBookFormat() != Config.AddressBookFormat.BINARY) {
+            return config.isAddressBookJournalEnabled()
+                    ? new JournaledAddressBookStorage(jsonFilePath, config.getAddressBookBackupCount())
+                    : new JsonAddressBookStorage(jsonFilePath, config.getAddressBookBackupCount());
+        }
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getSnapshotPath(jsonFilePath), config.getAddressBookBackupCount(),
+                config.isAddressBookLazyLoadingEnabled());
+        if (!FileUtil.isFileExists(binaryStorage.getAddressBookFilePath()) && FileUtil.isFileExists(jsonFilePath)) {
+            try {
+                AddressBookFormatConverter.convert(new JsonAddressBookStorage(jsonFilePath), binaryStorage);
+                logger.info("Converted " + jsonFilePath + " to " + binaryStorage.getAddressBookFilePath());
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not convert " + jsonFilePath + " to the binary format: " + e);
+            }
+        }
+        return binaryStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -87,6 +123,7 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isAddressBookLoaded = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -181,6 +218,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
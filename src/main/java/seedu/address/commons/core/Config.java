@@ -13,10 +13,18 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 50;
+    public static final long DEFAULT_UNDO_HISTORY_MEMORY_LIMIT = 16 * 1024 * 1024;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean addressBookJournalEnabled = false;
+    private int addressBookBackupCount = 2;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean addressBookLazyLoadingEnabled = false;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoHistoryMemoryLimit = DEFAULT_UNDO_HISTORY_MEMORY_LIMIT;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +42,57 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public int getAddressBookBackupCount() {
+        return addressBookBackupCount;
+    }
+
+    public void setAddressBookBackupCount(int addressBookBackupCount) {
+        this.addressBookBackupCount = addressBookBackupCount;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookLazyLoadingEnabled() {
+        return addressBookLazyLoadingEnabled;
+    }
+
+    public void setAddressBookLazyLoadingEnabled(boolean addressBookLazyLoadingEnabled) {
+        this.addressBookLazyLoadingEnabled = addressBookLazyLoadingEnabled;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, that the undo history may hold before it forgets the oldest commands.
+     */
+    public long getUndoHistoryMemoryLimit() {
+        return undoHistoryMemoryLimit;
+    }
+
+    public void setUndoHistoryMemoryLimit(long undoHistoryMemoryLimit) {
+        this.undoHistoryMemoryLimit = undoHistoryMemoryLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +106,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookJournalEnabled == otherConfig.addressBookJournalEnabled
+                && addressBookBackupCount == otherConfig.addressBookBackupCount
+                && addressBookFormat == otherConfig.addressBookFormat
+                && addressBookLazyLoadingEnabled == otherConfig.addressBookLazyLoadingEnabled
+                && undoHistoryDepth == otherConfig.undoHistoryDepth
+                && undoHistoryMemoryLimit == otherConfig.undoHistoryMemoryLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookJournalEnabled, addressBookBackupCount,
+                addressBookFormat, addressBookLazyLoadingEnabled, undoHistoryDepth, undoHistoryMemoryLimit);
     }
 
     @Override
@@ -60,7 +126,26 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookJournalEnabled", addressBookJournalEnabled)
+                .add("addressBookBackupCount", addressBookBackupCount)
+                .add("addressBookFormat", addressBookFormat)
+                .add("addressBookLazyLoadingEnabled", addressBookLazyLoadingEnabled)
+                .add("undoHistoryDepth", undoHistoryDepth)
+                .add("undoHistoryMemoryLimit", undoHistoryMemoryLimit)
                 .toString();
     }
 
+    /**
+     * The formats the address book can be stored in.
+     */
+    public enum AddressBookFormat {
+        /** A json file that can be edited by hand. */
+        JSON,
+        /**
+         * A binary snapshot kept next to where the json file would be, which loads faster.
+         * With lazy loading enabled, the guests and vendors of events are only read when first used.
+         */
+        BINARY
+    }
+
 }
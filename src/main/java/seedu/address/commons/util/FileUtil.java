@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -75,9 +82,98 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, String, int)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, 0);
+    }
+
+    /**
+     * Writes given string to a file, keeping the {@code backupCount} previous versions of the file as backups.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * The content is written to a temporary file next to {@code file} and forced to disk, before the temporary file
+     * is moved over {@code file}. A crash at any point leaves either the old or the new content in {@code file},
+     * never a mix of both.
+     *
+     * @see #getBackupPath(Path, int)
+     */
+    public static void writeToFile(Path file, String content, int backupCount) throws IOException {
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)), backupCount);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String, int)}, with the content written to the file by
+     * {@code contentWriter} through a buffered stream instead of being held in memory first.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, int backupCount) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            rotateBackups(file, backupCount);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} that is {@code generation} versions old, starting from 1.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation + ".bak");
+    }
+
+    /**
+     * Shifts every backup of {@code file} one generation older, dropping the oldest, and backs up {@code file}.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.copy(file, getBackupPath(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that a file moved into it survives a crash.
+     * Not every platform can open a directory for this, in which case the move is left to the file system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a file to the given stream. The stream is closed by the caller.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,211 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Checks the formats of the fields of the address book without regular expressions.
+ *
+ * The value classes check every field of every record when the address book is loaded and when a command is parsed,
+ * so the common formats are checked here in a single pass over the characters, without building a {@code Pattern} or
+ * a {@code Matcher}. Each check accepts exactly the strings that the regular expression it replaces accepts.
+ * Dates are also read in the same pass, so that they need not be parsed again with a date format.
+ */
+public class ValidationUtil {
+
+    private static final int MIN_FOUR_DIGIT_YEAR_CENTURY = 16;
+    private static final int MAX_DAY_IN_ANY_MONTH = 28;
+    private static final int TWO_DIGIT_YEAR_CENTURY = 20;
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} digits from 0 to 9, like {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an ASCII letter or digit followed by any ASCII letters, digits and spaces, like
+     * {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        return !test.isEmpty() && isAlphanumeric(test.charAt(0)) && isAlphanumericOrSpaces(test);
+    }
+
+    /**
+     * Returns true if {@code test} only has ASCII letters, digits and spaces, like {@code [\p{Alnum} ]*}.
+     * The empty string is accepted.
+     */
+    public static boolean isAlphanumericOrSpaces(String test) {
+        requireNonNull(test);
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is one line that does not start with whitespace, like {@code [^\s].*}.
+     */
+    public static boolean isLineNotStartingWithWhitespace(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a date in the DD-MM-YYYY format that exists in the calendar.
+     *
+     * The day and month may leave out their leading zero, except that the 29th, 30th and 31st always have two digits.
+     * The parts are separated by the same one of {@code -}, {@code /} and {@code .}, and the year has either two
+     * digits, or four digits from 1600 to 9999. A two-digit year is a leap year if it is a multiple of 4 other than 00.
+     */
+    public static boolean isValidDate(String test) {
+        requireNonNull(test);
+        return parseDateOrNull(test) != null;
+    }
+
+    /**
+     * Returns the date written as {@code test}, if it is a valid date as declared in {@link #isValidDate(String)}.
+     * A two-digit year is taken to be in the 2000s.
+     */
+    public static Optional<LocalDate> parseDate(String test) {
+        requireNonNull(test);
+        return Optional.ofNullable(parseDateOrNull(test));
+    }
+
+    /**
+     * Reads {@code test} as a date in a single pass, and returns null if it is not a valid date.
+     */
+    private static LocalDate parseDateOrNull(String test) {
+        int length = test.length();
+
+        int dayEnd = skipDigits(test, 0, 2);
+        int dayLength = dayEnd;
+        if (dayLength == 0 || dayEnd == length || !isDateSeparator(test.charAt(dayEnd))) {
+            return null;
+        }
+        char separator = test.charAt(dayEnd);
+        int monthStart = dayEnd + 1;
+        int monthEnd = skipDigits(test, monthStart, 2);
+        if (monthEnd == monthStart || monthEnd == length || test.charAt(monthEnd) != separator) {
+            return null;
+        }
+        int yearStart = monthEnd + 1;
+        int yearLength = length - yearStart;
+        if ((yearLength != 2 && yearLength != 4) || skipDigits(test, yearStart, yearLength) != length) {
+            return null;
+        }
+
+        int day = parseDigits(test, 0, dayEnd);
+        int month = parseDigits(test, monthStart, monthEnd);
+        int century = yearLength == 4 ? parseDigits(test, yearStart, yearStart + 2) : -1;
+        int yearOfCentury = parseDigits(test, length - 2, length);
+        if (month < 1 || month > 12 || (yearLength == 4 && century < MIN_FOUR_DIGIT_YEAR_CENTURY)) {
+            return null;
+        }
+        if (!isValidDay(day, dayLength, month, century, yearOfCentury)) {
+            return null;
+        }
+        int year = (century < 0 ? TWO_DIGIT_YEAR_CENTURY : century) * 100 + yearOfCentury;
+        return LocalDate.of(year, month, day);
+    }
+
+    private static boolean isValidDay(int day, int dayLength, int month, int century, int yearOfCentury) {
+        if (day >= 1 && day <= MAX_DAY_IN_ANY_MONTH) {
+            return true;
+        }
+        if (dayLength != 2) {
+            return false;
+        }
+
+        switch (day) {
+        case 29:
+            return month != 2 || isLeapYear(century, yearOfCentury);
+        case 30:
+            return month != 2;
+        case 31:
+            return month == 1 || month == 3 || month == 5 || month == 7 || month == 8 || month == 10 || month == 12;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if the year with {@code yearOfCentury} in {@code century} is a leap year, where {@code century} is
+     * negative for a two-digit year.
+     */
+    private static boolean isLeapYear(int century, int yearOfCentury) {
+        if (yearOfCentury != 0) {
+            return yearOfCentury % 4 == 0;
+        }
+        return century >= 0 && century % 4 == 0;
+    }
+
+    /**
+     * Returns the index after the digits of {@code test} starting at {@code from}, reading at most {@code maxDigits}.
+     */
+    private static int skipDigits(String test, int from, int maxDigits) {
+        int end = from;
+        while (end < test.length() && end - from < maxDigits && isDigit(test.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int parseDigits(String test, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (test.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDateSeparator(char c) {
+        return c == '-' || c == '/' || c == '.';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -7,6 +7,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.suggestion.SuggestionQuery;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.displayable.DisplayableListViewItem;
 import seedu.address.model.event.Event;
@@ -27,6 +28,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the number of executed commands after which saving was skipped, as they left the AddressBook unchanged.
+     */
+    int getSkippedSaveCount();
+
+    /**
+     * Waits for the AddressBook to be saved after the commands executed so far.
+     * @throws CommandException If the AddressBook could not be saved.
+     */
+    void flushAddressBook() throws CommandException;
+
+    /**
+     * Returns the query for the names to suggest while {@code commandText} is being typed.
+     * The query can be run on any thread, as it does not read the AddressBook.
+     */
+    SuggestionQuery getSuggestionQuery(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -13,6 +14,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.suggestion.Suggester;
+import seedu.address.logic.suggestion.SuggestionQuery;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.displayable.DisplayableListViewItem;
@@ -36,14 +39,37 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final UndoHistory undoHistory;
+    private final Suggester suggester;
+
+    // Modification count of the address book when it was last saved, or -1 if it has not been saved yet
+    private long savedModificationCount = -1;
+    private int skippedSaveCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code UndoHistory}.
+     * If {@code isAddressBookSaved} is true, the model's address book is the one in {@code storage}, and is only
+     * saved once a command changes it; otherwise it is saved after the first command.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, Storage storage, UndoHistory undoHistory, boolean isAddressBookSaved) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.undoHistory = undoHistory;
+        undoHistory.track(model);
+        addressBookParser = new AddressBookParser(undoHistory);
+        suggester = new Suggester(model);
+        if (isAddressBookSaved) {
+            savedModificationCount = model.getAddressBook().getModificationCount();
+        }
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, and an undo history with
+     * the default limits. The address book is saved after the first command.
+     */
+    public LogicManager(Model model, Storage storage) {
+        this(model, storage, new UndoHistory(Config.DEFAULT_UNDO_HISTORY_DEPTH,
+                Config.DEFAULT_UNDO_HISTORY_MEMORY_LIMIT), false);
     }
 
     @Override
@@ -52,19 +78,59 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // Whatever the command changed before it failed can still be undone
+            undoHistory.commit();
+        }
 
+        long modificationCount = model.getAddressBook().getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped saving (" + skippedSaveCount + " saves skipped)");
+            return commandResult;
+        }
+
+        // The address book is saved even if an earlier save is reported to have failed
+        savedModificationCount = modificationCount;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBookInBackground(model.getAddressBook());
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flushAddressBook() throws CommandException {
+        try {
+            storage.flushAddressBook();
+        } catch (IOException ioe) {
+            // Saves again after the next command, even if it does not change the address book
+            savedModificationCount = -1;
+            throw toCommandException(ioe);
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public SuggestionQuery getSuggestionQuery(String commandText) {
+        return suggester.prepare(commandText);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -27,12 +27,18 @@ public class Messages {
     public static final String MESSAGE_EVENTS_LISTED_OVERVIEW = "%1$d events listed!";
     public static final String MESSAGE_INVALID_VENDOR_INDEX = "The vendor index provided is invalid.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_SEARCH_RESULTS_LISTED_OVERVIEW = "%1$d results listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_EVENT_NO_PREFIX = "Please select person(s) or vendor(s) to be added to the event"
             + " and/or set a venue to the event";
     public static final String MESSAGE_INVALID_INTERVAL = "To Date entered should be either "
             + "the same as from date or after.";
+    public static final String MESSAGE_VENUE_BOOKED = "%1$s is already booked on some of these days for: %2$s";
+    public static final String MESSAGE_GUEST_DOUBLE_BOOKED =
+            "Warning: guest %1$s is also at %2$s on some of these days";
+    public static final String MESSAGE_VENDOR_DOUBLE_BOOKED =
+            "Warning: vendor %1$s is also at %2$s on some of these days";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -0,0 +1,319 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Records the changes each command makes to the address book, so that they can be undone and redone.
+ *
+ * Only the elements that a command adds, replaces or removes are recorded, never a copy of the whole address book.
+ * When a command replaces a whole list at once, the old and new lists are compared and only the elements that differ
+ * are kept. The history holds at most a given number of commands and drops the oldest commands once the estimated
+ * memory it holds goes over a limit.
+ */
+public class UndoHistory {
+
+    /** The estimated memory held by each element recorded, in bytes, including the element itself. */
+    static final long ESTIMATED_ELEMENT_SIZE = 256;
+    /** The estimated memory held by each edit recorded, in bytes, not counting its elements. */
+    static final long ESTIMATED_EDIT_SIZE = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final int maxDepth;
+    private final long memoryLimit;
+    private final Deque<Revision> undoRevisions = new ArrayDeque<>();
+    private final Deque<Revision> redoRevisions = new ArrayDeque<>();
+    private final List<TrackedList<?>> trackedLists = new ArrayList<>();
+    private Revision pendingRevision = new Revision();
+    private long memoryUsed;
+
+    /**
+     * Creates a history that holds at most {@code maxDepth} commands, and at most about {@code memoryLimit} bytes.
+     */
+    public UndoHistory(int maxDepth, long memoryLimit) {
+        this.maxDepth = maxDepth;
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Starts recording the changes made to the address book of {@code model}.
+     */
+    public void track(Model model) {
+        requireNonNull(model);
+        assert trackedLists.isEmpty() : "The history can only track one model";
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        trackedLists.add(new TrackedList<>(addressBook.getPersonList(), model::setPersons));
+        trackedLists.add(new TrackedList<>(addressBook.getEventList(), model::setEvents));
+        trackedLists.add(new TrackedList<>(addressBook.getVenueList(), model::setVenues));
+        trackedLists.add(new TrackedList<>(addressBook.getVendorList(), model::setVendors));
+        trackedLists.add(new TrackedList<>(addressBook.getRsvpList(), model::setRsvps));
+    }
+
+    /**
+     * Ends the command being recorded. If it changed the address book, it becomes the next command to be undone, and
+     * the commands that were undone can no longer be redone.
+     */
+    public void commit() {
+        Revision revision = takePendingRevision();
+        if (revision.isEmpty()) {
+            return;
+        }
+
+        for (Revision redoRevision : redoRevisions) {
+            memoryUsed -= redoRevision.getEstimatedSize();
+        }
+        redoRevisions.clear();
+        undoRevisions.addLast(revision);
+        memoryUsed += revision.getEstimatedSize();
+        dropOldestRevisions();
+    }
+
+    public boolean canUndo() {
+        return !undoRevisions.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoRevisions.isEmpty();
+    }
+
+    /**
+     * Reverts the changes made by the last command that has not been undone.
+     *
+     * @throws IllegalStateException if there is no command to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no command to undo");
+        }
+        assert pendingRevision.isEmpty() : "The command being recorded must be committed first";
+        redoRevisions.addLast(revert(undoRevisions.removeLast()));
+    }
+
+    /**
+     * Makes the changes of the last command undone again.
+     *
+     * @throws IllegalStateException if there is no command to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no command to redo");
+        }
+        assert pendingRevision.isEmpty() : "The command being recorded must be committed first";
+        undoRevisions.addLast(revert(redoRevisions.removeLast()));
+    }
+
+    /**
+     * Returns the estimated memory held by the history, in bytes.
+     */
+    long getMemoryUsed() {
+        return memoryUsed;
+    }
+
+    /**
+     * Reverts the changes in {@code revision}, and returns the changes made in doing so.
+     */
+    private Revision revert(Revision revision) {
+        Map<TrackedList<?>, List<?>> revertedLists = new LinkedHashMap<>();
+        for (TrackedList<?> trackedList : trackedLists) {
+            if (revision.changes(trackedList)) {
+                revertedLists.put(trackedList, trackedList.revert(revision));
+            }
+        }
+        revertedLists.forEach(TrackedList::set);
+
+        Revision inverse = takePendingRevision();
+        memoryUsed += inverse.getEstimatedSize() - revision.getEstimatedSize();
+        dropOldestRevisions();
+        return inverse;
+    }
+
+    private Revision takePendingRevision() {
+        Revision revision = pendingRevision;
+        pendingRevision = new Revision();
+        return revision;
+    }
+
+    /**
+     * Drops the oldest commands until the history is within its depth and memory limits.
+     * The commands that can be redone are dropped last.
+     */
+    private void dropOldestRevisions() {
+        while (undoRevisions.size() + redoRevisions.size() > maxDepth || memoryUsed > memoryLimit) {
+            Revision dropped = !undoRevisions.isEmpty() ? undoRevisions.removeFirst() : redoRevisions.removeFirst();
+            memoryUsed -= dropped.getEstimatedSize();
+            logger.fine("Dropped oldest command from undo history (" + memoryUsed + " bytes still held)");
+        }
+    }
+
+    /**
+     * Returns the edits that turn {@code removed} into {@code added}, for a change starting at {@code from}.
+     * The elements that are in both lists, in the same order, are left out of the edits.
+     */
+    static <T> List<Edit<T>> diff(int from, List<T> removed, List<T> added) {
+        if (removed.isEmpty() || added.isEmpty()) {
+            return List.of(new Edit<>(from, removed, added));
+        }
+
+        Set<T> removedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedElements.addAll(removed);
+        Set<T> addedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        addedElements.addAll(added);
+
+        List<Edit<T>> edits = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < removed.size() || j < added.size()) {
+            if (i < removed.size() && j < added.size() && removed.get(i) == added.get(j)) {
+                i++;
+                j++;
+                continue;
+            }
+
+            int removedStart = i;
+            int addedStart = j;
+            while ((i < removed.size() || j < added.size())
+                    && !(i < removed.size() && j < added.size() && removed.get(i) == added.get(j))) {
+                if (i < removed.size() && !addedElements.contains(removed.get(i))) {
+                    i++;
+                } else if (j < added.size() && !removedElements.contains(added.get(j))) {
+                    j++;
+                } else {
+                    // The elements kept were reordered, so the rest of the lists is recorded as it is
+                    i = removed.size();
+                    j = added.size();
+                }
+            }
+            edits.add(new Edit<>(from + addedStart, List.copyOf(removed.subList(removedStart, i)),
+                    List.copyOf(added.subList(addedStart, j))));
+        }
+        return edits;
+    }
+
+    /**
+     * A change to one list: the elements {@code removed} starting at {@code from} were replaced by {@code added}.
+     */
+    static class Edit<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        Edit(int from, List<T> removed, List<T> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Reverts this edit in {@code list}.
+         */
+        void revert(List<T> list) {
+            if (removed.size() == added.size()) {
+                for (int i = 0; i < removed.size(); i++) {
+                    list.set(from + i, removed.get(i));
+                }
+                return;
+            }
+            list.subList(from, from + added.size()).clear();
+            list.addAll(from, removed);
+        }
+
+        long getEstimatedSize() {
+            return ESTIMATED_EDIT_SIZE + ESTIMATED_ELEMENT_SIZE * (removed.size() + added.size());
+        }
+    }
+
+    /**
+     * The edits made to the tracked lists by one command, in the order they were made.
+     */
+    private static class Revision {
+        private final Map<TrackedList<?>, List<Edit<?>>> editsByList = new LinkedHashMap<>();
+        private long estimatedSize;
+
+        void add(TrackedList<?> trackedList, Edit<?> edit) {
+            editsByList.computeIfAbsent(trackedList, list -> new ArrayList<>()).add(edit);
+            estimatedSize += edit.getEstimatedSize();
+        }
+
+        boolean changes(TrackedList<?> trackedList) {
+            return editsByList.containsKey(trackedList);
+        }
+
+        List<Edit<?>> getEdits(TrackedList<?> trackedList) {
+            return editsByList.getOrDefault(trackedList, List.of());
+        }
+
+        boolean isEmpty() {
+            return editsByList.isEmpty();
+        }
+
+        long getEstimatedSize() {
+            return estimatedSize;
+        }
+    }
+
+    /**
+     * A list of the address book whose changes are recorded, with the way to replace its contents.
+     */
+    private class TrackedList<T> implements ListChangeListener<T> {
+        private final ObservableList<T> list;
+        private final Consumer<List<T>> setter;
+
+        TrackedList(ObservableList<T> list, Consumer<List<T>> setter) {
+            this.list = list;
+            this.setter = setter;
+            list.addListener(this);
+        }
+
+        @Override
+        public void onChanged(Change<? extends T> change) {
+            while (change.next()) {
+                assert !change.wasPermutated() : "The lists of the address book are never reordered";
+                if (!change.wasAdded() && !change.wasRemoved()) {
+                    continue;
+                }
+                List<T> removed = new ArrayList<>(change.getRemoved());
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                for (Edit<T> edit : diff(change.getFrom(), removed, added)) {
+                    pendingRevision.add(this, edit);
+                }
+            }
+        }
+
+        /**
+         * Returns a copy of the list with the edits in {@code revision} reverted.
+         */
+        @SuppressWarnings("unchecked")
+        List<T> revert(Revision revision) {
+            List<T> reverted = new ArrayList<>(list);
+            List<Edit<?>> edits = revision.getEdits(this);
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                ((Edit<T>) edits.get(i)).revert(reverted);
+            }
+            return reverted;
+        }
+
+        @SuppressWarnings("unchecked")
+        void set(List<?> contents) {
+            setter.accept((List<T>) contents);
+        }
+    }
+}
@@ -6,7 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
@@ -87,27 +88,36 @@ public class AddEventDetailsCommand extends Command {
         }
 
         // Find the existing people in an event that we are trying to add.
-        List<Person> existingPersons = new ArrayList<>(eventToEdit.getPersons());
-        existingPersons.retainAll(personsToAdd);
+        Set<Person> personsToAddSet = new HashSet<>(personsToAdd);
+        List<Person> existingPersons = eventToEdit.getPersons().stream()
+                .filter(personsToAddSet::contains).collect(Collectors.toList());
 
         // Get the new people we are trying to add.
         List<Person> newPersons = personsToAdd.stream()
-                .filter(person -> !existingPersons.contains(person)).collect(Collectors.toList());
+                .filter(person -> !eventToEdit.getPersons().contains(person)).collect(Collectors.toList());
 
         // Find the existing vendors in an event that we are trying to add.
-        List<Vendor> existingVendors = new ArrayList<>(eventToEdit.getVendors());
-        existingVendors.retainAll(vendorsToAdd);
+        Set<Vendor> vendorsToAddSet = new HashSet<>(vendorsToAdd);
+        List<Vendor> existingVendors = eventToEdit.getVendors().stream()
+                .filter(vendorsToAddSet::contains).collect(Collectors.toList());
 
         // Get the new vendors we are trying to add.
         List<Vendor> newVendors = vendorsToAdd.stream()
-                .filter(vendor -> !existingVendors.contains(vendor)).collect(Collectors.toList());
+                .filter(vendor -> !eventToEdit.getVendors().contains(vendor)).collect(Collectors.toList());
 
         // Retrieve the venue that the user is trying to add if any.
         Venue venueToAdd = model.getVenue(venueIndex);
 
         // Edited event
         Event editedEvent = model.createEditedEvent(eventToEdit, newPersons, newVendors, venueToAdd);
-        model.setEvent(eventToEdit, editedEvent);
+
+        // Reject a venue that is already booked for another event on the days of this event
+        if (venueToAdd != null) {
+            ScheduleConflicts.checkVenueIsFree(model, eventToEdit, editedEvent);
+        }
+
+        AddressBookChanges changes = new AddressBookChanges();
+        changes.setEvent(eventToEdit, editedEvent);
 
         // Result messages
         String successfullyAddedMessage = String.format(MESSAGE_SUCCESS,
@@ -126,16 +136,18 @@ public class AddEventDetailsCommand extends Command {
             successfullyAddedMessage += ("\n" + String.format(MESSAGE_VENUE, venueToAdd.getName()));
         }
 
+        // Warn about new guests and vendors who are already at another event on some of the same days
+        List<String> doubleBookings = ScheduleConflicts.findDoubleBookings(model, editedEvent, newPersons, newVendors);
+        if (!doubleBookings.isEmpty()) {
+            successfullyAddedMessage += "\n" + String.join("\n", doubleBookings);
+        }
+
         // Find Rsvp objects affected by the change and swap the event
-        List<Rsvp> rsvpList = new ArrayList<>(model.getFilteredRsvpList());
-        for (Rsvp rsvp: rsvpList) {
-            if (rsvp.getEvent().isSameEvent(eventToEdit)) {
-                Rsvp editedRsvp = new Rsvp(editedEvent, rsvp.getPerson(), rsvp.getRsvpStatus());
-                rsvpList.set(rsvpList.indexOf(rsvp), editedRsvp);
-            }
+        for (Rsvp rsvp : model.getRsvps(eventToEdit)) {
+            changes.setRsvp(rsvp, new Rsvp(editedEvent, rsvp.getPerson(), rsvp.getRsvpStatus()));
         }
 
-        model.setRsvps(rsvpList);
+        model.commitChanges(changes);
         model.updateFilteredEventRsvpList(new RsvpContainsEventPredicate(editedEvent));
 
         // Set edited event to be shown in the UI
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Conflict;
+import seedu.address.model.event.ConflictSweep;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.vendor.Vendor;
+
+/**
+ * Lists the guests and vendors in EventWise that are at two events on some of the same days.
+ */
+public class AuditBookingsCommand extends Command {
+
+    public static final String COMMAND_WORD = "auditBookings";
+
+    public static final String MESSAGE_NO_CONFLICTS = "No guest or vendor is at two events on the same day";
+    public static final String MESSAGE_CONFLICTS = "%1$d double bookings found:\n%2$s";
+    public static final String MESSAGE_GUEST_CONFLICT = "Guest %1$s: %2$s and %3$s";
+    public static final String MESSAGE_VENDOR_CONFLICT = "Vendor %1$s: %2$s and %3$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Event> events = model.getAddressBook().getEventList();
+        List<Conflict<seedu.address.model.person.Name>> guestConflicts = ConflictSweep.findConflicts(events,
+                event -> event.getPersons().stream().map(Person::getName).collect(Collectors.toList()));
+        List<Conflict<seedu.address.model.vendor.Name>> vendorConflicts = ConflictSweep.findConflicts(events,
+                event -> event.getVendors().stream().map(Vendor::getName).collect(Collectors.toList()));
+
+        List<String> conflictLines = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        addConflicts(guestConflicts, MESSAGE_GUEST_CONFLICT, conflictLines, names);
+        addConflicts(vendorConflicts, MESSAGE_VENDOR_CONFLICT, conflictLines, names);
+        if (conflictLines.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        model.updateFilteredEventList(event -> names.contains(event.getName()));
+        return new CommandResult(String.format(MESSAGE_CONFLICTS, conflictLines.size(),
+                String.join("\n", conflictLines)));
+    }
+
+    /**
+     * Adds a line in {@code format} for each of {@code conflicts} to {@code conflictLines}, and the names of the
+     * events in them to {@code names}.
+     */
+    private static void addConflicts(List<? extends Conflict<?>> conflicts, String format, List<String> conflictLines,
+            Set<Name> names) {
+        for (Conflict<?> conflict : conflicts) {
+            conflictLines.add(String.format(format, conflict.getKey(), conflict.getFirstEvent().getName(),
+                    conflict.getSecondEvent().getName()));
+            names.add(conflict.getFirstEvent().getName());
+            names.add(conflict.getSecondEvent().getName());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Conflict;
+import seedu.address.model.event.ConflictSweep;
+import seedu.address.model.event.Name;
+
+/**
+ * Lists the events in EventWise that are held at the same venue on some of the same days.
+ */
+public class AuditVenuesCommand extends Command {
+
+    public static final String COMMAND_WORD = "auditVenues";
+
+    public static final String MESSAGE_NO_CONFLICTS = "No venue is booked for two events on the same day";
+    public static final String MESSAGE_CONFLICTS = "%1$d venue conflicts found:\n%2$s";
+    public static final String MESSAGE_CONFLICT = "%1$s: %2$s and %3$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Conflict<seedu.address.model.venue.Name>> conflicts = ConflictSweep.findConflicts(
+                model.getAddressBook().getEventList(), event -> event.getVenue() == null
+                        ? Collections.emptyList()
+                        : Collections.singletonList(event.getVenue().getName()));
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        Set<Name> names = new HashSet<>();
+        for (Conflict<seedu.address.model.venue.Name> conflict : conflicts) {
+            names.add(conflict.getFirstEvent().getName());
+            names.add(conflict.getSecondEvent().getName());
+        }
+        model.updateFilteredEventList(event -> names.contains(event.getName()));
+
+        String conflictLines = conflicts.stream()
+                .map(conflict -> String.format(MESSAGE_CONFLICT, conflict.getKey(),
+                        conflict.getFirstEvent().getName(), conflict.getSecondEvent().getName()))
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_CONFLICTS, conflicts.size(), conflictLines));
+    }
+}
@@ -2,13 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
@@ -47,28 +47,32 @@ public class DeleteCommand extends Command {
         model.deletePerson(personToDelete);
 
         // Check if event contains person, if true, remove person from the event's vendor list
-        for (Event event : model.getAddressBook().getEventList()) {
-            if (event.getPersons().contains(personToDelete)) {
-                List<Person> editedPersonList = new ArrayList<>(event.getPersons());
-                editedPersonList.remove(personToDelete);
-                Event updatedEvent = new Event(event.getName(), event.getDescription(),
-                        event.getFromDate(), event.getToDate(), event.getNote(), editedPersonList,
-                        event.getVendors(), event.getVenue());
-                model.setEvent(event, updatedEvent);
-
-                // Find the Rsvp object to remove
-                Rsvp existingRsvp = model.findRsvp(event, personToDelete);
-
-                if (existingRsvp != null) {
-                    model.deleteRsvp(existingRsvp);
-                }
-
-                // Check if the current event that is being shown in the event details is affected
-                Event eventToView = model.getEventToView();
-                if (eventToView != null && eventToView.getPersons().contains(personToDelete)) {
-                    model.setEventToView(updatedEvent);
-                }
+        AddressBookChanges changes = new AddressBookChanges();
+        Event eventToView = model.getEventToView();
+        Event updatedEventToView = null;
+        for (Event event : model.getEventsWithGuest(personToDelete)) {
+            Event updatedEvent = new Event(event.getName(), event.getDescription(),
+                    event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons().without(personToDelete),
+                    event.getVendors(), event.getVenue());
+            changes.setEvent(event, updatedEvent);
+
+            // Find the Rsvp object to remove
+            Rsvp existingRsvp = model.findRsvp(event, personToDelete);
+
+            if (existingRsvp != null) {
+                changes.removeRsvp(existingRsvp);
             }
+
+            // Check if the current event that is being shown in the event details is affected
+            if (eventToView != null && eventToView.isSameEvent(event)) {
+                updatedEventToView = updatedEvent;
+            }
+        }
+        model.commitChanges(changes);
+
+        // The event details are shown once the RSVPs have been removed, so that they are not shown either
+        if (updatedEventToView != null) {
+            model.setEventToView(updatedEventToView);
         }
 
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
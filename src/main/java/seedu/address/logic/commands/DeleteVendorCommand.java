@@ -3,13 +3,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.vendor.Vendor;
@@ -47,24 +47,21 @@ public class DeleteVendorCommand extends Command {
         model.deleteVendor(vendorToDelete);
 
         // Check if event contains vendorToDelete, if true, remove vendor from the event's vendor list
-        for (Event event : model.getAddressBook().getEventList()) {
-            if (event.getVendors().contains(vendorToDelete)) {
-                List<Vendor> editedVendorList = new ArrayList<>(event.getVendors());
-                editedVendorList.remove(vendorToDelete);
-
-                Event updatedEvent = new Event(event.getName(), event.getDescription(),
-                        event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
-                        editedVendorList, event.getVenue());
-
-                model.setEvent(event, updatedEvent);
-
-                // Check if the current event that is being shown in the event details is affected
-                Event eventToView = model.getEventToView();
-                if (eventToView != null && eventToView.getVendors().contains(vendorToDelete)) {
-                    model.setEventToView(updatedEvent);
-                }
+        AddressBookChanges changes = new AddressBookChanges();
+        for (Event event : model.getEventsWithVendor(vendorToDelete)) {
+            Event updatedEvent = new Event(event.getName(), event.getDescription(),
+                    event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
+                    event.getVendors().without(vendorToDelete), event.getVenue());
+
+            changes.setEvent(event, updatedEvent);
+
+            // Check if the current event that is being shown in the event details is affected
+            Event eventToView = model.getEventToView();
+            if (eventToView != null && eventToView.isSameEvent(event)) {
+                model.setEventToView(updatedEvent);
             }
         }
+        model.commitChanges(changes);
 
         model.updateFilteredVendorList(Model.PREDICATE_SHOW_ALL_VENDORS);
 
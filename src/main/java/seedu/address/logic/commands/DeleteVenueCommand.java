@@ -9,6 +9,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.venue.Venue;
@@ -48,25 +49,20 @@ public class DeleteVenueCommand extends Command {
                 venueToDelete.getName(), venueToDelete.getAddress(), venueToDelete.getCapacity());
 
         // Check if event contains venueToDelete, if true, set event venue to null
-        for (Event event : model.getAddressBook().getEventList()) {
-            if (event.getVenue() == null) {
-                continue;
-            }
-
-            if (event.getVenue().isSameVenue(venueToDelete)) {
-                Event updatedEvent = new Event(event.getName(), event.getDescription(),
-                        event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
-                        event.getVendors(), null);
-                model.setEvent(event, updatedEvent);
-
-                // Check if the current event that is being shown in the event details is affected
-                Event eventToView = model.getEventToView();
-                boolean isNotNull = eventToView != null && eventToView.getVenue() != null;
-                if (isNotNull && eventToView.getVenue().isSameVenue(venueToDelete)) {
-                    model.setEventToView(updatedEvent);
-                }
+        AddressBookChanges changes = new AddressBookChanges();
+        for (Event event : model.getEventsAtVenue(venueToDelete)) {
+            Event updatedEvent = new Event(event.getName(), event.getDescription(),
+                    event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
+                    event.getVendors(), null);
+            changes.setEvent(event, updatedEvent);
+
+            // Check if the current event that is being shown in the event details is affected
+            Event eventToView = model.getEventToView();
+            if (eventToView != null && eventToView.isSameEvent(event)) {
+                model.setEventToView(updatedEvent);
             }
         }
+        model.commitChanges(changes);
 
         model.updateFilteredVenueList(Model.PREDICATE_SHOW_ALL_VENUES);
 
@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,6 +15,7 @@ import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Email;
@@ -78,42 +78,36 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        model.setPerson(personToEdit, editedPerson);
+        AddressBookChanges changes = new AddressBookChanges();
+        changes.setPerson(personToEdit, editedPerson);
 
         // Check if event contains person, if true, update person from the event's vendor list
-        for (Event event : model.getAddressBook().getEventList()) {
-            if (event.getPersons().contains(personToEdit)) {
-                List<Person> editedPersonList = new ArrayList<>(event.getPersons());
-                editedPersonList.set(editedPersonList.indexOf(personToEdit), editedPerson);
-                Event updatedEvent = new Event(event.getName(), event.getDescription(),
-                        event.getFromDate(), event.getToDate(), event.getNote(), editedPersonList,
-                        event.getVendors(), event.getVenue());
-                model.setEvent(event, updatedEvent);
-
-                // Find the Rsvp object to remove
-                Rsvp existingRsvp = model.findRsvp(event, personToEdit);
-
-                if (existingRsvp != null) {
-                    List<Rsvp> rsvpList = new ArrayList<>(model.getAddressBook().getRsvpList());
-                    rsvpList.set(
-                            rsvpList.indexOf(existingRsvp),
-                            new Rsvp(updatedEvent, editedPerson, existingRsvp.getRsvpStatus())
-                    );
-                    model.setRsvps(rsvpList);
-                }
+        for (Event event : model.getEventsWithGuest(personToEdit)) {
+            Event updatedEvent = new Event(event.getName(), event.getDescription(),
+                    event.getFromDate(), event.getToDate(), event.getNote(),
+                    event.getPersons().replace(personToEdit, editedPerson),
+                    event.getVendors(), event.getVenue());
+            changes.setEvent(event, updatedEvent);
+
+            // Find the Rsvp object to update
+            Rsvp existingRsvp = model.findRsvp(event, personToEdit);
+
+            if (existingRsvp != null) {
+                changes.setRsvp(existingRsvp, new Rsvp(updatedEvent, editedPerson, existingRsvp.getRsvpStatus()));
             }
         }
 
+        model.commitChanges(changes);
+
         // Check if the current event that is being shown in the event details is affected
         Event eventToView = model.getEventToView();
         boolean isNotNull = eventToView != null;
         if (isNotNull && eventToView.getPersons().contains(personToEdit)) {
             Event currentlyShownEvent = model.getEventToView();
-            List<Person> editedPersonList = new ArrayList<>(currentlyShownEvent.getPersons());
-            editedPersonList.set(editedPersonList.indexOf(personToEdit), editedPerson);
             Event updatedEvent = new Event(currentlyShownEvent.getName(), currentlyShownEvent.getDescription(),
                     currentlyShownEvent.getFromDate(), currentlyShownEvent.getToDate(), currentlyShownEvent.getNote(),
-                    editedPersonList, currentlyShownEvent.getVendors(), currentlyShownEvent.getVenue());
+                    currentlyShownEvent.getPersons().replace(personToEdit, editedPerson),
+                    currentlyShownEvent.getVendors(), currentlyShownEvent.getVenue());
             model.updateFilteredEventRsvpList(new RsvpContainsEventPredicate(eventToView));
             model.setEventToView(updatedEvent);
         }
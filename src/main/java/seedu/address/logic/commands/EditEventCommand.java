@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TO;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -18,6 +17,7 @@ import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Description;
 import seedu.address.model.event.Event;
@@ -83,19 +83,22 @@ public class EditEventCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
 
-        // Find Rsvp objects affected by the change and swap the event
-        List<Rsvp> rsvpList = new ArrayList<>(model.getFilteredRsvpList());
-        for (Rsvp rsvp: rsvpList) {
-            if (rsvp.getEvent().isSameEvent(eventToEdit)) {
-                Rsvp editedRsvp = new Rsvp(editedEvent, rsvp.getPerson(), rsvp.getRsvpStatus());
-                rsvpList.set(rsvpList.indexOf(rsvp), editedRsvp);
-            }
+        // Moving an event with a venue to other days must not clash with the other bookings of the venue
+        boolean isRescheduled = !eventToEdit.getFromDate().getDate().equals(editedEvent.getFromDate().getDate())
+                || !eventToEdit.getToDate().getDate().equals(editedEvent.getToDate().getDate());
+        if (isRescheduled) {
+            ScheduleConflicts.checkVenueIsFree(model, eventToEdit, editedEvent);
         }
 
-        model.setRsvps(rsvpList);
+        // Find Rsvp objects affected by the change and swap the event
+        AddressBookChanges changes = new AddressBookChanges();
+        for (Rsvp rsvp : model.getRsvps(eventToEdit)) {
+            changes.setRsvp(rsvp, new Rsvp(editedEvent, rsvp.getPerson(), rsvp.getRsvpStatus()));
+        }
 
         // Update event details in UI
-        model.setEvent(eventToEdit, editedEvent);
+        changes.setEvent(eventToEdit, editedEvent);
+        model.commitChanges(changes);
 
         // Check if the current event that is being shown in the event details is affected
         Event eventToView = model.getEventToView();
@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR_PHONE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_VENDORS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -17,6 +16,7 @@ import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.vendor.Email;
@@ -82,23 +82,20 @@ public class EditVendorCommand extends Command {
         model.setVendor(vendorToEdit, editedVendor);
 
         // Check if event contains vendorToDelete, if true, update vendor from the event's vendor list
-        for (Event event : model.getAddressBook().getEventList()) {
-            if (event.getVendors().contains(vendorToEdit)) {
-                List<Vendor> editedVendorList = new ArrayList<>(event.getVendors());
-                editedVendorList.set(editedVendorList.indexOf(vendorToEdit), editedVendor);
-
-                Event updatedEvent = new Event(event.getName(), event.getDescription(),
-                        event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
-                        editedVendorList, event.getVenue());
-                model.setEvent(event, updatedEvent);
-
-                // Check if the current event that is being shown in the event details is affected
-                Event eventToView = model.getEventToView();
-                if (eventToView != null && eventToView.getVendors().contains(vendorToEdit)) {
-                    model.setEventToView(updatedEvent);
-                }
+        AddressBookChanges changes = new AddressBookChanges();
+        for (Event event : model.getEventsWithVendor(vendorToEdit)) {
+            Event updatedEvent = new Event(event.getName(), event.getDescription(),
+                    event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
+                    event.getVendors().replace(vendorToEdit, editedVendor), event.getVenue());
+            changes.setEvent(event, updatedEvent);
+
+            // Check if the current event that is being shown in the event details is affected
+            Event eventToView = model.getEventToView();
+            if (eventToView != null && eventToView.isSameEvent(event)) {
+                model.setEventToView(updatedEvent);
             }
         }
+        model.commitChanges(changes);
 
         model.updateFilteredVendorList(PREDICATE_SHOW_ALL_VENDORS);
         return new CommandResult(String.format(MESSAGE_EDIT_VENDOR_SUCCESS, Messages.format(editedVendor)));
@@ -16,6 +16,7 @@ import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.venue.Address;
@@ -81,18 +82,14 @@ public class EditVenueCommand extends Command {
         model.setVenue(venueToEdit, editedVenue);
 
         // Check if event contains venueToEdit, if true, update event venue
-        for (Event event : model.getAddressBook().getEventList()) {
-            if (event.getVenue() == null) {
-                continue;
-            }
-
-            if (event.getVenue().isSameVenue(venueToEdit)) {
-                Event updatedEvent = new Event(event.getName(), event.getDescription(),
-                        event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
-                        event.getVendors(), editedVenue);
-                model.setEvent(event, updatedEvent);
-            }
-        }
+        AddressBookChanges changes = new AddressBookChanges();
+        for (Event event : model.getEventsAtVenue(venueToEdit)) {
+            Event updatedEvent = new Event(event.getName(), event.getDescription(),
+                    event.getFromDate(), event.getToDate(), event.getNote(), event.getPersons(),
+                    event.getVendors(), editedVenue);
+            changes.setEvent(event, updatedEvent);
+        }
+        model.commitChanges(changes);
 
         // Check if the current event that is being shown in the event details is affected
         Event eventToView = model.getEventToView();
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TO;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.Name;
+import seedu.address.model.event.ToDate;
+
+/**
+ * Lists all events in EventWise that run on any day in a date range.
+ */
+public class EventsBetweenCommand extends Command {
+
+    public static final String COMMAND_WORD = "eventsBetween";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all events that run on any day from the first "
+            + "date to the second date inclusive, and displays them as a list with index numbers.\n"
+            + "Parameters: " + PREFIX_EVENT_FROM + "DATE " + PREFIX_EVENT_TO + "DATE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_EVENT_FROM + "01-12-2024 " + PREFIX_EVENT_TO + "31-12-2024";
+
+    private final FromDate from;
+    private final ToDate to;
+
+    /**
+     * Creates an EventsBetweenCommand to list the events that run on any day from {@code from} to {@code to}.
+     */
+    public EventsBetweenCommand(FromDate from, ToDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Name> names = model.getEventsBetween(from.getDate(), to.getDate()).stream()
+                .map(Event::getName)
+                .collect(Collectors.toSet());
+        model.updateFilteredEventList(event -> names.contains(event.getName()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventsList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventsBetweenCommand)) {
+            return false;
+        }
+
+        EventsBetweenCommand otherEventsBetweenCommand = (EventsBetweenCommand) other;
+        return from.equals(otherEventsBetweenCommand.from) && to.equals(otherEventsBetweenCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.PersonQueryCompiler;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPredicate;
+
+/**
+ * Lists all persons in address book whose fields satisfy a query.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose fields satisfy the query "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: FIELD:VALUE [[and|or] [not] FIELD:VALUE]...\n"
+            + "Fields: name, phone, email, rsvp, event. "
+            + "Values with spaces go in double quotes, and * matches any characters.\n"
+            + "Example: " + COMMAND_WORD + " email:*@acme.com rsvp:CC or event:\"Career Fair\"";
+
+    private final Query query;
+
+    public FilterCommand(Query query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(new QueryPredicate<>(query, new PersonQueryCompiler(), model));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return query.equals(otherFilterCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.EventQueryCompiler;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPredicate;
+
+/**
+ * Lists all events in EventWise whose fields satisfy a query.
+ */
+public class FilterEventsCommand extends Command {
+
+    public static final String COMMAND_WORD = "filterEvents";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all events whose fields satisfy the query "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: FIELD:VALUE [[and|or] [not] FIELD:VALUE]...\n"
+            + "Fields: name, description, note, from, to, venue, vendor, guest, rsvp. "
+            + "Dates can also be compared with <, <=, > and >=.\n"
+            + "Example: " + COMMAND_WORD + " from>=01-01-2025 venue:\"Hall A\"";
+
+    private final Query query;
+
+    public FilterEventsCommand(Query query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredEventList(new QueryPredicate<>(query, new EventQueryCompiler(), model));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventsList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterEventsCommand)) {
+            return false;
+        }
+
+        FilterEventsCommand otherFilterEventsCommand = (FilterEventsCommand) other;
+        return query.equals(otherFilterEventsCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
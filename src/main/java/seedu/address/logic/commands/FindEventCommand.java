@@ -30,7 +30,7 @@ public class FindEventCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
+        model.updateFilteredEventList(predicate.withIndex(model.getEventNameIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventsList().size()));
     }
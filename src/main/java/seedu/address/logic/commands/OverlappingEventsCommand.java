@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Name;
+
+/**
+ * Lists the events in EventWise that run on any of the days that an event in the displayed event list runs.
+ */
+public class OverlappingEventsCommand extends Command {
+
+    public static final String COMMAND_WORD = "overlappingEvents";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the other events that run on any of the days that the event identified by the index number "
+            + "used in the displayed event list runs, and displays them as a list with index numbers.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_EVENT_ID + "1";
+
+    public static final String MESSAGE_SUCCESS = "%1$d events overlap %2$s";
+
+    private final Index targetIndex;
+
+    public OverlappingEventsCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Event> lastShownList = model.getFilteredEventsList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+        }
+
+        Event event = lastShownList.get(targetIndex.getZeroBased());
+        Set<Name> names = model.getEventsOverlapping(event).stream()
+                .map(Event::getName)
+                .collect(Collectors.toSet());
+        model.updateFilteredEventList(otherEvent -> names.contains(otherEvent.getName()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, names.size(), event.getName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OverlappingEventsCommand)) {
+            return false;
+        }
+
+        OverlappingEventsCommand otherOverlappingEventsCommand = (OverlappingEventsCommand) other;
+        return targetIndex.equals(otherOverlappingEventsCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.UndoHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Makes the changes of the last command undone again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the last change!";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no command to redo!";
+
+    private final UndoHistory undoHistory;
+
+    /**
+     * Creates a RedoCommand that redoes the changes recorded in {@code undoHistory}.
+     */
+    public RedoCommand(UndoHistory undoHistory) {
+        requireNonNull(undoHistory);
+        this.undoHistory = undoHistory;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!undoHistory.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        undoHistory.redo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RedoCommand)) {
+            return false;
+        }
+
+        RedoCommand otherRedoCommand = (RedoCommand) other;
+        return undoHistory == otherRedoCommand.undoHistory;
+    }
+}
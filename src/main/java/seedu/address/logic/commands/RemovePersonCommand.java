@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -61,9 +60,12 @@ public class RemovePersonCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_INDEX);
         }
 
-        List<Person> eventAttendees = new ArrayList<>(eventToEdit.getPersons());
-        Person removedPerson = eventAttendees.remove(personIndex.getZeroBased());
-        eventToEdit.setPersons(eventAttendees);
+        Person removedPerson = eventToEdit.getPersons().get(personIndex.getZeroBased());
+        Event editedEvent = new Event(eventToEdit.getName(), eventToEdit.getDescription(),
+                eventToEdit.getFromDate(), eventToEdit.getToDate(), eventToEdit.getNote(),
+                eventToEdit.getPersons().without(removedPerson),
+                eventToEdit.getVendors(), eventToEdit.getVenue());
+        model.setEvent(eventToEdit, editedEvent);
 
         // Find the Rsvp object to remove
         Rsvp existingRsvp = model.findRsvp(eventToEdit, removedPerson);
@@ -76,7 +78,7 @@ public class RemovePersonCommand extends Command {
                 MESSAGE_SUCCESS, personIndex.getOneBased(), removedPerson.getName().toString(),
                 eventIndex.getOneBased(), eventToEdit.getName());
 
-        model.setEventToView(eventToEdit);
+        model.setEventToView(editedEvent);
 
         // Check if person exists in event's person list
         return new CommandResult(successMessage);
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -60,15 +59,17 @@ public class RemoveVendorCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_VENDOR_INDEX);
         }
 
-        List<Vendor> eventVendors = new ArrayList<>(eventToEdit.getVendors());
-        Vendor removedVendor = eventVendors.remove(vendorIndex.getZeroBased());
-        eventToEdit.setVendors(eventVendors);
+        Vendor removedVendor = eventToEdit.getVendors().get(vendorIndex.getZeroBased());
+        Event editedEvent = new Event(eventToEdit.getName(), eventToEdit.getDescription(),
+                eventToEdit.getFromDate(), eventToEdit.getToDate(), eventToEdit.getNote(), eventToEdit.getPersons(),
+                eventToEdit.getVendors().without(removedVendor), eventToEdit.getVenue());
+        model.setEvent(eventToEdit, editedEvent);
 
         String successMessage = String.format(
                 MESSAGE_SUCCESS, vendorIndex.getOneBased(), removedVendor.getName().toString(),
                 eventIndex.getOneBased(), eventToEdit.getName());
 
-        model.setEventToView(eventToEdit);
+        model.setEventToView(editedEvent);
 
         // Check if person exists in event's person list
         return new CommandResult(successMessage);
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.venue.Venue;
+
+/**
+ * Finds the venues, guests and vendors that a command changing an event would book for two events at once.
+ *
+ * The other events of a venue, guest or vendor are looked up through the indexes of the model, so only the events
+ * booked with them are compared with the event being changed.
+ */
+class ScheduleConflicts {
+
+    /**
+     * Throws a {@code CommandException} if the venue of {@code editedEvent} is booked for another event on any of the
+     * days that {@code editedEvent} runs, where {@code editedEvent} replaces {@code eventToEdit}.
+     */
+    static void checkVenueIsFree(Model model, Event eventToEdit, Event editedEvent) throws CommandException {
+        Venue venue = editedEvent.getVenue();
+        if (venue == null) {
+            return;
+        }
+
+        List<String> clashingEventNames = model.getEventsAtVenueBetween(venue,
+                        editedEvent.getFromDate().getDate(), editedEvent.getToDate().getDate()).stream()
+                .filter(event -> !event.isSameEvent(eventToEdit))
+                .map(event -> event.getName().toString())
+                .collect(Collectors.toList());
+        if (!clashingEventNames.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_VENUE_BOOKED, venue.getName(),
+                    String.join(", ", clashingEventNames)));
+        }
+    }
+
+    /**
+     * Returns a warning for each of {@code persons} and {@code vendors} that is at another event on any of the days
+     * that {@code event} runs.
+     */
+    static List<String> findDoubleBookings(Model model, Event event, List<Person> persons, List<Vendor> vendors) {
+        List<String> warnings = new ArrayList<>();
+        for (Person person : persons) {
+            String eventNames = getOtherEventNames(event, model.getEventsWithGuest(person));
+            if (!eventNames.isEmpty()) {
+                warnings.add(String.format(Messages.MESSAGE_GUEST_DOUBLE_BOOKED, person.getName(), eventNames));
+            }
+        }
+        for (Vendor vendor : vendors) {
+            String eventNames = getOtherEventNames(event, model.getEventsWithVendor(vendor));
+            if (!eventNames.isEmpty()) {
+                warnings.add(String.format(Messages.MESSAGE_VENDOR_DOUBLE_BOOKED, vendor.getName(), eventNames));
+            }
+        }
+        return warnings;
+    }
+
+    /**
+     * Returns the names of the events in {@code events} other than {@code event} that run on any of its days.
+     */
+    private static String getOtherEventNames(Event event, List<Event> events) {
+        return events.stream()
+                .filter(otherEvent -> !otherEvent.isSameEvent(event) && otherEvent.isOverlapping(event))
+                .map(otherEvent -> otherEvent.getName().toString())
+                .collect(Collectors.joining(", "));
+    }
+}
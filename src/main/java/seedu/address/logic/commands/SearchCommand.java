@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.displayable.DisplayableListViewItem;
+
+/**
+ * Finds and lists the persons, events, venues and vendors in EventWise whose names have words that start with, or
+ * are a few typos away from, any of the argument keywords, best match first.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    /** The most results listed, so that a short keyword matching many names still lists the best matches quickly. */
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons, events, venues and vendors "
+            + "whose names have words that start with, or are up to two typos away from, any of the specified "
+            + "keywords (case-insensitive) and displays the best " + MAX_RESULTS + " matches, best match first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alic competiton";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchCommand to find the names that match any of {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<DisplayableListViewItem> results = model.search(keywords, MAX_RESULTS);
+        model.setDisplayedItems(results);
+        return new CommandResult(String.format(Messages.MESSAGE_SEARCH_RESULTS_LISTED_OVERVIEW, results.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherCommand = (SearchCommand) other;
+        return keywords.equals(otherCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
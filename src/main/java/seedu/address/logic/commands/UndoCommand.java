@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.UndoHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reverts the changes made by the last command that changed the data.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change!";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no command to undo!";
+
+    private final UndoHistory undoHistory;
+
+    /**
+     * Creates a UndoCommand that undos the changes recorded in {@code undoHistory}.
+     */
+    public UndoCommand(UndoHistory undoHistory) {
+        requireNonNull(undoHistory);
+        this.undoHistory = undoHistory;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!undoHistory.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        undoHistory.undo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoCommand)) {
+            return false;
+        }
+
+        UndoCommand otherUndoCommand = (UndoCommand) other;
+        return undoHistory == otherUndoCommand.undoHistory;
+    }
+}
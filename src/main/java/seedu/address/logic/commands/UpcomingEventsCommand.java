@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Name;
+
+/**
+ * Lists the next events in EventWise that start today or later.
+ */
+public class UpcomingEventsCommand extends Command {
+
+    public static final String COMMAND_WORD = "upcomingEvents";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the given number of events that start soonest, "
+            + "from today onwards, and displays them as a list with index numbers.\n"
+            + "Parameters: [COUNT] (must be a positive integer, " + DEFAULT_COUNT + " if left out)\n"
+            + "Example: " + COMMAND_WORD + " 10";
+
+    private final int count;
+
+    /**
+     * Creates an UpcomingEventsCommand to list the next {@code count} events.
+     */
+    public UpcomingEventsCommand(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Name> names = model.getEventsFrom(LocalDate.now(), count).stream()
+                .map(Event::getName)
+                .collect(Collectors.toSet());
+        model.updateFilteredEventList(event -> names.contains(event.getName()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventsList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UpcomingEventsCommand)) {
+            return false;
+        }
+
+        UpcomingEventsCommand otherUpcomingEventsCommand = (UpcomingEventsCommand) other;
+        return count == otherUpcomingEventsCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .toString();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -8,8 +9,11 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.UndoHistory;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddEventDetailsCommand;
+import seedu.address.logic.commands.AuditBookingsCommand;
+import seedu.address.logic.commands.AuditVenuesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearEventsCommand;
 import seedu.address.logic.commands.ClearGuestsCommand;
@@ -27,14 +31,22 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditEventCommand;
 import seedu.address.logic.commands.EditVendorCommand;
 import seedu.address.logic.commands.EditVenueCommand;
+import seedu.address.logic.commands.EventsBetweenCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FilterEventsCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindEventCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OverlappingEventsCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemovePersonCommand;
 import seedu.address.logic.commands.RemoveVendorCommand;
 import seedu.address.logic.commands.RsvpCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UpcomingEventsCommand;
 import seedu.address.logic.commands.ViewEventCommand;
 import seedu.address.logic.commands.ViewEventsCommand;
 import seedu.address.logic.commands.ViewVendorsCommand;
@@ -52,6 +64,23 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final UndoHistory undoHistory;
+
+    /**
+     * Creates a parser whose {@code undo} and {@code redo} commands use {@code undoHistory}.
+     */
+    public AddressBookParser(UndoHistory undoHistory) {
+        requireNonNull(undoHistory);
+        this.undoHistory = undoHistory;
+    }
+
+    /**
+     * Creates a parser whose {@code undo} and {@code redo} commands have nothing to undo or redo.
+     */
+    public AddressBookParser() {
+        this(new UndoHistory(0, 0));
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -135,6 +164,30 @@ public class AddressBookParser {
         case FindEventCommand.COMMAND_WORD:
             return new FindEventCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
+        case FilterEventsCommand.COMMAND_WORD:
+            return new FilterEventsCommandParser().parse(arguments);
+
+        case EventsBetweenCommand.COMMAND_WORD:
+            return new EventsBetweenCommandParser().parse(arguments);
+
+        case UpcomingEventsCommand.COMMAND_WORD:
+            return new UpcomingEventsCommandParser().parse(arguments);
+
+        case OverlappingEventsCommand.COMMAND_WORD:
+            return new OverlappingEventsCommandParser().parse(arguments);
+
+        case AuditVenuesCommand.COMMAND_WORD:
+            return new AuditVenuesCommand();
+
+        case AuditBookingsCommand.COMMAND_WORD:
+            return new AuditBookingsCommand();
+
         case ViewVenuesCommand.COMMAND_WORD:
             return new ViewVenuesCommand();
 
@@ -165,6 +218,12 @@ public class AddressBookParser {
         case ClearVendorsCommand.COMMAND_WORD:
             return new ClearVendorsCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand(undoHistory);
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand(undoHistory);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
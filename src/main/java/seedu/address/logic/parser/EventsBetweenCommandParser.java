@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_INTERVAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TO;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.EventsBetweenCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.ToDate;
+
+/**
+ * Parses input arguments and creates a new EventsBetweenCommand object
+ */
+public class EventsBetweenCommandParser implements Parser<EventsBetweenCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EventsBetweenCommand
+     * and returns an EventsBetweenCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public EventsBetweenCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_FROM, PREFIX_EVENT_TO);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_EVENT_FROM, PREFIX_EVENT_TO)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EventsBetweenCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENT_FROM, PREFIX_EVENT_TO);
+        FromDate fromDate = ParserUtil.parseFromDate(argMultimap.getValue(PREFIX_EVENT_FROM).get());
+        ToDate toDate = ParserUtil.parseToDate(argMultimap.getValue(PREFIX_EVENT_TO).get());
+        if (!toDate.isAfter(fromDate)) {
+            throw new ParseException(MESSAGE_INVALID_INTERVAL);
+        }
+
+        return new EventsBetweenCommand(fromDate, toDate);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
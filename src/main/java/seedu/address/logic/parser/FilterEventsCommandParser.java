@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FilterEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.EventQueryCompiler;
+
+/**
+ * Parses input arguments and creates a new FilterEventsCommand object
+ */
+public class FilterEventsCommandParser implements Parser<FilterEventsCommand> {
+
+    private final QueryParser queryParser = new QueryParser(new EventQueryCompiler().getFields());
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterEventsCommand
+     * and returns a FilterEventsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FilterEventsCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterEventsCommand.MESSAGE_USAGE));
+        }
+
+        return new FilterEventsCommand(queryParser.parse(args));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
+
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.OverlappingEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and create a new {@code OverlappingEventsCommand} object
+ */
+public class OverlappingEventsCommandParser implements Parser<OverlappingEventsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code OverlappingEventsCommand}
+     * and returns a {@code OverlappingEventsCommand} object for execution.
+     *
+     * @param args arguments for {@code OverlappingEventsCommand}
+     * @return {@code OverlappingEventsCommand}
+     * @throws ParseException if the user input does not conform with the expected format
+     */
+    @Override
+    public OverlappingEventsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_ID);
+
+        if (!argumentMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    OverlappingEventsCommand.MESSAGE_USAGE));
+        }
+
+        argumentMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENT_ID);
+
+        if (!arePrefixesPresent(argumentMultimap, PREFIX_EVENT_ID)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    OverlappingEventsCommand.MESSAGE_USAGE));
+        }
+
+        Index index = ParserUtil.parseIndex(argumentMultimap.getValue(PREFIX_EVENT_ID).get());
+
+        return new OverlappingEventsCommand(index);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.FieldType;
+import seedu.address.model.query.Operator;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses a query that filters a list by the values of its fields into the syntax tree of the query.
+ *
+ * A query is made of conditions of the form {@code FIELD:VALUE}, where {@code :} may instead be {@code =}, {@code <},
+ * {@code <=}, {@code >} or {@code >=}, and a value with spaces is written in double quotes. Conditions next to each
+ * other must all hold, and they may be combined with {@code and}, {@code or} and {@code not}, and grouped with
+ * parentheses. {@code not} binds tightest and {@code or} loosest, e.g. {@code rsvp:CC not email:*@acme.com or
+ * name:alice} is {@code (rsvp:CC and (not email:*@acme.com)) or name:alice}.
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_EMPTY_QUERY = "The query should have at least one condition, e.g. name:alice";
+    public static final String MESSAGE_EXPECTED_CONDITION = "Expected a condition of the form FIELD:VALUE at \"%1$s\"";
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown field \"%1$s\". The fields are: %2$s";
+    public static final String MESSAGE_UNSUPPORTED_OPERATOR = "The field \"%1$s\" cannot be compared with \"%2$s\"";
+    public static final String MESSAGE_INVALID_VALUE = "Invalid value \"%1$s\" for the field \"%2$s\". %3$s";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "The value of \"%1$s\" is missing its closing quote";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "The parentheses of the query are not balanced";
+
+    private static final Pattern CONDITION_START = Pattern.compile("(\\p{Alpha}+)(<=|>=|:|=|<|>)");
+    private static final String KEYWORD_AND = "and";
+    private static final String KEYWORD_OR = "or";
+    private static final String KEYWORD_NOT = "not";
+    private static final char QUOTE = '"';
+
+    private final Map<String, FieldType> fields;
+
+    /**
+     * Creates a parser for queries on {@code fields}, which map the name of each field to its type.
+     */
+    public QueryParser(Map<String, FieldType> fields) {
+        requireNonNull(fields);
+        this.fields = fields;
+    }
+
+    /**
+     * Parses {@code queryText} into the syntax tree of the query.
+     *
+     * @throws ParseException if {@code queryText} is not a valid query on the fields of this parser.
+     */
+    public Query parse(String queryText) throws ParseException {
+        requireNonNull(queryText);
+        Cursor cursor = new Cursor(queryText);
+        if (cursor.isAtEnd()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+
+        Query query = parseOr(cursor);
+        if (!cursor.isAtEnd()) {
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        return query;
+    }
+
+    private Query parseOr(Cursor cursor) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd(cursor));
+        while (cursor.consumeKeyword(KEYWORD_OR)) {
+            operands.add(parseAnd(cursor));
+        }
+        return operands.size() == 1 ? operands.get(0) : new Query.Or(operands);
+    }
+
+    private Query parseAnd(Cursor cursor) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseUnary(cursor));
+        while (!cursor.isAtEnd() && !cursor.isAt(')') && !cursor.isAtKeyword(KEYWORD_OR)) {
+            cursor.consumeKeyword(KEYWORD_AND);
+            operands.add(parseUnary(cursor));
+        }
+        return operands.size() == 1 ? operands.get(0) : new Query.And(operands);
+    }
+
+    private Query parseUnary(Cursor cursor) throws ParseException {
+        if (cursor.consumeKeyword(KEYWORD_NOT)) {
+            return new Query.Not(parseUnary(cursor));
+        }
+        if (cursor.consume('(')) {
+            Query query = parseOr(cursor);
+            if (!cursor.consume(')')) {
+                throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            return query;
+        }
+        return parseCondition(cursor);
+    }
+
+    private Query parseCondition(Cursor cursor) throws ParseException {
+        Matcher matcher = cursor.match(CONDITION_START);
+        if (matcher == null) {
+            throw new ParseException(String.format(MESSAGE_EXPECTED_CONDITION, cursor.peekWord()));
+        }
+
+        String field = matcher.group(1).toLowerCase(Locale.ROOT);
+        Operator operator = Arrays.stream(Operator.values())
+                .filter(candidate -> candidate.getSymbol().equals(matcher.group(2)))
+                .findFirst()
+                .orElseThrow();
+        String value = cursor.consumeValue(field);
+
+        FieldType type = fields.get(field);
+        if (type == null) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, field, String.join(", ", fields.keySet())));
+        }
+        if (!type.supports(operator)) {
+            throw new ParseException(String.format(MESSAGE_UNSUPPORTED_OPERATOR, field, operator.getSymbol()));
+        }
+        if (!type.isValidValue(value)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value, field, type.getMessageConstraints()));
+        }
+        return new Query.Condition(field, operator, value);
+    }
+
+    /**
+     * The text of a query being parsed, with the position reached so far. Whitespace between tokens is skipped.
+     */
+    private static class Cursor {
+        private final String text;
+        private int position;
+
+        Cursor(String text) {
+            this.text = text;
+            skipWhitespace();
+        }
+
+        boolean isAtEnd() {
+            return position == text.length();
+        }
+
+        boolean isAt(char c) {
+            return !isAtEnd() && text.charAt(position) == c;
+        }
+
+        boolean consume(char c) {
+            if (!isAt(c)) {
+                return false;
+            }
+            position++;
+            skipWhitespace();
+            return true;
+        }
+
+        /**
+         * Returns true if the next word is {@code keyword}, ignoring case, and not the start of a condition.
+         */
+        boolean isAtKeyword(String keyword) {
+            int end = position + keyword.length();
+            return text.regionMatches(true, position, keyword, 0, keyword.length())
+                    && (end == text.length() || Character.isWhitespace(text.charAt(end)) || text.charAt(end) == '(');
+        }
+
+        boolean consumeKeyword(String keyword) {
+            if (!isAtKeyword(keyword)) {
+                return false;
+            }
+            position += keyword.length();
+            skipWhitespace();
+            return true;
+        }
+
+        /**
+         * Consumes the text matching {@code pattern} at the current position, and returns the match, or null if the
+         * text there does not match.
+         */
+        Matcher match(Pattern pattern) {
+            Matcher matcher = pattern.matcher(text).region(position, text.length());
+            if (!matcher.lookingAt()) {
+                return null;
+            }
+            position = matcher.end();
+            return matcher;
+        }
+
+        /**
+         * Consumes the value of a condition on {@code field}: the text up to the closing quote if the value is quoted,
+         * or up to the next whitespace or closing parenthesis otherwise.
+         */
+        String consumeValue(String field) throws ParseException {
+            int start = position;
+            int end;
+            if (isAt(QUOTE)) {
+                start++;
+                end = text.indexOf(QUOTE, start);
+                if (end == -1) {
+                    throw new ParseException(String.format(MESSAGE_UNCLOSED_QUOTE, field));
+                }
+                position = end + 1;
+            } else {
+                end = start;
+                while (end < text.length() && !Character.isWhitespace(text.charAt(end)) && text.charAt(end) != ')') {
+                    end++;
+                }
+                position = end;
+            }
+            skipWhitespace();
+            return text.substring(start, end);
+        }
+
+        String peekWord() {
+            int end = position;
+            while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+                end++;
+            }
+            return text.substring(position, end);
+        }
+
+        private void skipWhitespace() {
+            while (!isAtEnd() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.UpcomingEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UpcomingEventsCommand object
+ */
+public class UpcomingEventsCommandParser implements Parser<UpcomingEventsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingEventsCommand
+     * and returns an UpcomingEventsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public UpcomingEventsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new UpcomingEventsCommand(UpcomingEventsCommand.DEFAULT_COUNT);
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingEventsCommand.MESSAGE_USAGE));
+        }
+        return new UpcomingEventsCommand(Integer.parseInt(trimmedArgs));
+    }
+}
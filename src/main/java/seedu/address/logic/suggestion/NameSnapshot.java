@@ -0,0 +1,58 @@
+package seedu.address.logic.suggestion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.model.util.NameMatch;
+import seedu.address.model.util.WordIndex;
+
+/**
+ * The names of a list at one point in time, in the order of the list, which can be searched from any thread.
+ *
+ * The names are copied when the snapshot is taken, which only copies references. The words of the names are indexed
+ * the first time the snapshot is searched, so that the indexing is done by the thread searching it, and the index is
+ * never changed after it is built.
+ */
+class NameSnapshot {
+
+    private final List<String> names;
+    private WordIndex<Integer> positionsByWord;
+
+    /**
+     * Creates a snapshot of {@code names}, which is copied so that later changes to it are not seen.
+     */
+    NameSnapshot(List<String> names) {
+        requireNonNull(names);
+        this.names = List.copyOf(names);
+    }
+
+    /**
+     * Returns the best {@code limit} names matching {@code terms}, best first, with their zero-based positions.
+     *
+     * @see WordIndex#search(Collection, int)
+     */
+    List<NameMatch<Integer>> search(Collection<String> terms, int limit) {
+        return getPositionsByWord().search(terms, limit);
+    }
+
+    String getName(int position) {
+        return names.get(position);
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    private synchronized WordIndex<Integer> getPositionsByWord() {
+        if (positionsByWord == null) {
+            WordIndex<Integer> index = new WordIndex<>();
+            for (int i = 0; i < names.size(); i++) {
+                index.add(i, names.get(i));
+            }
+            positionsByWord = index;
+        }
+        return positionsByWord;
+    }
+}
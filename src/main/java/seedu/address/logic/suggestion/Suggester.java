@@ -0,0 +1,135 @@
+package seedu.address.logic.suggestion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindEventCommand;
+import seedu.address.model.Model;
+import seedu.address.model.util.WordIndex;
+
+/**
+ * Finds the names to suggest while a command is being typed.
+ *
+ * Names are suggested for the argument being typed if it takes an index, such as the index of {@code delete} or the
+ * value of {@code eid/}, or if it is the keywords of {@code find} or {@code findEvent}. The names come from the list
+ * the index refers to, as it is currently shown, so that each name is suggested with the index the command expects.
+ *
+ * The names of each list are copied the first time a suggestion is asked for after the list changed, so that the
+ * suggestions can be looked up on another thread while the list changes. The methods of a {@code Suggester} must be
+ * called on the thread that changes the lists of the model.
+ */
+public class Suggester {
+
+    private static final Pattern COMMAND_WORD_FORMAT = Pattern.compile("^\\s*(\\S+)\\s+");
+    private static final Pattern PREFIX_FORMAT = Pattern.compile("\\s(\\p{Alpha}+/)");
+    private static final Pattern INDICES_FORMAT = Pattern.compile("[\\d\\s]*");
+
+    private static final Set<String> COMMAND_WORDS_COMPLETED_WITH_NAME =
+            Set.of(FindCommand.COMMAND_WORD, FindEventCommand.COMMAND_WORD);
+
+    private final Map<String, NameSource<?>> sourcesByCommandWord = new HashMap<>();
+    private final Map<String, NameSource<?>> sourcesByPrefix = new HashMap<>();
+
+    /**
+     * Creates a {@code Suggester} for the names in the filtered lists of {@code model}.
+     */
+    public Suggester(Model model) {
+        requireNonNull(model);
+        NameSource<?> persons = new NameSource<>(model.getFilteredPersonList(), person -> person.getName().toString());
+        NameSource<?> events = new NameSource<>(model.getFilteredEventsList(), event -> event.getName().toString());
+        NameSource<?> vendors = new NameSource<>(model.getFilteredVendorList(), vendor -> vendor.getName().toString());
+        NameSource<?> venues = new NameSource<>(model.getFilteredVenuesList(), venue -> venue.getName().toString());
+
+        sourcesByCommandWord.put(FindCommand.COMMAND_WORD, persons);
+        sourcesByCommandWord.put(DeleteCommand.COMMAND_WORD, persons);
+        sourcesByCommandWord.put(EditCommand.COMMAND_WORD, persons);
+        sourcesByCommandWord.put(FindEventCommand.COMMAND_WORD, events);
+
+        sourcesByPrefix.put(PREFIX_PERSON.getPrefix(), persons);
+        sourcesByPrefix.put(PREFIX_EVENT_ID.getPrefix(), events);
+        sourcesByPrefix.put(PREFIX_VENDOR.getPrefix(), vendors);
+        sourcesByPrefix.put(PREFIX_VENUE.getPrefix(), venues);
+    }
+
+    /**
+     * Returns the query for the names to suggest for {@code commandText}, which is the text typed so far.
+     * The query only reads a snapshot of the names, so it can be run on any thread.
+     */
+    public SuggestionQuery prepare(String commandText) {
+        requireNonNull(commandText);
+        Matcher commandWordMatcher = COMMAND_WORD_FORMAT.matcher(commandText);
+        if (!commandWordMatcher.find()) {
+            return SuggestionQuery.NONE;
+        }
+
+        String commandWord = commandWordMatcher.group(1);
+        int argumentStart = commandWordMatcher.end();
+        NameSource<?> source = sourcesByCommandWord.get(commandWord);
+        Matcher prefixMatcher = PREFIX_FORMAT.matcher(commandText);
+        prefixMatcher.region(commandWordMatcher.end(1), commandText.length());
+        while (prefixMatcher.find()) {
+            // Only the argument of the last prefix typed is being typed
+            source = sourcesByPrefix.get(prefixMatcher.group(1));
+            argumentStart = prefixMatcher.end();
+        }
+
+        List<String> terms = toTerms(commandText.substring(argumentStart));
+        if (source == null || terms.isEmpty()) {
+            return SuggestionQuery.NONE;
+        }
+        boolean isCompletedWithName = argumentStart == commandWordMatcher.end()
+                && COMMAND_WORDS_COMPLETED_WITH_NAME.contains(commandWord);
+        return new SuggestionQuery(source.getSnapshot(), terms, commandText.substring(0, argumentStart),
+                isCompletedWithName);
+    }
+
+    /**
+     * Returns the words of {@code argument}, or an empty list if it is already one or more indices.
+     */
+    private static List<String> toTerms(String argument) {
+        if (INDICES_FORMAT.matcher(argument).matches()) {
+            return Collections.emptyList();
+        }
+        return WordIndex.toWords(argument);
+    }
+
+    /**
+     * A list whose names are suggested, with the snapshot of its names since it last changed.
+     */
+    private static class NameSource<T> {
+        private final ObservableList<T> list;
+        private final Function<? super T, String> nameOf;
+        private NameSnapshot snapshot;
+
+        NameSource(ObservableList<T> list, Function<? super T, String> nameOf) {
+            this.list = list;
+            this.nameOf = nameOf;
+            list.addListener((ListChangeListener<T>) change -> snapshot = null);
+        }
+
+        NameSnapshot getSnapshot() {
+            if (snapshot == null) {
+                snapshot = new NameSnapshot(list.stream().map(nameOf).collect(Collectors.toList()));
+            }
+            return snapshot;
+        }
+    }
+}
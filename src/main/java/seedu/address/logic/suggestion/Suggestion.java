@@ -0,0 +1,74 @@
+package seedu.address.logic.suggestion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A name suggested while a command is being typed, with its index in the list it is shown in, and the command text
+ * that the command being typed becomes if the suggestion is picked.
+ */
+public class Suggestion {
+
+    private final Index index;
+    private final String name;
+    private final String commandText;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Suggestion(Index index, String name, String commandText) {
+        requireNonNull(index);
+        requireNonNull(name);
+        requireNonNull(commandText);
+        this.index = index;
+        this.name = name;
+        this.commandText = commandText;
+    }
+
+    public Index getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Suggestion)) {
+            return false;
+        }
+
+        Suggestion otherSuggestion = (Suggestion) other;
+        return index.equals(otherSuggestion.index)
+                && name.equals(otherSuggestion.name)
+                && commandText.equals(otherSuggestion.commandText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, name, commandText);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("name", name)
+                .add("commandText", commandText)
+                .toString();
+    }
+}
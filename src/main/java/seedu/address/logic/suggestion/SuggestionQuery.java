@@ -0,0 +1,73 @@
+package seedu.address.logic.suggestion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The names to suggest for the command being typed, which are only looked up when the query is run.
+ * A query only holds a snapshot of the names it searches, so it can be run on any thread while the lists change.
+ */
+public class SuggestionQuery {
+
+    /** A query that suggests nothing, for commands that do not refer to a name. */
+    public static final SuggestionQuery NONE = new SuggestionQuery(new NameSnapshot(List.of()), List.of(), "", false);
+
+    private final NameSnapshot snapshot;
+    private final List<String> terms;
+    private final String textBeforeArgument;
+    private final boolean isCompletedWithName;
+
+    /**
+     * Creates a query for the names in {@code snapshot} matching {@code terms}, which were typed as the argument after
+     * {@code textBeforeArgument}. Picking a suggestion replaces the argument with the name if
+     * {@code isCompletedWithName}, or with the index of the name otherwise.
+     */
+    SuggestionQuery(NameSnapshot snapshot, List<String> terms, String textBeforeArgument,
+            boolean isCompletedWithName) {
+        requireNonNull(snapshot);
+        requireNonNull(terms);
+        requireNonNull(textBeforeArgument);
+        this.snapshot = snapshot;
+        this.terms = List.copyOf(terms);
+        this.textBeforeArgument = textBeforeArgument;
+        this.isCompletedWithName = isCompletedWithName;
+    }
+
+    /**
+     * Returns at most {@code limit} suggestions, best first.
+     */
+    public List<Suggestion> run(int limit) {
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return snapshot.search(terms, limit).stream()
+                .map(match -> toSuggestion(match.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    private Suggestion toSuggestion(int position) {
+        Index index = Index.fromZeroBased(position);
+        String name = snapshot.getName(position);
+        String argument = isCompletedWithName ? name : String.valueOf(index.getOneBased());
+        return new Suggestion(index, name, textBeforeArgument + argument);
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("textBeforeArgument", textBeforeArgument)
+                .add("terms", terms)
+                .toString();
+    }
+}
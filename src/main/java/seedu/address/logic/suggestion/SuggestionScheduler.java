@@ -0,0 +1,123 @@
+package seedu.address.logic.suggestion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs the queries for suggestions on a background thread, so that typing never waits for them.
+ *
+ * A query only starts once no newer query has been requested for a short delay, so a query is not run for every key
+ * typed. Requesting a query cancels the query before it, and the results of a query are only handed over if no newer
+ * query was requested by then, so the results shown are always those of the last query. A query that fails is logged
+ * and hands over no suggestions. The results are handed over on the thread given, as a whole list, so that they
+ * replace the results before them in one step.
+ *
+ * The methods of a {@code SuggestionScheduler} must all be called on the thread the results are handed over on.
+ */
+public class SuggestionScheduler {
+
+    /** The number of milliseconds to wait for more typing before running a query. */
+    public static final long DEFAULT_DEBOUNCE_DELAY_MILLIS = 150;
+    /** The most suggestions handed over for a query. */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(SuggestionScheduler.class);
+
+    private final ScheduledExecutorService queryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Executor resultExecutor;
+    private final long debounceDelayMillis;
+    private final AtomicLong latestRequest = new AtomicLong();
+    private Future<?> pendingQuery;
+
+    /**
+     * Creates a {@code SuggestionScheduler} that waits {@code debounceDelayMillis} before running a query, and hands
+     * the results over by running them on {@code resultExecutor}.
+     */
+    public SuggestionScheduler(long debounceDelayMillis, Executor resultExecutor) {
+        requireNonNull(resultExecutor);
+        this.debounceDelayMillis = debounceDelayMillis;
+        this.resultExecutor = resultExecutor;
+    }
+
+    /**
+     * Runs {@code query} after the delay, unless another query is requested first, and hands its suggestions to
+     * {@code onSuggestions}. The query requested before, if any, is cancelled.
+     */
+    public void request(SuggestionQuery query, Consumer<List<Suggestion>> onSuggestions) {
+        requireNonNull(query);
+        requireNonNull(onSuggestions);
+        long request = startNewRequest();
+        if (query == SuggestionQuery.NONE) {
+            onSuggestions.accept(List.of());
+            return;
+        }
+
+        pendingQuery = queryExecutor.schedule(() -> {
+            if (request != latestRequest.get()) {
+                return;
+            }
+            List<Suggestion> suggestions = runQuery(query);
+            resultExecutor.execute(() -> {
+                // A query requested while this one ran makes its results stale
+                if (request == latestRequest.get()) {
+                    onSuggestions.accept(suggestions);
+                }
+            });
+        }, debounceDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the query requested last, if it has not handed over its results yet.
+     */
+    public void cancel() {
+        startNewRequest();
+    }
+
+    /**
+     * Cancels the query requested last, and stops the background thread.
+     */
+    public void shutdown() {
+        cancel();
+        queryExecutor.shutdownNow();
+        logger.fine("Stopped looking up suggestions");
+    }
+
+    /**
+     * Returns the suggestions found by {@code query}, or none if the query fails, so that a failed query does not stop
+     * its results from being handed over.
+     */
+    private static List<Suggestion> runQuery(SuggestionQuery query) {
+        try {
+            return query.run(MAX_SUGGESTIONS);
+        } catch (RuntimeException e) {
+            logger.warning("Could not look up suggestions for " + query + ": " + e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Cancels the query requested last, and returns the number of the request replacing it.
+     */
+    private long startNewRequest() {
+        if (pendingQuery != null) {
+            pendingQuery.cancel(false);
+            pendingQuery = null;
+        }
+        return latestRequest.incrementAndGet();
+    }
+}
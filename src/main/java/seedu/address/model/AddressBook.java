@@ -2,19 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.displayable.DisplayableListViewItem;
 import seedu.address.model.displayable.UniqueDisplayableItemList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.MemberList;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.rsvp.Rsvp;
 import seedu.address.model.rsvp.UniqueRsvpList;
+import seedu.address.model.util.NameMatch;
+import seedu.address.model.util.ReadOnlyWordIndex;
 import seedu.address.model.vendor.UniqueVendorList;
 import seedu.address.model.vendor.Vendor;
 import seedu.address.model.venue.UniqueVenueList;
@@ -262,6 +271,110 @@ public class AddressBook implements ReadOnlyAddressBook {
         events.remove(key);
     }
 
+    /**
+     * Applies {@code changes} to the persons, events and RSVPs of this {@code AddressBook}, changing each list at most
+     * once.
+     */
+    public void applyChanges(AddressBookChanges changes) {
+        requireNonNull(changes);
+        changes.applyTo(this);
+    }
+
+    /**
+     * Returns the events that {@code person} is a guest of.
+     */
+    public List<Event> getEventsWithGuest(Person person) {
+        return events.getEventsWithGuest(person);
+    }
+
+    /**
+     * Returns the events that {@code vendor} is a vendor of.
+     */
+    public List<Event> getEventsWithVendor(Vendor vendor) {
+        return events.getEventsWithVendor(vendor);
+    }
+
+    /**
+     * Returns the events held at {@code venue}.
+     */
+    public List<Event> getEventsAtVenue(Venue venue) {
+        return events.getEventsAtVenue(venue);
+    }
+
+    /**
+     * Returns the events that run on any day from {@code from} to {@code to} inclusive, sorted by start date.
+     */
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        return events.getEventsBetween(from, to);
+    }
+
+    /**
+     * Returns the first {@code limit} events that start on or after {@code date}, sorted by start date.
+     */
+    public List<Event> getEventsFrom(LocalDate date, int limit) {
+        return events.getEventsFrom(date, limit);
+    }
+
+    /**
+     * Returns the other events that run on any of the days that {@code event} runs, sorted by start date.
+     */
+    public List<Event> getEventsOverlapping(Event event) {
+        return events.getEventsOverlapping(event);
+    }
+
+    /**
+     * Returns the events held at a venue with the same identity as {@code venue} that run on any day from
+     * {@code from} to {@code to} inclusive, sorted by start date.
+     */
+    public List<Event> getEventsAtVenueBetween(Venue venue, LocalDate from, LocalDate to) {
+        return events.getEventsAtVenueBetween(venue, from, to);
+    }
+
+    /**
+     * Returns the names of the persons indexed by the words of the names.
+     */
+    public ReadOnlyWordIndex<seedu.address.model.person.Name> getPersonNameIndex() {
+        return persons.getNameIndex();
+    }
+
+    /**
+     * Returns the names of the events indexed by the words of the names.
+     */
+    public ReadOnlyWordIndex<seedu.address.model.event.Name> getEventNameIndex() {
+        return events.getNameIndex();
+    }
+
+    /**
+     * Returns the persons, events, venues and vendors with a word in their name that matches any of {@code terms}, at
+     * most {@code limit} of them, best match first. Equally good matches are listed persons first, then events, venues
+     * and vendors.
+     *
+     * @see ReadOnlyWordIndex#search(Collection, int)
+     */
+    public List<DisplayableListViewItem> search(Collection<String> terms, int limit) {
+        requireNonNull(terms);
+        List<NameMatch<? extends DisplayableListViewItem>> matches = new ArrayList<>();
+        addMatches(matches, persons.getNameIndex().search(terms, limit), persons::getPerson);
+        addMatches(matches, events.getNameIndex().search(terms, limit), events::getEvent);
+        addMatches(matches, venues.getNameIndex().search(terms, limit), venues::getVenue);
+        addMatches(matches, vendors.getNameIndex().search(terms, limit), vendors::getVendor);
+
+        // The sort is stable, so equally good matches stay in the order above
+        Collections.sort(matches);
+        return matches.stream()
+                .limit(limit)
+                .map(NameMatch::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static <K, T extends DisplayableListViewItem> void addMatches(
+            List<NameMatch<? extends DisplayableListViewItem>> matches, List<NameMatch<K>> nameMatches,
+            Function<K, Optional<T>> lookup) {
+        for (NameMatch<K> nameMatch : nameMatches) {
+            matches.add(nameMatch.map(name -> lookup.apply(name).orElseThrow()));
+        }
+    }
+
     //// venue-level operations
 
     /**
@@ -323,6 +436,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         rsvps.remove(key);
     }
 
+    /**
+     * Returns the RSVP of {@code person} for {@code event}, if there is one.
+     */
+    public Optional<Rsvp> findRsvp(Event event, Person person) {
+        return rsvps.getRsvp(event, person);
+    }
+
+    /**
+     * Returns the RSVPs for {@code event}.
+     */
+    public List<Rsvp> getRsvps(Event event) {
+        return rsvps.getRsvps(event);
+    }
+
+    /**
+     * Returns the RSVPs of {@code person}.
+     */
+    public List<Rsvp> getRsvps(Person person) {
+        return rsvps.getRsvps(person);
+    }
+
     //// vendor-level operations
 
     /**
@@ -407,6 +541,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         return vendors.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return persons.getModificationCount() + events.getModificationCount() + venues.getModificationCount()
+                + vendors.getModificationCount() + rsvps.getModificationCount();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -426,27 +566,36 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Remove all guests' information from all events
      */
     public void clearGuestsFromEvents() {
+        List<Event> updatedEvents = new ArrayList<>();
         for (Event event: events) {
-            event.clearGuests();
+            updatedEvents.add(new Event(event.getName(), event.getDescription(), event.getFromDate(),
+                    event.getToDate(), event.getNote(), MemberList.empty(), event.getVendors(), event.getVenue()));
         }
+        setEvents(updatedEvents);
     }
 
     /**
      * Remove all venues' information from all events
      */
     public void clearVenuesFromEvents() {
+        List<Event> updatedEvents = new ArrayList<>();
         for (Event event: events) {
-            event.clearVenue();
+            updatedEvents.add(new Event(event.getName(), event.getDescription(), event.getFromDate(),
+                    event.getToDate(), event.getNote(), event.getPersons(), event.getVendors(), null));
         }
+        setEvents(updatedEvents);
     }
 
     /**
      * Remove all vendors' information from all events
      */
     public void clearVendorsFromEvents() {
+        List<Event> updatedEvents = new ArrayList<>();
         for (Event event: events) {
-            event.clearVendors();
+            updatedEvents.add(new Event(event.getName(), event.getDescription(), event.getFromDate(),
+                    event.getToDate(), event.getNote(), event.getPersons(), MemberList.empty(), event.getVenue()));
         }
+        setEvents(updatedEvents);
     }
 
     @Override
@@ -0,0 +1,165 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.rsvp.Rsvp;
+import seedu.address.model.rsvp.exceptions.RsvpNotFoundException;
+
+/**
+ * Collects changes to the persons, events and RSVPs of an address book, so that they can be applied together with
+ * {@link Model#commitChanges(AddressBookChanges)}.
+ *
+ * Each list is changed in a single pass, so a command that changes many events or RSVPs notifies the listeners of
+ * each list once, rather than once per change. Nothing is changed until the changes are committed.
+ */
+public class AddressBookChanges {
+
+    private final Changes<Person> persons = new Changes<>(Person::getName, PersonNotFoundException::new);
+    private final Changes<Event> events = new Changes<>(Event::getName, EventNotFoundException::new);
+    private final Changes<Rsvp> rsvps = new Changes<>(rsvp -> List.of(rsvp.getEventName(),
+            rsvp.getPersonName()), RsvpNotFoundException::new);
+
+    /**
+     * Replaces the person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the address book when the changes are committed.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        persons.replace(target, editedPerson);
+    }
+
+    /**
+     * Replaces the event {@code target} with {@code editedEvent}.
+     * {@code target} must exist in the address book when the changes are committed.
+     */
+    public void setEvent(Event target, Event editedEvent) {
+        requireAllNonNull(target, editedEvent);
+        events.replace(target, editedEvent);
+    }
+
+    /**
+     * Replaces the RSVP {@code target} with {@code editedRsvp}.
+     * {@code target} must exist in the address book when the changes are committed.
+     */
+    public void setRsvp(Rsvp target, Rsvp editedRsvp) {
+        requireAllNonNull(target, editedRsvp);
+        rsvps.replace(target, editedRsvp);
+    }
+
+    /**
+     * Removes the RSVP {@code target}.
+     * {@code target} must exist in the address book when the changes are committed.
+     */
+    public void removeRsvp(Rsvp target) {
+        requireNonNull(target);
+        rsvps.remove(target);
+    }
+
+    public boolean isEmpty() {
+        return persons.isEmpty() && events.isEmpty() && rsvps.isEmpty();
+    }
+
+    /**
+     * Applies the changes to {@code addressBook}.
+     * Every element to be replaced or removed is looked up before any list is changed.
+     *
+     * @throws PersonNotFoundException if a person to be replaced is not in the address book.
+     * @throws EventNotFoundException if an event to be replaced is not in the address book.
+     * @throws RsvpNotFoundException if an RSVP to be replaced or removed is not in the address book.
+     */
+    void applyTo(AddressBook addressBook) {
+        List<Person> editedPersons = persons.applyTo(addressBook.getPersonList());
+        List<Event> editedEvents = events.applyTo(addressBook.getEventList());
+        List<Rsvp> editedRsvps = rsvps.applyTo(addressBook.getRsvpList());
+
+        if (!persons.isEmpty()) {
+            addressBook.setPersons(editedPersons);
+        }
+        if (!events.isEmpty()) {
+            addressBook.setEvents(editedEvents);
+        }
+        if (!rsvps.isEmpty()) {
+            addressBook.setRsvps(editedRsvps);
+        }
+    }
+
+    /**
+     * The replacements and removals of the elements of one list, keyed by the identity of the element replaced or
+     * removed. Replacing an element that replaced another element earlier updates the earlier replacement.
+     */
+    private static class Changes<T> {
+        private final Function<T, Object> identity;
+        private final Supplier<RuntimeException> notFoundExceptionSupplier;
+        private final Map<Object, T> targets = new HashMap<>();
+        private final Map<Object, T> editedElements = new HashMap<>();
+
+        Changes(Function<T, Object> identity, Supplier<RuntimeException> notFoundExceptionSupplier) {
+            this.identity = identity;
+            this.notFoundExceptionSupplier = notFoundExceptionSupplier;
+        }
+
+        void replace(T target, T editedElement) {
+            Object key = identity.apply(target);
+            if (!target.equals(editedElements.get(key))) {
+                targets.put(key, target);
+            }
+            editedElements.put(key, editedElement);
+        }
+
+        void remove(T target) {
+            Object key = identity.apply(target);
+            if (!target.equals(editedElements.get(key))) {
+                targets.put(key, target);
+            }
+            editedElements.remove(key);
+        }
+
+        boolean isEmpty() {
+            return targets.isEmpty();
+        }
+
+        /**
+         * Returns a copy of {@code elements} with the changes applied, or {@code elements} if there are no changes.
+         */
+        List<T> applyTo(List<T> elements) {
+            if (isEmpty()) {
+                return elements;
+            }
+
+            List<T> editedList = new ArrayList<>(elements.size());
+            int changedCount = 0;
+            for (T element : elements) {
+                Object key = identity.apply(element);
+                if (!targets.containsKey(key)) {
+                    editedList.add(element);
+                    continue;
+                }
+
+                if (!element.equals(targets.get(key))) {
+                    throw notFoundExceptionSupplier.get();
+                }
+                changedCount++;
+                if (editedElements.containsKey(key)) {
+                    editedList.add(editedElements.get(key));
+                }
+            }
+
+            if (changedCount != targets.size()) {
+                throw notFoundExceptionSupplier.get();
+            }
+            return editedList;
+        }
+    }
+}
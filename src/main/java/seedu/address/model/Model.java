@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -14,6 +16,7 @@ import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.rsvp.Rsvp;
 import seedu.address.model.rsvp.RsvpStatus;
+import seedu.address.model.util.ReadOnlyWordIndex;
 import seedu.address.model.vendor.Vendor;
 import seedu.address.model.venue.Venue;
 
@@ -99,6 +102,12 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces the contents of the person list with {@code persons}.
+     * {@code persons} must not contain duplicate persons.
+     */
+    void setPersons(List<Person> persons);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -134,11 +143,78 @@ public interface Model {
      */
     void setEvent(Event target, Event editedEvent);
 
+    /**
+     * Replaces the contents of the event list with {@code events}.
+     * {@code events} must not contain duplicate events.
+     */
+    void setEvents(List<Event> events);
+
     /**
      * Edits the given event {@code eventToEdit} details with {@code personsToAdd} and {@code venuesToAdd}.
      */
     Event createEditedEvent(Event eventToEdit, List<Person> personsToAdd, List<Vendor> vendorsToAdd, Venue venueToAdd);
 
+    /**
+     * Applies all of {@code changes} to the address book at once.
+     * Each list in the address book is changed in a single pass, however many of its elements are changed.
+     */
+    void commitChanges(AddressBookChanges changes);
+
+    /**
+     * Returns the events in the address book that have {@code person} as a guest.
+     */
+    List<Event> getEventsWithGuest(Person person);
+
+    /**
+     * Returns the events in the address book that have {@code vendor} as a vendor.
+     */
+    List<Event> getEventsWithVendor(Vendor vendor);
+
+    /**
+     * Returns the events in the address book that are held at {@code venue}.
+     */
+    List<Event> getEventsAtVenue(Venue venue);
+
+    /**
+     * Returns the events in the address book that run on any day from {@code from} to {@code to} inclusive, sorted by
+     * start date.
+     */
+    List<Event> getEventsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the first {@code limit} events in the address book that start on or after {@code date}, sorted by start
+     * date.
+     */
+    List<Event> getEventsFrom(LocalDate date, int limit);
+
+    /**
+     * Returns the other events in the address book that run on any of the days that {@code event} runs, sorted by
+     * start date.
+     */
+    List<Event> getEventsOverlapping(Event event);
+
+    /**
+     * Returns the events in the address book held at a venue with the same identity as {@code venue} that run on any
+     * day from {@code from} to {@code to} inclusive, sorted by start date.
+     */
+    List<Event> getEventsAtVenueBetween(Venue venue, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the names of the persons in the address book indexed by the words of the names.
+     */
+    ReadOnlyWordIndex<seedu.address.model.person.Name> getPersonNameIndex();
+
+    /**
+     * Returns the names of the events in the address book indexed by the words of the names.
+     */
+    ReadOnlyWordIndex<seedu.address.model.event.Name> getEventNameIndex();
+
+    /**
+     * Returns the persons, events, venues and vendors in the address book with a word in their name that matches any
+     * of {@code terms}, at most {@code limit} of them, best match first.
+     */
+    List<DisplayableListViewItem> search(Collection<String> terms, int limit);
+
     void resetEvents();
     void resetGuests();
     void resetVenues();
@@ -194,6 +270,12 @@ public interface Model {
      */
     void setVenue(Venue target, Venue editedVenue);
 
+    /**
+     * Replaces the contents of the venue list with {@code venues}.
+     * {@code venues} must not contain duplicate venues.
+     */
+    void setVenues(List<Venue> venues);
+
     /**
      * Adds the given rsvp.
      * {@code rsvp} must not already exist in the rsvp list.
@@ -211,6 +293,11 @@ public interface Model {
      */
     void setRsvps(List<Rsvp> rsvps);
 
+    /**
+     * Returns the RSVPs for {@code event}.
+     */
+    List<Rsvp> getRsvps(Event event);
+
     /**
      * Finds a Rsvp given an {@code event} and {@code person}.
      */
@@ -271,6 +358,12 @@ public interface Model {
      */
     void setVendor(Vendor target, Vendor editedVendor);
 
+    /**
+     * Replaces the contents of the vendor list with {@code vendors}.
+     * {@code vendors} must not contain duplicate vendors.
+     */
+    void setVendors(List<Vendor> vendors);
+
     /** Returns an unmodifiable view of the filtered vendors list */
     ObservableList<Vendor> getFilteredVendorList();
 
@@ -297,4 +390,9 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered displayable items list */
     ObservableList<DisplayableListViewItem> getFilteredDisplayableItemList();
 
+    /**
+     * Displays {@code items}, in the given order, in place of the list currently displayed.
+     */
+    void setDisplayedItems(List<? extends DisplayableListViewItem> items);
+
 }
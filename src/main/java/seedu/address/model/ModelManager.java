@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -19,9 +21,11 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.displayable.DisplayableListViewItem;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.MemberList;
 import seedu.address.model.person.Person;
 import seedu.address.model.rsvp.Rsvp;
 import seedu.address.model.rsvp.RsvpStatus;
+import seedu.address.model.util.ReadOnlyWordIndex;
 import seedu.address.model.vendor.Vendor;
 import seedu.address.model.venue.Venue;
 
@@ -120,33 +124,35 @@ public class ModelManager implements Model {
     public void resetGuests() {
         this.addressBook.resetGuests();
         this.addressBook.clearGuestsFromEvents();
-        if (getEventToView() != null) {
-            Event updatedEvent = getEventToView();
-            updatedEvent.clearGuests();
-            setEventToView(updatedEvent);
-        }
+        refreshEventToView();
     }
 
     @Override
     public void resetVenues() {
         this.addressBook.resetVenues();
         this.addressBook.clearVenuesFromEvents();
-        if (getEventToView() != null) {
-            Event updatedEvent = getEventToView();
-            updatedEvent.clearVenue();
-            setEventToView(updatedEvent);
-        }
+        refreshEventToView();
     }
 
     @Override
     public void resetVendors() {
         this.addressBook.resetVendors();
         this.addressBook.clearVendorsFromEvents();
-        if (getEventToView() != null) {
-            Event updatedEvent = getEventToView();
-            updatedEvent.clearVendors();
-            setEventToView(updatedEvent);
+        refreshEventToView();
+    }
+
+    /**
+     * Replaces the event to view with the event of the same identity now in the event list, or with no event if it
+     * has been removed.
+     */
+    private void refreshEventToView() {
+        if (eventToView == null) {
+            return;
         }
+        setEventToView(addressBook.getEventList().stream()
+                .filter(eventToView::isSameEvent)
+                .findFirst()
+                .orElse(null));
     }
 
     @Override
@@ -203,6 +209,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.setPersons(persons);
+        refreshEventToView();
+    }
+
     //=========== EventWise ================================================================================
 
     // Events
@@ -242,6 +255,13 @@ public class ModelManager implements Model {
         addressBook.setEvent(target, editedEvent);
     }
 
+    @Override
+    public void setEvents(List<Event> events) {
+        requireNonNull(events);
+        addressBook.setEvents(events);
+        refreshEventToView();
+    }
+
     public void setEventToView(Event event) {
         if (event == null) {
             addressBook.setEventAttendees(new ArrayList<>());
@@ -250,33 +270,23 @@ public class ModelManager implements Model {
         } else {
             addressBook.setEventAttendees(event.getPersons());
             addressBook.setEventVendors(event.getVendors());
-            addressBook.setEventRsvps(getRsvps(event));
+            addressBook.setEventRsvps(addressBook.getRsvps(event));
         }
         this.eventToView = event;
     }
 
-    private List<Rsvp> getRsvps(Event event) {
-        List<Rsvp> rsvps = new ArrayList<>();
-        for (Rsvp rsvp : filteredRsvps) {
-            if (rsvp.getEvent().isSameEvent(event)) {
-                rsvps.add(rsvp);
-            }
-        }
-        return rsvps;
-    }
-
     @Override
     public Event createEditedEvent(Event eventToEdit, List<Person> personsToAdd,
                                    List<Vendor> vendorsToAdd, Venue venueToAdd) {
 
-        List<Person> currentAttendees = new ArrayList<>(eventToEdit.getPersons());
-        List<Vendor> currentVendors = new ArrayList<>(eventToEdit.getVendors());
+        MemberList<Person> currentAttendees = eventToEdit.getPersons();
+        MemberList<Vendor> currentVendors = eventToEdit.getVendors();
 
         for (Person person: personsToAdd) {
-            currentAttendees.add(person);
+            currentAttendees = currentAttendees.with(person);
         }
         for (Vendor vendor: vendorsToAdd) {
-            currentVendors.add(vendor);
+            currentVendors = currentVendors.with(vendor);
         }
 
         Venue venueToStore = (venueToAdd == null) ? eventToEdit.getVenue() : venueToAdd;
@@ -286,6 +296,70 @@ public class ModelManager implements Model {
                 eventToEdit.getNote(), currentAttendees, currentVendors, venueToStore);
     }
 
+    @Override
+    public void commitChanges(AddressBookChanges changes) {
+        requireNonNull(changes);
+        addressBook.applyChanges(changes);
+    }
+
+    @Override
+    public List<Event> getEventsWithGuest(Person person) {
+        requireNonNull(person);
+        return addressBook.getEventsWithGuest(person);
+    }
+
+    @Override
+    public List<Event> getEventsWithVendor(Vendor vendor) {
+        requireNonNull(vendor);
+        return addressBook.getEventsWithVendor(vendor);
+    }
+
+    @Override
+    public List<Event> getEventsAtVenue(Venue venue) {
+        requireNonNull(venue);
+        return addressBook.getEventsAtVenue(venue);
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return addressBook.getEventsBetween(from, to);
+    }
+
+    @Override
+    public List<Event> getEventsFrom(LocalDate date, int limit) {
+        requireNonNull(date);
+        return addressBook.getEventsFrom(date, limit);
+    }
+
+    @Override
+    public List<Event> getEventsOverlapping(Event event) {
+        requireNonNull(event);
+        return addressBook.getEventsOverlapping(event);
+    }
+
+    @Override
+    public List<Event> getEventsAtVenueBetween(Venue venue, LocalDate from, LocalDate to) {
+        requireAllNonNull(venue, from, to);
+        return addressBook.getEventsAtVenueBetween(venue, from, to);
+    }
+
+    @Override
+    public ReadOnlyWordIndex<seedu.address.model.person.Name> getPersonNameIndex() {
+        return addressBook.getPersonNameIndex();
+    }
+
+    @Override
+    public ReadOnlyWordIndex<seedu.address.model.event.Name> getEventNameIndex() {
+        return addressBook.getEventNameIndex();
+    }
+
+    @Override
+    public List<DisplayableListViewItem> search(Collection<String> terms, int limit) {
+        requireNonNull(terms);
+        return addressBook.search(terms, limit);
+    }
+
     // Venues
     @Override
     public boolean hasVenue(Venue venue) {
@@ -310,6 +384,12 @@ public class ModelManager implements Model {
         addressBook.setVenue(target, editedVenue);
     }
 
+    @Override
+    public void setVenues(List<Venue> venues) {
+        requireNonNull(venues);
+        addressBook.setVenues(venues);
+    }
+
     // Vendors
 
     @Override
@@ -335,6 +415,13 @@ public class ModelManager implements Model {
         addressBook.setVendor(target, editedVendor);
     }
 
+    @Override
+    public void setVendors(List<Vendor> vendors) {
+        requireNonNull(vendors);
+        addressBook.setVendors(vendors);
+        refreshEventToView();
+    }
+
     @Override
     public Vendor getVendor(Index index) throws CommandException {
         if (index.getZeroBased() >= addressBook.getVendorList().size()) {
@@ -366,19 +453,21 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public Rsvp findRsvp(Event event, Person person) {
-        for (Rsvp rsvp : filteredRsvps) {
-            if (rsvp.getEvent().isSameEvent(event) && rsvp.getPerson().isSamePerson(person)) {
-                return rsvp;
-            }
-        }
+    public List<Rsvp> getRsvps(Event event) {
+        requireNonNull(event);
+        return addressBook.getRsvps(event);
+    }
 
-        return null;
+    @Override
+    public Rsvp findRsvp(Event event, Person person) {
+        requireAllNonNull(event, person);
+        return addressBook.findRsvp(event, person).orElse(null);
     }
 
     @Override
     public void setRsvps(List<Rsvp> rsvps) {
         addressBook.setRsvps(rsvps);
+        refreshEventToView();
     }
 
     /**
@@ -546,6 +635,12 @@ public class ModelManager implements Model {
         return filteredDisplayableItems;
     }
 
+    @Override
+    public void setDisplayedItems(List<? extends DisplayableListViewItem> items) {
+        requireNonNull(items);
+        addressBook.setDisplayableItems(items);
+    }
+
     @Override
     public ObservableList<Rsvp> getFilteredEventRsvpList() {
         return filteredEventRsvps;
@@ -61,4 +61,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Vendor> getVendorList();
 
+    /**
+     * Returns the number of changes made so far to the persons, events, venues, vendors and rsvps lists.
+     * The count is only meaningful when compared with an earlier count from the same address book.
+     */
+    long getModificationCount();
+
 }
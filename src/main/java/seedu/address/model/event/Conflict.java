@@ -0,0 +1,74 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Two events that run on some of the same days and share something that cannot be in two places at once, such as a
+ * venue, a guest or a vendor.
+ *
+ * @param <K> the type of the identity of what the events share.
+ */
+public class Conflict<K> {
+
+    private final K key;
+    private final Event firstEvent;
+    private final Event secondEvent;
+
+    /**
+     * Every field must be present and not null.
+     * {@code firstEvent} should not start after {@code secondEvent}.
+     */
+    public Conflict(K key, Event firstEvent, Event secondEvent) {
+        requireAllNonNull(key, firstEvent, secondEvent);
+        this.key = key;
+        this.firstEvent = firstEvent;
+        this.secondEvent = secondEvent;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    public Event getFirstEvent() {
+        return firstEvent;
+    }
+
+    public Event getSecondEvent() {
+        return secondEvent;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Conflict)) {
+            return false;
+        }
+
+        Conflict<?> otherConflict = (Conflict<?>) other;
+        return key.equals(otherConflict.key)
+                && firstEvent.equals(otherConflict.firstEvent)
+                && secondEvent.equals(otherConflict.secondEvent);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, firstEvent, secondEvent);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", key)
+                .add("firstEvent", firstEvent.getName())
+                .add("secondEvent", secondEvent.getName())
+                .toString();
+    }
+}
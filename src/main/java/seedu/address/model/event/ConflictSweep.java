@@ -0,0 +1,63 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Finds the pairs of events that run on some of the same days and share a key, such as a venue, a guest or a vendor.
+ *
+ * The events are swept through in order of their start dates. For each key, the events with that key that have not
+ * ended yet are kept in a queue ordered by end date. When an event starts, the events in the queues of its keys that
+ * ended before it started are dropped, and it conflicts with every event left in those queues. Each event is only
+ * compared with the events it actually overlaps, so finding {@code c} conflicts among {@code n} pairs of an event and
+ * a key takes O((n + c) log n) time, instead of comparing every pair of events.
+ */
+public class ConflictSweep {
+
+    private static final Comparator<Event> BY_START_DATE = Comparator
+            .comparing((Event event) -> event.getFromDate().getDate())
+            .thenComparing(event -> event.getName().eventName);
+    private static final Comparator<Event> BY_END_DATE = Comparator
+            .comparing((Event event) -> event.getToDate().getDate())
+            .thenComparing(event -> event.getName().eventName);
+
+    /**
+     * Returns the conflicts between {@code events} that share a key, where {@code keysOf} gives the keys of an event.
+     * The conflicts are sorted by the start date of their second event, and the first event of each conflict does not
+     * start after the second.
+     */
+    public static <K> List<Conflict<K>> findConflicts(Collection<Event> events,
+            Function<Event, ? extends Collection<K>> keysOf) {
+        requireAllNonNull(events, keysOf);
+        List<Event> eventsByStartDate = new ArrayList<>(events);
+        eventsByStartDate.sort(BY_START_DATE);
+
+        Map<K, PriorityQueue<Event>> ongoingEventsByKey = new HashMap<>();
+        List<Conflict<K>> conflicts = new ArrayList<>();
+        for (Event event : eventsByStartDate) {
+            for (K key : keysOf.apply(event)) {
+                PriorityQueue<Event> ongoingEvents = ongoingEventsByKey.computeIfAbsent(key,
+                        k -> new PriorityQueue<>(BY_END_DATE));
+                while (!ongoingEvents.isEmpty()
+                        && ongoingEvents.peek().getToDate().getDate().isBefore(event.getFromDate().getDate())) {
+                    ongoingEvents.poll();
+                }
+                List<Event> overlappingEvents = new ArrayList<>(ongoingEvents);
+                overlappingEvents.sort(BY_START_DATE);
+                for (Event overlappingEvent : overlappingEvents) {
+                    conflicts.add(new Conflict<>(key, overlappingEvent, event));
+                }
+                ongoingEvents.add(event);
+            }
+        }
+        return conflicts;
+    }
+}
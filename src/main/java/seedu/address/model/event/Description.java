@@ -2,6 +2,7 @@ package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWords;
 
 /**
  * Represents a Event's description in EventWise.
@@ -35,7 +36,7 @@ public class Description {
      * Returns true if a given string is a valid description.
      */
     public static boolean isValidDesc(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
 
@@ -2,7 +2,6 @@ package seedu.address.model.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -24,9 +23,9 @@ public class Event implements DisplayableListViewItem {
     private final FromDate fromDate;
     private final ToDate toDate;
     private final Note note;
-    private List<Person> persons;
-    private List<Vendor> vendors;
-    private Venue venue;
+    private final MemberList<Person> persons;
+    private final MemberList<Vendor> vendors;
+    private final Venue venue;
 
 
     /**
@@ -43,8 +42,9 @@ public class Event implements DisplayableListViewItem {
         this.fromDate = fromDate;
         this.toDate = toDate;
         this.note = note;
-        this.persons = new ArrayList<>();
-        this.vendors = new ArrayList<>();
+        this.persons = MemberList.empty();
+        this.vendors = MemberList.empty();
+        this.venue = null;
     }
 
     /**
@@ -59,9 +59,9 @@ public class Event implements DisplayableListViewItem {
         this.fromDate = fromDate;
         this.toDate = toDate;
         this.note = note;
-        this.persons = persons;
+        this.persons = MemberList.of(persons);
         this.venue = venue;
-        this.vendors = vendors;
+        this.vendors = MemberList.of(vendors);
     }
 
     public Name getName() {
@@ -84,37 +84,18 @@ public class Event implements DisplayableListViewItem {
         return note;
     }
 
-    public List<Person> getPersons() {
+    public MemberList<Person> getPersons() {
         return persons;
     }
 
-    public List<Vendor> getVendors() {
+    public MemberList<Vendor> getVendors() {
         return vendors;
     }
 
-    public void setPersons(List<Person> persons) {
-        this.persons = persons;
-    }
-
-    public void setVendors(List<Vendor> vendors) {
-        this.vendors = vendors;
-    }
-
     public Venue getVenue() {
         return venue;
     }
 
-    public void clearVenue() {
-        this.venue = null;
-    }
-    public void clearVendors() {
-        this.vendors = new ArrayList<>();
-    }
-
-    public void clearGuests() {
-        this.persons = new ArrayList<>();
-    }
-
 
     /**
      * Returns true if both events have the same event name.
@@ -128,6 +109,14 @@ public class Event implements DisplayableListViewItem {
                 && otherEvent.name.equals(name);
     }
 
+    /**
+     * Returns true if both events run on at least one of the same days.
+     */
+    public boolean isOverlapping(Event otherEvent) {
+        return !fromDate.getDate().isAfter(otherEvent.toDate.getDate())
+                && !otherEvent.fromDate.getDate().isAfter(toDate.getDate());
+    }
+
     /**
      * Returns true if both events have the same identity and data fields.
      * This defines a stronger notion of equality between two events.
@@ -183,7 +172,7 @@ public class Event implements DisplayableListViewItem {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, description, fromDate, toDate, note, persons, venue);
+        return Objects.hash(name, description, fromDate, toDate);
     }
 
     @Override
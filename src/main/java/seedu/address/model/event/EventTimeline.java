@@ -0,0 +1,215 @@
+package seedu.address.model.event;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Indexes events by the dates they run from and to, so that the events in a date range, or the first events from a
+ * date, can be found without going through every event.
+ *
+ * The events are kept in a treap sorted by start date and then by name, in which each node also holds the latest end
+ * date in its subtree. A search only goes into the subtrees that can still hold an event in the range: those with
+ * events starting no later than the end of the range, and ending no earlier than its start. Adding or removing an
+ * event takes O(log n) time. Finding the first k events from a date takes O(log n + k) time, and finding the k events
+ * in a range takes O(log n) time plus at most the path down to each event found.
+ *
+ * The priorities of the treap are derived from the names of the events, so the same events always give the same tree.
+ */
+class EventTimeline {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code event} to the timeline.
+     * No event with the same name may already be in the timeline.
+     */
+    void add(Event event) {
+        root = insert(root, new Node(event));
+        size++;
+    }
+
+    /**
+     * Removes {@code event} from the timeline, if it is in the timeline.
+     */
+    void remove(Event event) {
+        root = remove(root, new Node(event));
+    }
+
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the events that run on any day from {@code from} to {@code to} inclusive, sorted by start date and then
+     * by name.
+     */
+    List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        List<Event> events = new ArrayList<>();
+        collectEventsBetween(root, from.toEpochDay(), to.toEpochDay(), events);
+        return events;
+    }
+
+    /**
+     * Returns the first {@code limit} events that start on or after {@code date}, sorted by start date and then by
+     * name.
+     */
+    List<Event> getEventsFrom(LocalDate date, int limit) {
+        List<Event> events = new ArrayList<>();
+        collectEventsFrom(root, date.toEpochDay(), limit, events);
+        return events;
+    }
+
+    private static void collectEventsBetween(Node node, long from, long to, List<Event> events) {
+        if (node == null || node.latestEnd < from) {
+            return;
+        }
+        collectEventsBetween(node.left, from, to, events);
+        if (node.start > to) {
+            // The events on the right start even later
+            return;
+        }
+        if (node.end >= from) {
+            events.add(node.event);
+        }
+        collectEventsBetween(node.right, from, to, events);
+    }
+
+    private static void collectEventsFrom(Node node, long from, int limit, List<Event> events) {
+        if (node == null || events.size() >= limit) {
+            return;
+        }
+        if (node.start >= from) {
+            collectEventsFrom(node.left, from, limit, events);
+            if (events.size() < limit) {
+                events.add(node.event);
+            }
+        }
+        collectEventsFrom(node.right, from, limit, events);
+    }
+
+    private static Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (toInsert.priority > node.priority) {
+            Node[] parts = split(node, toInsert);
+            toInsert.left = parts[0];
+            toInsert.right = parts[1];
+            toInsert.update();
+            return toInsert;
+        }
+
+        if (toInsert.compareTo(node) < 0) {
+            node.left = insert(node.left, toInsert);
+        } else {
+            node.right = insert(node.right, toInsert);
+        }
+        node.update();
+        return node;
+    }
+
+    private Node remove(Node node, Node toRemove) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = toRemove.compareTo(node);
+        if (comparison == 0) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, toRemove);
+        } else {
+            node.right = remove(node.right, toRemove);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Splits the subtree under {@code node} into the subtree of the nodes before {@code key} and the subtree of the
+     * nodes after it.
+     */
+    private static Node[] split(Node node, Node key) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        if (node.compareTo(key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+            return parts;
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        node.update();
+        parts[1] = node;
+        return parts;
+    }
+
+    /**
+     * Joins the subtrees {@code left} and {@code right}, where every node of {@code left} is before every node of
+     * {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.update();
+            return right;
+        }
+    }
+
+    private static class Node implements Comparable<Node> {
+        private final Event event;
+        private final String name;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long latestEnd;
+        private Node left;
+        private Node right;
+
+        Node(Event event) {
+            this.event = event;
+            this.name = event.getName().eventName;
+            this.start = event.getFromDate().getDate().toEpochDay();
+            this.end = event.getToDate().getDate().toEpochDay();
+            this.priority = Long.hashCode(name.hashCode() * 0x9E3779B97F4A7C15L);
+            this.latestEnd = end;
+        }
+
+        void update() {
+            latestEnd = end;
+            if (left != null) {
+                latestEnd = Math.max(latestEnd, left.latestEnd);
+            }
+            if (right != null) {
+                latestEnd = Math.max(latestEnd, right.latestEnd);
+            }
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int comparison = Long.compare(start, other.start);
+            return comparison != 0 ? comparison : name.compareTo(other.name);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of the guests or vendors of an event, in the order they were added to the event.
+ * The members are also indexed by value, so {@code contains} and {@code indexOf} do not go through the whole list.
+ *
+ * Editing a {@code MemberList} returns a new list and leaves this one unchanged. The new list shares most of its
+ * structure with this one, so an edit takes O(log n) time and memory instead of copying the list.
+ *
+ * The index is only built the first time it is needed, so a {@code MemberList} whose elements are read lazily does not
+ * read them any earlier.
+ *
+ * @param <T> the type of the members.
+ */
+public abstract class MemberList<T> extends AbstractList<T> implements RandomAccess {
+
+    private Map<T, Integer> positions;
+
+    /**
+     * Returns an empty {@code MemberList}.
+     */
+    public static <T> MemberList<T> empty() {
+        return PersistentMemberList.emptyList();
+    }
+
+    /**
+     * Returns {@code members} as a {@code MemberList}.
+     * {@code members} is copied unless it is a {@code MemberList} already, so later changes to it are not seen.
+     */
+    public static <T> MemberList<T> of(List<T> members) {
+        requireNonNull(members);
+        if (members instanceof MemberList) {
+            return (MemberList<T>) members;
+        }
+        return PersistentMemberList.copyOf(members);
+    }
+
+    /**
+     * Returns a list of the members of this list followed by {@code member}.
+     */
+    public MemberList<T> with(T member) {
+        return PersistentMemberList.copyOf(this).with(member);
+    }
+
+    /**
+     * Returns a list of the members of this list without the first member equal to {@code member}.
+     */
+    public MemberList<T> without(T member) {
+        return contains(member) ? PersistentMemberList.copyOf(this).without(member) : this;
+    }
+
+    /**
+     * Returns a list of the members of this list with the first member equal to {@code target} replaced by
+     * {@code replacement}.
+     */
+    public MemberList<T> replace(T target, T replacement) {
+        return contains(target) ? PersistentMemberList.copyOf(this).replace(target, replacement) : this;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return getPositions().containsKey(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return getPositions().getOrDefault(o, -1);
+    }
+
+    private Map<T, Integer> getPositions() {
+        if (positions == null) {
+            Map<T, Integer> indexedPositions = new HashMap<>();
+            for (int i = 0; i < size(); i++) {
+                indexedPositions.putIfAbsent(get(i), i);
+            }
+            positions = indexedPositions;
+        }
+        return positions;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.event;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericOrSpaces;
 
 /**
  * Represents a Event's note in EventWise.
@@ -33,7 +34,7 @@ public class Note {
      * Returns true if a given string is a valid note.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericOrSpaces(test);
     }
 
 
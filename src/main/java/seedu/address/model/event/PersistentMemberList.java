@@ -0,0 +1,130 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * A {@code MemberList} that is never changed, so that editing it returns a new list sharing most of its structure with
+ * this one instead of a copy.
+ *
+ * Each member is given a sequence number when it is added. The members are kept in one treap ordered by sequence
+ * number, for their order in the list, and in another ordered by hash code and then sequence number, to look them up
+ * by value. Getting, finding, adding, removing and replacing a member all take O(log n) time and memory.
+ */
+final class PersistentMemberList<T> extends MemberList<T> {
+
+    private static final long MAX_SEQUENCE_NUMBER = 0xFFFFFFFFL;
+    private static final PersistentMemberList<?> EMPTY =
+            new PersistentMemberList<>(PersistentTreap.empty(), PersistentTreap.empty(), 0);
+
+    private final PersistentTreap<T> membersBySequenceNumber;
+    private final PersistentTreap<T> membersByHashCode;
+    private final long nextSequenceNumber;
+
+    private PersistentMemberList(PersistentTreap<T> membersBySequenceNumber, PersistentTreap<T> membersByHashCode,
+            long nextSequenceNumber) {
+        this.membersBySequenceNumber = membersBySequenceNumber;
+        this.membersByHashCode = membersByHashCode;
+        this.nextSequenceNumber = nextSequenceNumber;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentMemberList<T> emptyList() {
+        return (PersistentMemberList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentMemberList} of the elements of {@code members}, in the same order.
+     */
+    static <T> PersistentMemberList<T> copyOf(List<T> members) {
+        PersistentMemberList<T> copy = emptyList();
+        for (T member : members) {
+            copy = copy.with(member);
+        }
+        return copy;
+    }
+
+    @Override
+    public T get(int index) {
+        return membersBySequenceNumber.getAt(index);
+    }
+
+    @Override
+    public int size() {
+        return membersBySequenceNumber.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return membersBySequenceNumber.iterator();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return findKey(o).isPresent();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        OptionalLong key = findKey(o);
+        return key.isPresent() ? membersBySequenceNumber.rank(sequenceNumberOf(key.getAsLong())) : -1;
+    }
+
+    @Override
+    public PersistentMemberList<T> with(T member) {
+        requireNonNull(member);
+        if (nextSequenceNumber > MAX_SEQUENCE_NUMBER) {
+            return copyOf(this).with(member);
+        }
+
+        return new PersistentMemberList<>(membersBySequenceNumber.with(nextSequenceNumber, member),
+                membersByHashCode.with(keyOf(member, nextSequenceNumber), member), nextSequenceNumber + 1);
+    }
+
+    @Override
+    public PersistentMemberList<T> without(T member) {
+        OptionalLong key = findKey(member);
+        if (key.isEmpty()) {
+            return this;
+        }
+
+        return new PersistentMemberList<>(membersBySequenceNumber.without(sequenceNumberOf(key.getAsLong())),
+                membersByHashCode.without(key.getAsLong()), nextSequenceNumber);
+    }
+
+    @Override
+    public PersistentMemberList<T> replace(T target, T replacement) {
+        requireNonNull(replacement);
+        OptionalLong key = findKey(target);
+        if (key.isEmpty()) {
+            return this;
+        }
+
+        long sequenceNumber = sequenceNumberOf(key.getAsLong());
+        return new PersistentMemberList<>(membersBySequenceNumber.with(sequenceNumber, replacement),
+                membersByHashCode.without(key.getAsLong()).with(keyOf(replacement, sequenceNumber), replacement),
+                nextSequenceNumber);
+    }
+
+    /**
+     * Returns the key in {@code membersByHashCode} of the first member equal to {@code o}.
+     */
+    private OptionalLong findKey(Object o) {
+        if (o == null) {
+            return OptionalLong.empty();
+        }
+        long firstKey = keyOf(o, 0);
+        return membersByHashCode.findKey(firstKey, firstKey | MAX_SEQUENCE_NUMBER, o::equals);
+    }
+
+    private static long keyOf(Object member, long sequenceNumber) {
+        return ((long) member.hashCode() << Integer.SIZE) | sequenceNumber;
+    }
+
+    private static long sequenceNumberOf(long key) {
+        return key & MAX_SEQUENCE_NUMBER;
+    }
+}
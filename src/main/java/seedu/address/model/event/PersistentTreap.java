@@ -0,0 +1,266 @@
+package seedu.address.model.event;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.Predicate;
+
+/**
+ * An immutable map from {@code long} keys to values, sorted by key.
+ * Adding or removing an entry returns a new map that shares all but O(log n) of its nodes with this one, so keeping
+ * every version of a map costs little more memory than keeping the latest.
+ *
+ * The map is a treap whose priorities are derived from the keys, so the same entries always give the same tree.
+ *
+ * @param <V> the type of the values.
+ */
+final class PersistentTreap<V> {
+
+    private static final PersistentTreap<?> EMPTY = new PersistentTreap<>(null);
+
+    private final Node<V> root;
+
+    private PersistentTreap(Node<V> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> PersistentTreap<V> empty() {
+        return (PersistentTreap<V>) EMPTY;
+    }
+
+    int size() {
+        return Node.size(root);
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    V get(long key) {
+        Node<V> node = root;
+        while (node != null) {
+            if (key == node.key) {
+                return node.value;
+            }
+            node = key < node.key ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value with {@code index} smaller keys.
+     */
+    V getAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        Node<V> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index == leftSize) {
+                return node.value;
+            } else if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys smaller than {@code key}.
+     */
+    int rank(long key) {
+        int rank = 0;
+        Node<V> node = root;
+        while (node != null) {
+            if (key <= node.key) {
+                node = node.left;
+            } else {
+                rank += Node.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the smallest key from {@code from} to {@code to} inclusive whose value matches {@code predicate}.
+     */
+    OptionalLong findKey(long from, long to, Predicate<V> predicate) {
+        return findKey(root, from, to, predicate);
+    }
+
+    private static <V> OptionalLong findKey(Node<V> node, long from, long to, Predicate<V> predicate) {
+        if (node == null) {
+            return OptionalLong.empty();
+        }
+
+        if (from < node.key) {
+            OptionalLong key = findKey(node.left, from, to, predicate);
+            if (key.isPresent()) {
+                return key;
+            }
+        }
+        if (from <= node.key && node.key <= to && predicate.test(node.value)) {
+            return OptionalLong.of(node.key);
+        }
+        if (node.key < to) {
+            return findKey(node.right, from, to, predicate);
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, in place of any value it was mapped to before.
+     */
+    PersistentTreap<V> with(long key, V value) {
+        return new PersistentTreap<>(insert(root, new Node<>(key, value, null, null)));
+    }
+
+    private static <V> Node<V> insert(Node<V> node, Node<V> toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+
+        if (toInsert.key == node.key) {
+            return new Node<>(node.key, toInsert.value, node.left, node.right);
+        } else if (toInsert.priority > node.priority && !containsKey(node, toInsert.key)) {
+            Node<V>[] halves = split(node, toInsert.key);
+            return new Node<>(toInsert.key, toInsert.value, halves[0], halves[1]);
+        } else if (toInsert.key < node.key) {
+            return new Node<>(node.key, node.value, insert(node.left, toInsert), node.right);
+        } else {
+            return new Node<>(node.key, node.value, node.left, insert(node.right, toInsert));
+        }
+    }
+
+    /**
+     * Returns a map without {@code key}.
+     */
+    PersistentTreap<V> without(long key) {
+        Node<V> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentTreap<>(newRoot);
+    }
+
+    private static <V> Node<V> remove(Node<V> node, long key) {
+        if (node == null) {
+            return null;
+        }
+
+        if (key == node.key) {
+            return merge(node.left, node.right);
+        } else if (key < node.key) {
+            Node<V> left = remove(node.left, key);
+            return left == node.left ? node : new Node<>(node.key, node.value, left, node.right);
+        } else {
+            Node<V> right = remove(node.right, key);
+            return right == node.right ? node : new Node<>(node.key, node.value, node.left, right);
+        }
+    }
+
+    /**
+     * Returns the values in order of their keys.
+     */
+    Iterator<V> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<V>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            private void pushLeftmostPath(Node<V> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public V next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<V> node = path.pop();
+                pushLeftmostPath(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    private static <V> boolean containsKey(Node<V> node, long key) {
+        while (node != null) {
+            if (key == node.key) {
+                return true;
+            }
+            node = key < node.key ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Splits the tree at {@code node} into a tree of the keys smaller than {@code key} and a tree of the rest.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] split(Node<V> node, long key) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+
+        if (node.key < key) {
+            Node<V>[] halves = split(node.right, key);
+            halves[0] = new Node<>(node.key, node.value, node.left, halves[0]);
+            return halves;
+        } else {
+            Node<V>[] halves = split(node.left, key);
+            halves[1] = new Node<>(node.key, node.value, halves[1], node.right);
+            return halves;
+        }
+    }
+
+    /**
+     * Merges two trees, where every key in {@code left} is smaller than every key in {@code right}.
+     */
+    private static <V> Node<V> merge(Node<V> left, Node<V> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            return new Node<>(left.key, left.value, left.left, merge(left.right, right));
+        } else {
+            return new Node<>(right.key, right.value, merge(left, right.left), right.right);
+        }
+    }
+
+    private static final class Node<V> {
+        private final long key;
+        private final V value;
+        private final int priority;
+        private final int size;
+        private final Node<V> left;
+        private final Node<V> right;
+
+        Node(long key, V value, Node<V> left, Node<V> right) {
+            this.key = key;
+            this.value = value;
+            this.priority = Long.hashCode(key * 0x9E3779B97F4A7C15L);
+            this.size = size(left) + size(right) + 1;
+            this.left = left;
+            this.right = right;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+}
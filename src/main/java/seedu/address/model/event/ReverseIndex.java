@@ -0,0 +1,68 @@
+package seedu.address.model.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps the identities of the elements referenced by events, such as the names of their guests, to the names of the
+ * events that reference them.
+ *
+ * The identities indexed for each event are remembered, so removing an event from the index does not have to read its
+ * references again.
+ *
+ * @param <K> the type of the identity of the referenced elements.
+ */
+class ReverseIndex<K> {
+
+    private final Map<K, Set<Name>> eventsByKey = new HashMap<>();
+    private final Map<Name, Set<K>> keysByEvent = new HashMap<>();
+
+    /**
+     * Records that the event named {@code eventName} references the elements identified by {@code keys}.
+     * The event must not already be in the index.
+     */
+    public void add(Name eventName, Collection<K> keys) {
+        assert !keysByEvent.containsKey(eventName);
+        Set<K> uniqueKeys = new HashSet<>(keys);
+        keysByEvent.put(eventName, uniqueKeys);
+        for (K key : uniqueKeys) {
+            eventsByKey.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(eventName);
+        }
+    }
+
+    /**
+     * Removes the references of the event named {@code eventName}, if it is in the index.
+     */
+    public void remove(Name eventName) {
+        Set<K> keys = keysByEvent.remove(eventName);
+        if (keys == null) {
+            return;
+        }
+
+        for (K key : keys) {
+            Set<Name> eventNames = eventsByKey.get(key);
+            eventNames.remove(eventName);
+            if (eventNames.isEmpty()) {
+                eventsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the events that reference the element identified by {@code key}, in the order they were
+     * added to the index.
+     */
+    public Set<Name> get(K key) {
+        return Collections.unmodifiableSet(eventsByKey.getOrDefault(key, Collections.emptySet()));
+    }
+
+    public void clear() {
+        eventsByKey.clear();
+        keysByEvent.clear();
+    }
+}
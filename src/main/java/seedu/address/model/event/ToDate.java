@@ -3,9 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Event's date in EventWise.
@@ -27,6 +28,7 @@ public class ToDate {
                     + "(?:(?:0?[1-9])|(?:1[0-2]))\\4(?:(?:1[6-9]|[2-9]\\d)?\\d{2})$";
 
     public final String eventDate;
+    private final LocalDate date;
 
     /**
      * Constructs a {@code ToDate}.
@@ -35,32 +37,31 @@ public class ToDate {
      */
     public ToDate(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
+        Optional<LocalDate> parsedDate = ValidationUtil.parseDate(date);
+        checkArgument(parsedDate.isPresent(), MESSAGE_CONSTRAINTS);
         eventDate = date;
+        this.date = parsedDate.get();
     }
 
     /**
      * Returns true if a given date input is of a valid format.
      */
     public static boolean isValidDate(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidDate(test);
     }
 
     /**
      * Returns true if given date is a valid date.
      */
     public boolean isNotPast() {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy");
-        Date currentDate = new Date();
-        String currentDateString = dateFormat.format(currentDate);
-
-        try {
-            Date inputDate = dateFormat.parse(eventDate);
-            Date currentDateParsed = dateFormat.parse(currentDateString);
-            return !inputDate.before(currentDateParsed);
-        } catch (ParseException e) {
-            return false;
-        }
+        return !date.isBefore(LocalDate.now());
+    }
+
+    /**
+     * Returns the date, with a two-digit year taken to be in the 2000s.
+     */
+    public LocalDate getDate() {
+        return date;
     }
 
     @Override
@@ -92,13 +93,6 @@ public class ToDate {
      * Returns true if given date is a after the from date.
      */
     public boolean isAfter(FromDate fromDate) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy");
-        try {
-            Date toDateObj = dateFormat.parse(eventDate);
-            Date fromDateObj = dateFormat.parse(fromDate.eventDate);
-            return toDateObj.after(fromDateObj) || toDateObj.equals(fromDateObj);
-        } catch (ParseException e) {
-            return false;
-        }
+        return !date.isBefore(fromDate.getDate());
     }
 }
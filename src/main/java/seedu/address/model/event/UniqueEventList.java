@@ -3,13 +3,27 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.ReadOnlyWordIndex;
+import seedu.address.model.util.WordIndex;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.venue.Venue;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +32,15 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * The events are also indexed by name, by the words of their name, and by the names of their guests, vendors and
+ * venue, so that the events with some words in their name, or that reference a person, vendor or venue, can be found
+ * without going through every event. The indexes of guests, vendors and venues are only built when they are first
+ * needed, so that lazily loaded guest and vendor lists are not read just to index them. The word index is updated
+ * before the list changes, so that predicates using it agree with the list when the list notifies its listeners.
+ * The events are also kept in an {@link EventTimeline}, so that the events running in a date range can be found, and
+ * the events with a venue are kept in one more timeline per venue, so that the events booked at a venue on some days
+ * can be found in O(log n) time when a venue is set or the dates of an event change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
@@ -27,13 +50,93 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Event> eventsByName = new HashMap<>();
+    private final WordIndex<Name> eventsByWord = new WordIndex<>();
+    private final ReverseIndex<seedu.address.model.person.Name> eventsByGuest = new ReverseIndex<>();
+    private final ReverseIndex<seedu.address.model.vendor.Name> eventsByVendor = new ReverseIndex<>();
+    private final ReverseIndex<seedu.address.model.venue.Name> eventsByVenue = new ReverseIndex<>();
+    private final EventTimeline timeline = new EventTimeline();
+    private final Map<seedu.address.model.venue.Name, EventTimeline> timelinesByVenue = new HashMap<>();
+    private boolean hasReverseIndexes;
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return eventsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the event in the list with the given name, if there is one.
+     */
+    public Optional<Event> getEvent(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(eventsByName.get(name));
+    }
+
+    /**
+     * Returns the events that have a guest with the same identity as {@code person}.
+     */
+    public List<Event> getEventsWithGuest(Person person) {
+        requireNonNull(person);
+        buildReverseIndexes();
+        return getEvents(eventsByGuest.get(person.getName()));
+    }
+
+    /**
+     * Returns the events that have a vendor with the same identity as {@code vendor}.
+     */
+    public List<Event> getEventsWithVendor(Vendor vendor) {
+        requireNonNull(vendor);
+        buildReverseIndexes();
+        return getEvents(eventsByVendor.get(vendor.getName()));
+    }
+
+    /**
+     * Returns the events held at a venue with the same identity as {@code venue}.
+     */
+    public List<Event> getEventsAtVenue(Venue venue) {
+        requireNonNull(venue);
+        buildReverseIndexes();
+        return getEvents(eventsByVenue.get(venue.getName()));
+    }
+
+    /**
+     * Returns the events that run on any day from {@code from} to {@code to} inclusive, sorted by start date.
+     */
+    public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return timeline.getEventsBetween(from, to);
+    }
+
+    /**
+     * Returns the first {@code limit} events that start on or after {@code date}, sorted by start date.
+     */
+    public List<Event> getEventsFrom(LocalDate date, int limit) {
+        requireNonNull(date);
+        return timeline.getEventsFrom(date, limit);
+    }
+
+    /**
+     * Returns the other events that run on any of the days that {@code event} runs, sorted by start date.
+     */
+    public List<Event> getEventsOverlapping(Event event) {
+        requireNonNull(event);
+        List<Event> events = timeline.getEventsBetween(event.getFromDate().getDate(), event.getToDate().getDate());
+        events.removeIf(event::isSameEvent);
+        return events;
+    }
+
+    /**
+     * Returns the events held at a venue with the same identity as {@code venue} that run on any day from
+     * {@code from} to {@code to} inclusive, sorted by start date.
+     */
+    public List<Event> getEventsAtVenueBetween(Venue venue, LocalDate from, LocalDate to) {
+        requireAllNonNull(venue, from, to);
+        EventTimeline venueTimeline = timelinesByVenue.get(venue.getName());
+        return venueTimeline == null ? new ArrayList<>() : venueTimeline.getEventsBetween(from, to);
     }
 
     /**
@@ -45,7 +148,10 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
+        eventsByWord.add(toAdd.getName(), toAdd.getName().eventName);
         internalList.add(toAdd);
+        index(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -55,17 +161,18 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new EventNotFoundException();
-        }
+        Event storedEvent = getStoredEvent(target);
 
         if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        eventsByWord.remove(storedEvent.getName());
+        eventsByWord.add(editedEvent.getName(), editedEvent.getName().eventName);
+        internalList.set(internalList.indexOf(storedEvent), editedEvent);
+        unindex(storedEvent);
+        index(editedEvent);
+        modificationCount++;
     }
 
     /**
@@ -74,14 +181,16 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new EventNotFoundException();
-        }
+        Event storedEvent = getStoredEvent(toRemove);
+        internalList.remove(storedEvent);
+        eventsByWord.remove(storedEvent.getName());
+        unindex(storedEvent);
+        modificationCount++;
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setEvents(replacement.internalList);
     }
 
     /**
@@ -94,7 +203,20 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
+        eventsByName.clear();
+        eventsByGuest.clear();
+        eventsByVendor.clear();
+        eventsByVenue.clear();
+        timeline.clear();
+        timelinesByVenue.clear();
+        hasReverseIndexes = false;
+        eventsByWord.clear();
+        for (Event event : events) {
+            index(event);
+            eventsByWord.add(event.getName(), event.getName().eventName);
+        }
         internalList.setAll(events);
+        modificationCount++;
     }
 
     /**
@@ -104,6 +226,21 @@ public class UniqueEventList implements Iterable<Event> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the names of the events in the list indexed by the lower-cased words of the names.
+     */
+    public ReadOnlyWordIndex<Name> getNameIndex() {
+        return eventsByWord;
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count changes whenever an element is added, replaced or removed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Event> iterator() {
         return internalList.iterator();
@@ -138,13 +275,75 @@ public class UniqueEventList implements Iterable<Event> {
      * Returns true if {@code events} contains only unique events.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Event event : events) {
+            if (!names.add(event.getName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the event in the list that is equal to {@code event}.
+     * The event returned is the one indexed, which may differ from {@code event} in the fields that
+     * {@code Event#equals(Object)} does not compare, such as its venue.
+     *
+     * @throws EventNotFoundException if no event in the list is equal to {@code event}.
+     */
+    private Event getStoredEvent(Event event) {
+        Event storedEvent = eventsByName.get(event.getName());
+        if (!event.equals(storedEvent)) {
+            throw new EventNotFoundException();
+        }
+        return storedEvent;
+    }
+
+    private List<Event> getEvents(Set<Name> eventNames) {
+        return eventNames.stream().map(eventsByName::get).collect(Collectors.toList());
+    }
+
+    private void buildReverseIndexes() {
+        if (hasReverseIndexes) {
+            return;
+        }
+        internalList.forEach(this::indexReferences);
+        hasReverseIndexes = true;
+    }
+
+    private void index(Event event) {
+        eventsByName.put(event.getName(), event);
+        timeline.add(event);
+        if (event.getVenue() != null) {
+            timelinesByVenue.computeIfAbsent(event.getVenue().getName(), name -> new EventTimeline()).add(event);
+        }
+        if (hasReverseIndexes) {
+            indexReferences(event);
+        }
+    }
+
+    private void indexReferences(Event event) {
+        eventsByGuest.add(event.getName(), event.getPersons().stream()
+                .map(Person::getName).collect(Collectors.toList()));
+        eventsByVendor.add(event.getName(), event.getVendors().stream()
+                .map(Vendor::getName).collect(Collectors.toList()));
+        eventsByVenue.add(event.getName(), event.getVenue() == null
+                ? Collections.emptyList()
+                : Collections.singletonList(event.getVenue().getName()));
+    }
+
+    private void unindex(Event event) {
+        eventsByName.remove(event.getName());
+        timeline.remove(event);
+        if (event.getVenue() != null) {
+            EventTimeline venueTimeline = timelinesByVenue.get(event.getVenue().getName());
+            venueTimeline.remove(event);
+            if (venueTimeline.size() == 0) {
+                timelinesByVenue.remove(event.getVenue().getName());
+            }
+        }
+        eventsByGuest.remove(event.getName());
+        eventsByVendor.remove(event.getName());
+        eventsByVenue.remove(event.getName());
+    }
 }
@@ -1,27 +1,66 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.ReadOnlyWordIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ *
+ * A predicate given an index of the names looks the keywords up in the index once, and then only checks whether each
+ * person is among the matches, instead of splitting every name for every keyword. The matches are looked up again
+ * whenever the index changes.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final ReadOnlyWordIndex<Name> nameIndex;
+    private Set<Name> matchingNames;
+    private long matchingNamesModificationCount;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private NameContainsKeywordsPredicate(List<String> keywords, ReadOnlyWordIndex<Name> nameIndex) {
         this.keywords = keywords;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as this one, using {@code nameIndex} to find them.
+     * {@code nameIndex} must index the names of every person tested.
+     */
+    public NameContainsKeywordsPredicate withIndex(ReadOnlyWordIndex<Name> nameIndex) {
+        requireNonNull(nameIndex);
+        return new NameContainsKeywordsPredicate(keywords, nameIndex);
     }
 
     @Override
     public boolean test(Person person) {
+        if (nameIndex != null) {
+            return getMatchingNames().contains(person.getName());
+        }
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns the names with any of the keywords, from the posting lists of the keywords in the index.
+     */
+    private Set<Name> getMatchingNames() {
+        if (matchingNames == null || matchingNamesModificationCount != nameIndex.getModificationCount()) {
+            matchingNames = nameIndex.getKeysWithAnyWord(keywords);
+            matchingNamesModificationCount = nameIndex.getModificationCount();
+        }
+        return matchingNames;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
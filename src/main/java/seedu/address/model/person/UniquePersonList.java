@@ -3,13 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.ReadOnlyWordIndex;
+import seedu.address.model.util.WordIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,7 +23,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The persons are also indexed by name, the identity used by
+ * {@code Person#isSamePerson(Person)}, so that checking for and looking up a person takes constant time, and by the
+ * words of their name, so that finding the persons with some words does not go through every name. The word index is
+ * updated before the list changes, so that predicates using it agree with the list when the list notifies its
+ * listeners.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -27,13 +36,24 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final WordIndex<Name> personsByWord = new WordIndex<>();
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given name, if there is one.
+     */
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
     }
 
     /**
@@ -45,7 +65,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByWord.add(toAdd.getName(), toAdd.getName().fullName);
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        modificationCount++;
     }
 
     /**
@@ -56,8 +79,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByName.get(target.getName()))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +87,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        personsByWord.remove(target.getName());
+        personsByWord.add(editedPerson.getName(), editedPerson.getName().fullName);
+        internalList.set(internalList.indexOf(target), editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -77,11 +104,18 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(toRemove.getName());
+        personsByWord.remove(toRemove.getName());
+        modificationCount++;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        indexWords(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        modificationCount++;
     }
 
     /**
@@ -90,11 +124,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> replacementByName = indexByName(persons);
 
+        indexWords(persons);
         internalList.setAll(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementByName);
+        modificationCount++;
     }
 
     /**
@@ -104,6 +140,21 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the names of the persons in the list indexed by the lower-cased words of the names.
+     */
+    public ReadOnlyWordIndex<Name> getNameIndex() {
+        return personsByWord;
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count changes whenever an element is added, replaced or removed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -134,17 +185,25 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void indexWords(List<Person> persons) {
+        personsByWord.clear();
+        for (Person person : persons) {
+            personsByWord.add(person.getName(), person.getName().fullName);
+        }
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by name.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.put(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,25 @@
+package seedu.address.model.query;
+
+import java.util.function.Predicate;
+
+/**
+ * A query turned into a predicate, with the estimated fraction of the elements of its list that it holds for.
+ */
+class CompiledQuery<T> {
+
+    private final Predicate<T> predicate;
+    private final double selectivity;
+
+    CompiledQuery(Predicate<T> predicate, double selectivity) {
+        this.predicate = predicate;
+        this.selectivity = Math.min(1, Math.max(0, selectivity));
+    }
+
+    Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    double getSelectivity() {
+        return selectivity;
+    }
+}
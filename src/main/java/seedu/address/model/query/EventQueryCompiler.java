@@ -0,0 +1,137 @@
+package seedu.address.model.query;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.rsvp.Rsvp;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.venue.Venue;
+
+/**
+ * Turns queries on events into predicates.
+ *
+ * An event can be filtered by {@code name}, {@code description} and {@code note}, by the dates it runs {@code from}
+ * and {@code to}, by the name of its {@code venue}, of any of its {@code vendor}s and of any of its {@code guest}s,
+ * and by the {@code rsvp} status of any of its RSVPs. The names of events are looked up in the index of the words of
+ * the names. The venues, vendors and guests matching are found first, and their events are then looked up in the
+ * indexes from each venue, vendor and guest to their events.
+ */
+public class EventQueryCompiler extends QueryCompiler<Event> {
+
+    private static final Map<String, FieldType> FIELDS = createFields();
+
+    private static Map<String, FieldType> createFields() {
+        Map<String, FieldType> fields = new LinkedHashMap<>();
+        fields.put("name", FieldType.TEXT);
+        fields.put("description", FieldType.TEXT);
+        fields.put("note", FieldType.TEXT);
+        fields.put("from", FieldType.DATE);
+        fields.put("to", FieldType.DATE);
+        fields.put("venue", FieldType.TEXT);
+        fields.put("vendor", FieldType.TEXT);
+        fields.put("guest", FieldType.TEXT);
+        fields.put("rsvp", FieldType.RSVP_STATUS);
+        return Collections.unmodifiableMap(fields);
+    }
+
+    @Override
+    public Map<String, FieldType> getFields() {
+        return FIELDS;
+    }
+
+    @Override
+    CompiledQuery<Event> compileCondition(Query.Condition condition, Model model) {
+        switch (condition.getField()) {
+        case "name":
+            return matchName(condition, model.getEventNameIndex(), Event::getName,
+                    event -> event.getName().eventName, model);
+        case "description":
+            return scanText(condition, event -> event.getDescription().eventDesc);
+        case "note":
+            return scanText(condition, event -> event.getNote() == null ? "" : event.getNote().note);
+        case "from":
+            return compareDates(condition, event -> event.getFromDate().getDate());
+        case "to":
+            return compareDates(condition, event -> event.getToDate().getDate());
+        case "venue":
+            return lookUp(getEventsAtVenues(toMatcher(condition), model), Event::getName, model);
+        case "vendor":
+            return lookUp(getEventsWithVendors(toMatcher(condition), model), Event::getName, model);
+        case "guest":
+            return lookUp(getEventsWithGuests(toMatcher(condition), model), Event::getName, model);
+        case "rsvp":
+            return lookUp(getEventsWithRsvpStatus(condition.getValue(), model), Event::getName, model);
+        default:
+            throw new AssertionError("Unknown field " + condition.getField());
+        }
+    }
+
+    private static CompiledQuery<Event> compareDates(Query.Condition condition, Function<Event, LocalDate> dateOf) {
+        LocalDate date = new FromDate(condition.getValue()).getDate();
+        Operator operator = condition.getOperator();
+        boolean isRange = operator != Operator.MATCHES && operator != Operator.EQUALS;
+        return new CompiledQuery<>(event -> operator.accepts(dateOf.apply(event).compareTo(date)),
+                isRange ? RANGE_SELECTIVITY : EQUALS_SELECTIVITY);
+    }
+
+    private static Set<Name> getEventsAtVenues(TextMatcher venueNameMatcher, Model model) {
+        Set<Name> names = new HashSet<>();
+        for (Venue venue : model.getAddressBook().getVenueList()) {
+            if (venueNameMatcher.test(venue.getName().venueName)) {
+                model.getEventsAtVenue(venue).forEach(event -> names.add(event.getName()));
+            }
+        }
+        return names;
+    }
+
+    private static Set<Name> getEventsWithVendors(TextMatcher vendorNameMatcher, Model model) {
+        Set<Name> names = new HashSet<>();
+        for (Vendor vendor : model.getAddressBook().getVendorList()) {
+            if (vendorNameMatcher.test(vendor.getName().vendorName)) {
+                model.getEventsWithVendor(vendor).forEach(event -> names.add(event.getName()));
+            }
+        }
+        return names;
+    }
+
+    private static Set<Name> getEventsWithGuests(TextMatcher guestNameMatcher, Model model) {
+        Set<seedu.address.model.person.Name> candidates = null;
+        if (!guestNameMatcher.getIndexedWords().isEmpty()) {
+            candidates = model.getPersonNameIndex().getKeysWithAllWords(guestNameMatcher.getIndexedWords());
+        }
+
+        Set<Name> names = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if ((candidates == null || candidates.contains(person.getName()))
+                    && guestNameMatcher.test(person.getName().fullName)) {
+                model.getEventsWithGuest(person).forEach(event -> names.add(event.getName()));
+            }
+        }
+        return names;
+    }
+
+    private static Set<Name> getEventsWithRsvpStatus(String status, Model model) {
+        Set<Name> names = new HashSet<>();
+        for (Rsvp rsvp : model.getAddressBook().getRsvpList()) {
+            if (rsvp.getRsvpStatus().name().equalsIgnoreCase(status)) {
+                names.add(rsvp.getEventName());
+            }
+        }
+        return names;
+    }
+
+    @Override
+    int getSize(Model model) {
+        return model.getAddressBook().getEventList().size();
+    }
+}
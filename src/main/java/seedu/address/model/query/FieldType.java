@@ -0,0 +1,50 @@
+package seedu.address.model.query;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import seedu.address.model.event.FromDate;
+import seedu.address.model.rsvp.RsvpStatus;
+
+/**
+ * The kinds of values a field of a query can hold, with the operators and values that can be used with each.
+ */
+public enum FieldType {
+    TEXT(EnumSet.of(Operator.MATCHES, Operator.EQUALS),
+            "Text values should not be blank, and may use * to match any characters."),
+    DATE(EnumSet.allOf(Operator.class),
+            "Dates should be in DD-MM-YYYY format."),
+    RSVP_STATUS(EnumSet.of(Operator.MATCHES, Operator.EQUALS),
+            RsvpStatus.MESSAGE_CONSTRAINTS);
+
+    private final Set<Operator> operators;
+    private final String messageConstraints;
+
+    FieldType(Set<Operator> operators, String messageConstraints) {
+        this.operators = operators;
+        this.messageConstraints = messageConstraints;
+    }
+
+    public boolean supports(Operator operator) {
+        return operators.contains(operator);
+    }
+
+    public String getMessageConstraints() {
+        return messageConstraints;
+    }
+
+    /**
+     * Returns true if {@code value} is a valid value for a field of this type.
+     */
+    public boolean isValidValue(String value) {
+        switch (this) {
+        case DATE:
+            return FromDate.isValidDate(value);
+        case RSVP_STATUS:
+            return Arrays.stream(RsvpStatus.values()).anyMatch(status -> status.name().equalsIgnoreCase(value));
+        default:
+            return !value.isBlank();
+        }
+    }
+}
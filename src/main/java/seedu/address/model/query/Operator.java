@@ -0,0 +1,42 @@
+package seedu.address.model.query;
+
+/**
+ * The ways a condition of a query can compare the value of a field with the value given.
+ */
+public enum Operator {
+    MATCHES(":"),
+    EQUALS("="),
+    AT_MOST("<="),
+    AT_LEAST(">="),
+    LESS_THAN("<"),
+    GREATER_THAN(">");
+
+    private final String symbol;
+
+    Operator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Returns true if a field whose value compares with the value given as {@code comparison} does, in the sense of
+     * {@link Comparable#compareTo}, satisfies this operator.
+     */
+    public boolean accepts(int comparison) {
+        switch (this) {
+        case AT_MOST:
+            return comparison <= 0;
+        case AT_LEAST:
+            return comparison >= 0;
+        case LESS_THAN:
+            return comparison < 0;
+        case GREATER_THAN:
+            return comparison > 0;
+        default:
+            return comparison == 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.query;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.rsvp.Rsvp;
+
+/**
+ * Turns queries on persons into predicates.
+ *
+ * A person can be filtered by {@code name}, {@code phone} and {@code email}, by the {@code rsvp} status of any of their
+ * RSVPs, and by the name of any {@code event} they are a guest of. The names are looked up in the index of the words
+ * of the names, and the RSVPs and events are only gone through once for each query, to find the persons they refer to.
+ */
+public class PersonQueryCompiler extends QueryCompiler<Person> {
+
+    private static final Map<String, FieldType> FIELDS = createFields();
+
+    private static Map<String, FieldType> createFields() {
+        Map<String, FieldType> fields = new LinkedHashMap<>();
+        fields.put("name", FieldType.TEXT);
+        fields.put("phone", FieldType.TEXT);
+        fields.put("email", FieldType.TEXT);
+        fields.put("rsvp", FieldType.RSVP_STATUS);
+        fields.put("event", FieldType.TEXT);
+        return Collections.unmodifiableMap(fields);
+    }
+
+    @Override
+    public Map<String, FieldType> getFields() {
+        return FIELDS;
+    }
+
+    @Override
+    CompiledQuery<Person> compileCondition(Query.Condition condition, Model model) {
+        switch (condition.getField()) {
+        case "name":
+            return matchName(condition, model.getPersonNameIndex(), Person::getName,
+                    person -> person.getName().fullName, model);
+        case "phone":
+            return scanText(condition, person -> person.getPhone().value);
+        case "email":
+            return scanText(condition, person -> person.getEmail().value);
+        case "rsvp":
+            return lookUp(getPersonsWithRsvpStatus(condition.getValue(), model), Person::getName, model);
+        case "event":
+            return lookUp(getGuestsOfEvents(toMatcher(condition), model), Person::getName, model);
+        default:
+            throw new AssertionError("Unknown field " + condition.getField());
+        }
+    }
+
+    private static Set<Name> getPersonsWithRsvpStatus(String status, Model model) {
+        Set<Name> names = new HashSet<>();
+        for (Rsvp rsvp : model.getAddressBook().getRsvpList()) {
+            if (rsvp.getRsvpStatus().name().equalsIgnoreCase(status)) {
+                names.add(rsvp.getPersonName());
+            }
+        }
+        return names;
+    }
+
+    private static Set<Name> getGuestsOfEvents(TextMatcher eventNameMatcher, Model model) {
+        Set<Name> names = new HashSet<>();
+        for (Event event : model.getAddressBook().getEventList()) {
+            if (eventNameMatcher.test(event.getName().eventName)) {
+                event.getPersons().forEach(person -> names.add(person.getName()));
+            }
+        }
+        return names;
+    }
+
+    @Override
+    int getSize(Model model) {
+        return model.getAddressBook().getPersonList().size();
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A node of the syntax tree of a query that filters a list by the values of its fields.
+ * A query is either a condition on one field, or the conditions combined with {@code and}, {@code or} and {@code not}.
+ *
+ * Queries only describe the conditions. They are turned into predicates by a {@link QueryCompiler}.
+ */
+public abstract class Query {
+
+    /**
+     * A condition that the value of {@code field} compares with {@code value} as {@code operator} says.
+     */
+    public static class Condition extends Query {
+        private final String field;
+        private final Operator operator;
+        private final String value;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Condition(String field, Operator operator, String value) {
+            requireAllNonNull(field, operator, value);
+            this.field = field;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Condition)) {
+                return false;
+            }
+
+            Condition otherCondition = (Condition) other;
+            return field.equals(otherCondition.field)
+                    && operator == otherCondition.operator
+                    && value.equals(otherCondition.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, operator, value);
+        }
+
+        @Override
+        public String toString() {
+            return field + operator.getSymbol() + "\"" + value + "\"";
+        }
+    }
+
+    /**
+     * A query that holds if all of its operands hold.
+     */
+    public static class And extends Query {
+        private final List<Query> operands;
+
+        /**
+         * Creates a query that holds if all of {@code operands} hold.
+         */
+        public And(List<Query> operands) {
+            requireNonNull(operands);
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And && operands.equals(((And) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Query::toString).collect(Collectors.joining(" and ", "(", ")"));
+        }
+    }
+
+    /**
+     * A query that holds if any of its operands holds.
+     */
+    public static class Or extends Query {
+        private final List<Query> operands;
+
+        /**
+         * Creates a query that holds if any of {@code operands} holds.
+         */
+        public Or(List<Query> operands) {
+            requireNonNull(operands);
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or && operands.equals(((Or) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Query::toString).collect(Collectors.joining(" or ", "(", ")"));
+        }
+    }
+
+    /**
+     * A query that holds if its operand does not.
+     */
+    public static class Not extends Query {
+        private final Query operand;
+
+        /**
+         * Creates a query that holds if {@code operand} does not.
+         */
+        public Not(Query operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        public Query getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Not.class, operand);
+        }
+
+        @Override
+        public String toString() {
+            return "not " + operand;
+        }
+    }
+}
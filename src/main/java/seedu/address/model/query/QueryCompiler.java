@@ -0,0 +1,166 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.util.ReadOnlyWordIndex;
+
+/**
+ * Turns queries on the fields of the elements of one list of the model into predicates.
+ *
+ * A condition that can be answered from an index of the model, such as the words of the names or the events of a
+ * venue, looks up the matching elements once, so that testing an element only checks whether it is among them. The
+ * other conditions read the field of every element tested. The operands of {@code and} are tested with the one that
+ * holds for the fewest elements first, and those of {@code or} with the one that holds for the most elements first,
+ * so that each element is decided after as few operands as possible. How many elements a condition holds for is known
+ * for the conditions answered from an index, and estimated for the others.
+ *
+ * @param <T> the type of the elements of the list.
+ */
+public abstract class QueryCompiler<T> {
+
+    /** The estimated fraction of elements whose field is the value given. */
+    static final double EQUALS_SELECTIVITY = 0.05;
+    /** The estimated fraction of elements whose field has the words given. */
+    static final double WORDS_SELECTIVITY = 0.1;
+    /** The estimated fraction of elements whose field matches a pattern with {@code *}. */
+    static final double PATTERN_SELECTIVITY = 0.25;
+    /** The estimated fraction of elements whose field is before or after the value given. */
+    static final double RANGE_SELECTIVITY = 0.5;
+
+    /**
+     * Returns the fields that conditions can be on, with the type of each field.
+     */
+    public abstract Map<String, FieldType> getFields();
+
+    /**
+     * Returns a predicate that holds for the elements of the list that satisfy {@code query}, as the model is now.
+     * The conditions of {@code query} must only use the fields and operators this compiler supports.
+     */
+    public Predicate<T> compile(Query query, Model model) {
+        requireNonNull(query);
+        requireNonNull(model);
+        return compileQuery(query, model).getPredicate();
+    }
+
+    CompiledQuery<T> compileQuery(Query query, Model model) {
+        if (query instanceof Query.And) {
+            return compileAnd(((Query.And) query).getOperands(), model);
+        } else if (query instanceof Query.Or) {
+            return compileOr(((Query.Or) query).getOperands(), model);
+        } else if (query instanceof Query.Not) {
+            CompiledQuery<T> operand = compileQuery(((Query.Not) query).getOperand(), model);
+            return new CompiledQuery<>(operand.getPredicate().negate(), 1 - operand.getSelectivity());
+        }
+
+        Query.Condition condition = (Query.Condition) query;
+        assert getFields().containsKey(condition.getField()) : "Unknown field " + condition.getField();
+        assert getFields().get(condition.getField()).supports(condition.getOperator());
+        return compileCondition(condition, model);
+    }
+
+    private CompiledQuery<T> compileAnd(List<Query> operands, Model model) {
+        List<CompiledQuery<T>> compiledOperands = compileOperands(operands, model,
+                Comparator.comparingDouble(CompiledQuery::getSelectivity));
+        Predicate<T>[] predicates = toPredicates(compiledOperands);
+        double selectivity = compiledOperands.stream().mapToDouble(CompiledQuery::getSelectivity)
+                .reduce(1, (product, operand) -> product * operand);
+        return new CompiledQuery<>(element -> {
+            for (Predicate<T> predicate : predicates) {
+                if (!predicate.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }, selectivity);
+    }
+
+    private CompiledQuery<T> compileOr(List<Query> operands, Model model) {
+        List<CompiledQuery<T>> compiledOperands = compileOperands(operands, model,
+                Comparator.<CompiledQuery<T>>comparingDouble(CompiledQuery::getSelectivity).reversed());
+        Predicate<T>[] predicates = toPredicates(compiledOperands);
+        double selectivity = 1 - compiledOperands.stream().mapToDouble(CompiledQuery::getSelectivity)
+                .reduce(1, (product, operand) -> product * (1 - operand));
+        return new CompiledQuery<>(element -> {
+            for (Predicate<T> predicate : predicates) {
+                if (predicate.test(element)) {
+                    return true;
+                }
+            }
+            return false;
+        }, selectivity);
+    }
+
+    private List<CompiledQuery<T>> compileOperands(List<Query> operands, Model model,
+            Comparator<CompiledQuery<T>> order) {
+        return operands.stream()
+                .map(operand -> compileQuery(operand, model))
+                .sorted(order)
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<T>[] toPredicates(List<CompiledQuery<T>> compiledQueries) {
+        return compiledQueries.stream().map(CompiledQuery::getPredicate).toArray(Predicate[]::new);
+    }
+
+    /**
+     * Returns the compiled form of {@code condition}, whose field and operator are supported.
+     */
+    abstract CompiledQuery<T> compileCondition(Query.Condition condition, Model model);
+
+    /**
+     * Returns the number of elements in the list, as the model is now.
+     */
+    abstract int getSize(Model model);
+
+    /**
+     * Returns a condition that reads the text field {@code fieldOf} of every element tested.
+     */
+    CompiledQuery<T> scanText(Query.Condition condition, Function<T, String> fieldOf) {
+        TextMatcher matcher = new TextMatcher(condition.getOperator(), condition.getValue());
+        return new CompiledQuery<>(element -> matcher.test(fieldOf.apply(element)),
+                matcher.getEstimatedSelectivity());
+    }
+
+    /**
+     * Returns a condition that holds for the elements identified by {@code keys}.
+     */
+    <K> CompiledQuery<T> lookUp(Set<K> keys, Function<T, K> keyOf, Model model) {
+        return new CompiledQuery<>(element -> keys.contains(keyOf.apply(element)),
+                (double) keys.size() / Math.max(1, getSize(model)));
+    }
+
+    /**
+     * Returns a condition on the names of the elements, which are indexed by word in {@code nameIndex}.
+     * If the value is made of words, the names with all of the words are looked up in the index, and only those names
+     * are checked for the words in the right order. Otherwise, every name tested is read.
+     */
+    <K> CompiledQuery<T> matchName(Query.Condition condition, ReadOnlyWordIndex<K> nameIndex, Function<T, K> keyOf,
+            Function<T, String> nameOf, Model model) {
+        TextMatcher matcher = new TextMatcher(condition.getOperator(), condition.getValue());
+        if (matcher.getIndexedWords().isEmpty()) {
+            return scanText(condition, nameOf);
+        }
+
+        Set<K> candidates = nameIndex.getKeysWithAllWords(matcher.getIndexedWords());
+        return new CompiledQuery<>(element -> candidates.contains(keyOf.apply(element))
+                && matcher.test(nameOf.apply(element)), (double) candidates.size() / Math.max(1, getSize(model)));
+    }
+
+    /**
+     * Returns a matcher for the text value of {@code condition}, to find the elements of another list that the
+     * condition refers to.
+     */
+    static TextMatcher toMatcher(Query.Condition condition) {
+        return new TextMatcher(condition.getOperator(), condition.getValue());
+    }
+}
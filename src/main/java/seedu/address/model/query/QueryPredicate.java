@@ -0,0 +1,67 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Tests that an element satisfies a {@code Query}.
+ *
+ * The query is compiled the first time an element is tested, and compiled again whenever the address book of the model
+ * changes, as the elements the indexes hold for the conditions of the query may have changed.
+ *
+ * @param <T> the type of the elements tested.
+ */
+public class QueryPredicate<T> implements Predicate<T> {
+
+    private final Query query;
+    private final QueryCompiler<T> compiler;
+    private final Model model;
+    private Predicate<T> compiledQuery;
+    private long compiledModificationCount;
+
+    /**
+     * Creates a predicate for {@code query}, compiled by {@code compiler} against {@code model}.
+     */
+    public QueryPredicate(Query query, QueryCompiler<T> compiler, Model model) {
+        requireAllNonNull(query, compiler, model);
+        this.query = query;
+        this.compiler = compiler;
+        this.model = model;
+    }
+
+    @Override
+    public boolean test(T element) {
+        long modificationCount = model.getAddressBook().getModificationCount();
+        if (compiledQuery == null || compiledModificationCount != modificationCount) {
+            compiledQuery = compiler.compile(query, model);
+            compiledModificationCount = modificationCount;
+        }
+        return compiledQuery.test(element);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryPredicate)) {
+            return false;
+        }
+
+        QueryPredicate<?> otherQueryPredicate = (QueryPredicate<?>) other;
+        return query.equals(otherQueryPredicate.query)
+                && compiler.getClass().equals(otherQueryPredicate.compiler.getClass())
+                && model == otherQueryPredicate.model;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.model.util.WordIndex;
+
+/**
+ * Tests whether a text field has the value given in a condition, ignoring case.
+ *
+ * With {@code =}, the whole field must be the value. With {@code :}, a value with {@code *} must match the whole
+ * field, with each {@code *} standing for any characters, and a value without {@code *} must appear in the field as
+ * whole words, in the same order. The pattern of a value with {@code *} is only compiled once, and not for every field
+ * tested.
+ */
+class TextMatcher implements Predicate<String> {
+
+    private static final String WILDCARD = "*";
+
+    private final Operator operator;
+    private final String value;
+    private final Pattern pattern;
+    private final List<String> words;
+
+    /**
+     * Creates a matcher for {@code value}, compared as {@code operator}, which must be {@code :} or {@code =}.
+     */
+    TextMatcher(Operator operator, String value) {
+        requireAllNonNull(operator, value);
+        assert FieldType.TEXT.supports(operator);
+        this.operator = operator;
+        this.value = value;
+        boolean isPattern = operator == Operator.MATCHES && value.contains(WILDCARD);
+        this.pattern = isPattern ? toPattern(value) : null;
+        this.words = operator == Operator.MATCHES && !isPattern ? WordIndex.toWords(value) : Collections.emptyList();
+    }
+
+    private static Pattern toPattern(String value) {
+        String regex = Arrays.stream(value.split(Pattern.quote(WILDCARD), -1))
+                .map(part -> part.isEmpty() ? "" : Pattern.quote(part))
+                .collect(Collectors.joining(".*"));
+        return Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL);
+    }
+
+    @Override
+    public boolean test(String text) {
+        if (pattern != null) {
+            return pattern.matcher(text).matches();
+        }
+        if (operator == Operator.EQUALS) {
+            return text.toLowerCase(Locale.ROOT).equals(value.toLowerCase(Locale.ROOT));
+        }
+        return !words.isEmpty() && Collections.indexOfSubList(WordIndex.toWords(text), words) >= 0;
+    }
+
+    /**
+     * Returns the words that a matching field must have, if the matches can be looked up in a {@link WordIndex}, or
+     * an empty list if they cannot.
+     */
+    List<String> getIndexedWords() {
+        return words;
+    }
+
+    /**
+     * Returns the estimated fraction of fields that match.
+     */
+    double getEstimatedSelectivity() {
+        if (operator == Operator.EQUALS) {
+            return QueryCompiler.EQUALS_SELECTIVITY;
+        }
+        return pattern != null ? QueryCompiler.PATTERN_SELECTIVITY : QueryCompiler.WORDS_SELECTIVITY;
+    }
+}
@@ -46,7 +46,7 @@ public class Rsvp {
 
     /**
      * Checks if two RSVPs are the same, based on the event and person.
-     * Two RSVPs are considered the same if they have the same event and person.
+     * Two RSVPs are considered the same if they are for the same event and the same person, by name.
      *
      * @param otherRsvp The other RSVP to compare with.
      * @return True if both RSVPs have the same event and person, false otherwise.
@@ -57,8 +57,8 @@ public class Rsvp {
         }
 
         return otherRsvp != null
-                && otherRsvp.getEvent().equals(getEvent())
-                && otherRsvp.getPerson().equals(getPerson());
+                && otherRsvp.getEvent().isSameEvent(getEvent())
+                && otherRsvp.getPerson().isSamePerson(getPerson());
     }
 
     // The following three methods are to resolve Law of Demeter.
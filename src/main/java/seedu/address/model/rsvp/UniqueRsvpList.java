@@ -3,12 +3,24 @@ package seedu.address.model.rsvp;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.rsvp.exceptions.DuplicateRsvpException;
 import seedu.address.model.rsvp.exceptions.RsvpNotFoundException;
 
 /**
@@ -17,6 +29,10 @@ import seedu.address.model.rsvp.exceptions.RsvpNotFoundException;
  * RSVPs uses Rsvp#isSameRsvp(Rsvp) for equality so as to ensure that the RSVP being added or updated is
  * unique in terms of identity in the UniqueRsvpList.
  *
+ * The RSVPs are also indexed by the names of their event and person, so that finding the RSVP of a person for an
+ * event, and finding all the RSVPs of an event or of a person, does not need to go through the whole list. The
+ * position of each RSVP in the list is also kept, so that replacing an RSVP does not have to search the list for it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Rsvp#isSameRsvp(Rsvp)
@@ -26,13 +42,41 @@ public class UniqueRsvpList implements Iterable<Rsvp> {
     private final ObservableList<Rsvp> internalList = FXCollections.observableArrayList();
     private final ObservableList<Rsvp> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<seedu.address.model.event.Name, Map<Name, Rsvp>> rsvpsByEvent = new HashMap<>();
+    private final Map<Name, Map<seedu.address.model.event.Name, Rsvp>> rsvpsByPerson = new HashMap<>();
+    private final Map<Rsvp, Integer> positions = new IdentityHashMap<>();
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent RSVP as the given argument.
      */
     public boolean contains(Rsvp toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRsvp);
+        return find(toCheck.getEventName(), toCheck.getPersonName()) != null;
+    }
+
+    /**
+     * Returns the RSVP of {@code person} for {@code event}, if there is one.
+     */
+    public Optional<Rsvp> getRsvp(Event event, Person person) {
+        requireAllNonNull(event, person);
+        return Optional.ofNullable(find(event.getName(), person.getName()));
+    }
+
+    /**
+     * Returns the RSVPs for {@code event}, in the order they were added.
+     */
+    public List<Rsvp> getRsvps(Event event) {
+        requireNonNull(event);
+        return new ArrayList<>(rsvpsByEvent.getOrDefault(event.getName(), Collections.emptyMap()).values());
+    }
+
+    /**
+     * Returns the RSVPs of {@code person}, in the order they were added.
+     */
+    public List<Rsvp> getRsvps(Person person) {
+        requireNonNull(person);
+        return new ArrayList<>(rsvpsByPerson.getOrDefault(person.getName(), Collections.emptyMap()).values());
     }
 
     /**
@@ -43,9 +87,7 @@ public class UniqueRsvpList implements Iterable<Rsvp> {
      */
     public Optional<Rsvp> getDuplicateRsvp(Rsvp toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream()
-                .filter(toCheck::isSameRsvp)
-                .findFirst();
+        return Optional.ofNullable(find(toCheck.getEventName(), toCheck.getPersonName()));
     }
 
     /**
@@ -55,12 +97,15 @@ public class UniqueRsvpList implements Iterable<Rsvp> {
      */
     public void add(Rsvp toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            assert getDuplicateRsvp(toAdd).isPresent();
-            setRsvp(getDuplicateRsvp(toAdd).get(), toAdd);
+        Rsvp existingRsvp = find(toAdd.getEventName(), toAdd.getPersonName());
+        if (existingRsvp != null) {
+            setRsvp(existingRsvp, toAdd);
             return;
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
+        index(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -73,11 +118,21 @@ public class UniqueRsvpList implements Iterable<Rsvp> {
      */
     public void setRsvp(Rsvp target, Rsvp editedRsvp) {
         requireAllNonNull(target, editedRsvp);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Rsvp storedRsvp = find(target.getEventName(), target.getPersonName());
+        if (!target.equals(storedRsvp)) {
             throw new RsvpNotFoundException();
         }
-        internalList.set(index, editedRsvp);
+
+        if (!target.isSameRsvp(editedRsvp) && contains(editedRsvp)) {
+            throw new DuplicateRsvpException();
+        }
+
+        int position = positions.remove(storedRsvp);
+        positions.put(editedRsvp, position);
+        internalList.set(position, editedRsvp);
+        unindex(storedRsvp);
+        index(editedRsvp);
+        modificationCount++;
     }
 
     /**
@@ -88,14 +143,24 @@ public class UniqueRsvpList implements Iterable<Rsvp> {
      */
     public void remove(Rsvp toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Rsvp storedRsvp = find(toRemove.getEventName(), toRemove.getPersonName());
+        if (!toRemove.equals(storedRsvp)) {
             throw new RsvpNotFoundException();
         }
+
+        int position = positions.remove(storedRsvp);
+        internalList.remove(position);
+        // The RSVPs after the removed one have moved up, as they have in the backing array
+        for (int i = position; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        unindex(storedRsvp);
+        modificationCount++;
     }
 
     public void setRsvps(UniqueRsvpList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setRsvps(replacement.internalList);
     }
 
     /**
@@ -104,7 +169,19 @@ public class UniqueRsvpList implements Iterable<Rsvp> {
      */
     public void setRsvps(List<Rsvp> rsvps) {
         requireAllNonNull(rsvps);
+        if (!rsvpsAreUnique(rsvps)) {
+            throw new DuplicateRsvpException();
+        }
+
+        rsvpsByEvent.clear();
+        rsvpsByPerson.clear();
+        positions.clear();
+        rsvps.forEach(this::index);
+        for (int i = 0; i < rsvps.size(); i++) {
+            positions.put(rsvps.get(i), i);
+        }
         internalList.setAll(rsvps);
+        modificationCount++;
     }
 
     /**
@@ -114,6 +191,52 @@ public class UniqueRsvpList implements Iterable<Rsvp> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count changes whenever an element is added, replaced or removed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns true if {@code rsvps} contains only unique RSVPs.
+     */
+    private static boolean rsvpsAreUnique(List<Rsvp> rsvps) {
+        Set<List<Object>> identities = new HashSet<>();
+        for (Rsvp rsvp : rsvps) {
+            if (!identities.add(List.of(rsvp.getEventName(), rsvp.getPersonName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Rsvp find(seedu.address.model.event.Name eventName, Name personName) {
+        return rsvpsByEvent.getOrDefault(eventName, Collections.emptyMap()).get(personName);
+    }
+
+    private void index(Rsvp rsvp) {
+        rsvpsByEvent.computeIfAbsent(rsvp.getEventName(), eventName -> new LinkedHashMap<>())
+                .put(rsvp.getPersonName(), rsvp);
+        rsvpsByPerson.computeIfAbsent(rsvp.getPersonName(), personName -> new LinkedHashMap<>())
+                .put(rsvp.getEventName(), rsvp);
+    }
+
+    private void unindex(Rsvp rsvp) {
+        Map<Name, Rsvp> eventRsvps = rsvpsByEvent.get(rsvp.getEventName());
+        eventRsvps.remove(rsvp.getPersonName());
+        if (eventRsvps.isEmpty()) {
+            rsvpsByEvent.remove(rsvp.getEventName());
+        }
+
+        Map<seedu.address.model.event.Name, Rsvp> personRsvps = rsvpsByPerson.get(rsvp.getPersonName());
+        personRsvps.remove(rsvp.getEventName());
+        if (personRsvps.isEmpty()) {
+            rsvpsByPerson.remove(rsvp.getPersonName());
+        }
+    }
+
     @Override
     public Iterator<Rsvp> iterator() {
         return internalList.iterator();
@@ -0,0 +1,11 @@
+package seedu.address.model.rsvp.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate RSVPs (RSVPs are considered duplicates if they have the same
+ * event and person).
+ */
+public class DuplicateRsvpException extends RuntimeException {
+    public DuplicateRsvpException() {
+        super("Operation would result in duplicate RSVPs");
+    }
+}
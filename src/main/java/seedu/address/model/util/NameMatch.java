@@ -0,0 +1,92 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An element whose name matched some of the terms of a search, with how well it matched.
+ * Matches compare with the best match first: the match with more terms matched, and then the match with the lower cost.
+ *
+ * @param <K> the type of the element matched.
+ */
+public class NameMatch<K> implements Comparable<NameMatch<?>> {
+
+    private static final Comparator<NameMatch<?>> BEST_FIRST =
+            Comparator.<NameMatch<?>>comparingInt(match -> -match.termsMatched).thenComparingInt(match -> match.cost);
+
+    private final K key;
+    private final int termsMatched;
+    private final int cost;
+
+    /**
+     * Creates a match of {@code key} that matched {@code termsMatched} terms, at a total cost of {@code cost}.
+     */
+    public NameMatch(K key, int termsMatched, int cost) {
+        requireNonNull(key);
+        this.key = key;
+        this.termsMatched = termsMatched;
+        this.cost = cost;
+    }
+
+    public K getKey() {
+        return key;
+    }
+
+    public int getTermsMatched() {
+        return termsMatched;
+    }
+
+    /**
+     * Returns the sum of the costs of the terms matched, which is 0 if every term matched a whole word exactly.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns a match of the element that {@code mapper} maps the key of this match to, just as good as this match.
+     */
+    public <T> NameMatch<T> map(Function<? super K, ? extends T> mapper) {
+        return new NameMatch<>(mapper.apply(key), termsMatched, cost);
+    }
+
+    @Override
+    public int compareTo(NameMatch<?> other) {
+        return BEST_FIRST.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameMatch)) {
+            return false;
+        }
+
+        NameMatch<?> otherMatch = (NameMatch<?>) other;
+        return key.equals(otherMatch.key)
+                && termsMatched == otherMatch.termsMatched
+                && cost == otherMatch.cost;
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", key)
+                .add("termsMatched", termsMatched)
+                .add("cost", cost)
+                .toString();
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unmodifiable view of a word index.
+ *
+ * @param <K> the type of the identity of the indexed elements.
+ */
+public interface ReadOnlyWordIndex<K> {
+
+    /**
+     * Returns the identities of the elements with at least one of {@code words}, ignoring case.
+     */
+    Set<K> getKeysWithAnyWord(Collection<String> words);
+
+    /**
+     * Returns the identities of the elements with all of {@code words}, ignoring case.
+     */
+    Set<K> getKeysWithAllWords(Collection<String> words);
+
+    /**
+     * Returns the elements with a word that matches any of {@code terms}, at most {@code limit} of them, best match
+     * first. A word matches a term if it is the term, starts with the term, or is a few typos away from the term,
+     * ignoring case.
+     */
+    List<NameMatch<K>> search(Collection<String> terms, int limit);
+
+    /**
+     * Returns the number of changes made to the index so far.
+     * The count changes whenever an element is added or removed.
+     */
+    long getModificationCount();
+
+}
@@ -0,0 +1,312 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Maps each lower-cased word of the names of some elements to the identities of the elements with that word, so that
+ * the elements with some words can be found without splitting every name.
+ *
+ * The words indexed for each element are remembered, so removing an element does not have to split its name again.
+ * The words are also kept in a trie, so that the words starting with a term, or a few typos away from it, are found by
+ * walking only the branches of the trie that can still match. The trie keeps its branches in alphabetical order, so
+ * that equally good matches are always found in the same order.
+ *
+ * @param <K> the type of the identity of the indexed elements.
+ */
+public class WordIndex<K> implements ReadOnlyWordIndex<K> {
+
+    /** The cost of a term that is a whole word of a name. */
+    public static final int EXACT_MATCH_COST = 0;
+    /** The cost of a term that a word of a name starts with. */
+    public static final int PREFIX_MATCH_COST = 1;
+    /** The cost of a term that is a few typos away from a word of a name, not counting the typos. */
+    public static final int TYPO_MATCH_COST = 1;
+
+    /** Terms up to this long must match exactly or as a prefix, as too many words are a typo away from them. */
+    private static final int MAX_LENGTH_WITHOUT_TYPOS = 2;
+    /** Terms up to this long may have one typo, and longer terms may have two. */
+    private static final int MAX_LENGTH_WITH_ONE_TYPO = 5;
+
+    private final Map<String, Set<K>> keysByWord = new HashMap<>();
+    private final Map<K, Set<String>> wordsByKey = new HashMap<>();
+    private final TrieNode trieRoot = new TrieNode();
+    private long modificationCount;
+
+    /**
+     * Returns the lower-cased words of {@code text}, which are separated by whitespace.
+     */
+    public static List<String> toWords(String text) {
+        requireNonNull(text);
+        String trimmedText = text.trim();
+        if (trimmedText.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return List.of(trimmedText.toLowerCase(Locale.ROOT).split("\\s+"));
+    }
+
+    /**
+     * Records that the element identified by {@code key} has the name {@code text}.
+     * The element must not already be in the index.
+     */
+    public void add(K key, String text) {
+        requireNonNull(key);
+        assert !wordsByKey.containsKey(key);
+        Set<String> words = new LinkedHashSet<>(toWords(text));
+        wordsByKey.put(key, words);
+        for (String word : words) {
+            keysByWord.computeIfAbsent(word, this::addToTrie).add(key);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the element identified by {@code key}, if it is in the index.
+     */
+    public void remove(K key) {
+        Set<String> words = wordsByKey.remove(key);
+        if (words == null) {
+            return;
+        }
+
+        for (String word : words) {
+            Set<K> keys = keysByWord.get(word);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByWord.remove(word);
+                removeFromTrie(trieRoot, word, 0);
+            }
+        }
+        modificationCount++;
+    }
+
+    public void clear() {
+        keysByWord.clear();
+        wordsByKey.clear();
+        trieRoot.children.clear();
+        modificationCount++;
+    }
+
+    @Override
+    public Set<K> getKeysWithAnyWord(Collection<String> words) {
+        Set<K> keys = new LinkedHashSet<>();
+        for (Set<K> postings : getPostings(words)) {
+            keys.addAll(postings);
+        }
+        return keys;
+    }
+
+    @Override
+    public Set<K> getKeysWithAllWords(Collection<String> words) {
+        List<Set<K>> postings = getPostings(words);
+        if (postings.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
+        // Start from the shortest posting list, so that each intersection only goes through that many keys
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<K> keys = new LinkedHashSet<>(postings.get(0));
+        for (Set<K> otherPostings : postings.subList(1, postings.size())) {
+            keys.retainAll(otherPostings);
+        }
+        return keys;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Each term costs {@link #EXACT_MATCH_COST} if it is a whole word of the name, {@link #PREFIX_MATCH_COST} if a word
+     * starts with it, and {@link #TYPO_MATCH_COST} plus the number of typos if it is a word with typos, taking the
+     * cheapest word of the name. Terms of up to two letters cannot have typos, terms of up to five letters can have
+     * one, and longer terms can have two. Only the best {@code limit} matches are kept while the matches are ranked.
+     */
+    @Override
+    public List<NameMatch<K>> search(Collection<String> terms, int limit) {
+        requireNonNull(terms);
+        Map<K, int[]> termsMatchedAndCosts = new LinkedHashMap<>();
+        for (String term : getDistinctWords(terms)) {
+            Map<K, Integer> costs = new LinkedHashMap<>();
+            matchWords(term).forEach((word, cost) -> {
+                for (K key : keysByWord.get(word)) {
+                    costs.merge(key, cost, Math::min);
+                }
+            });
+            costs.forEach((key, cost) -> {
+                int[] termsMatchedAndCost = termsMatchedAndCosts.computeIfAbsent(key, k -> new int[2]);
+                termsMatchedAndCost[0]++;
+                termsMatchedAndCost[1] += cost;
+            });
+        }
+
+        List<NameMatch<K>> candidates = new ArrayList<>();
+        termsMatchedAndCosts.forEach((key, termsMatchedAndCost) ->
+                candidates.add(new NameMatch<>(key, termsMatchedAndCost[0], termsMatchedAndCost[1])));
+
+        // Equally good matches are kept in the order they were found, so that the results do not change between runs
+        Comparator<Integer> bestFirst = Comparator.<Integer, NameMatch<K>>comparing(candidates::get)
+                .thenComparing(Comparator.naturalOrder());
+
+        // Keeps the worst of the best matches so far at the head, to be dropped when a better match is found
+        PriorityQueue<Integer> bestMatches = new PriorityQueue<>(bestFirst.reversed());
+        for (int i = 0; i < candidates.size(); i++) {
+            bestMatches.add(i);
+            if (bestMatches.size() > limit) {
+                bestMatches.poll();
+            }
+        }
+        return bestMatches.stream()
+                .sorted(bestFirst)
+                .map(candidates::get)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the identities of the elements with each of {@code words}, one set per word.
+     */
+    private List<Set<K>> getPostings(Collection<String> words) {
+        return getDistinctWords(words).stream()
+                .map(word -> keysByWord.getOrDefault(word, Collections.emptySet()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getDistinctWords(Collection<String> words) {
+        requireNonNull(words);
+        return words.stream()
+                .flatMap(word -> toWords(word).stream())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the indexed words that match {@code term}, with the cost of each match.
+     */
+    private Map<String, Integer> matchWords(String term) {
+        Map<String, Integer> costs = new LinkedHashMap<>();
+
+        TrieNode prefixNode = trieRoot;
+        for (int i = 0; i < term.length() && prefixNode != null; i++) {
+            prefixNode = prefixNode.children.get(term.charAt(i));
+        }
+        if (prefixNode != null) {
+            collectWords(prefixNode, PREFIX_MATCH_COST, costs);
+        }
+
+        int maxTypos = getMaxTypos(term);
+        if (maxTypos > 0) {
+            int[] firstRow = new int[term.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+            trieRoot.children.forEach((letter, child) -> collectWordsWithTypos(child, letter, term, firstRow,
+                    maxTypos, costs));
+        }
+
+        if (keysByWord.containsKey(term)) {
+            costs.put(term, EXACT_MATCH_COST);
+        }
+        return costs;
+    }
+
+    private static int getMaxTypos(String term) {
+        if (term.length() <= MAX_LENGTH_WITHOUT_TYPOS) {
+            return 0;
+        }
+        return term.length() <= MAX_LENGTH_WITH_ONE_TYPO ? 1 : 2;
+    }
+
+    private static void collectWords(TrieNode node, int cost, Map<String, Integer> costs) {
+        if (node.word != null) {
+            costs.merge(node.word, cost, Math::min);
+        }
+        for (TrieNode child : node.children.values()) {
+            collectWords(child, cost, costs);
+        }
+    }
+
+    /**
+     * Collects the words under {@code node} that are at most {@code maxTypos} typos away from {@code term}, where
+     * {@code node} is reached from its parent by {@code letter}, and {@code parentRow} holds the number of typos
+     * between the word of the parent and each prefix of {@code term}.
+     * Only the prefixes of {@code term} within {@code maxTypos} letters of the length of the word can be close enough,
+     * so the other prefixes are not compared. A branch is left as soon as every prefix is too many typos away.
+     */
+    private static void collectWordsWithTypos(TrieNode node, char letter, String term, int[] parentRow,
+            int maxTypos, Map<String, Integer> costs) {
+        int[] row = new int[parentRow.length];
+        int tooManyTypos = maxTypos + 1;
+        int depth = parentRow[0] + 1;
+        int from = Math.max(1, depth - maxTypos);
+        int to = Math.min(row.length - 1, depth + maxTypos);
+
+        Arrays.fill(row, tooManyTypos);
+        row[0] = depth;
+        int fewestTypos = row[0];
+        for (int i = from; i <= to; i++) {
+            int substitution = parentRow[i - 1] + (term.charAt(i - 1) == letter ? 0 : 1);
+            row[i] = Math.min(tooManyTypos, Math.min(substitution, Math.min(row[i - 1], parentRow[i]) + 1));
+            fewestTypos = Math.min(fewestTypos, row[i]);
+        }
+
+        int typos = row[row.length - 1];
+        if (node.word != null && typos <= maxTypos) {
+            costs.merge(node.word, TYPO_MATCH_COST + typos, Math::min);
+        }
+        if (fewestTypos <= maxTypos) {
+            node.children.forEach((childLetter, child) -> collectWordsWithTypos(child, childLetter, term, row,
+                    maxTypos, costs));
+        }
+    }
+
+    /**
+     * Adds {@code word} to the trie, and returns a new set for the keys with the word.
+     */
+    private Set<K> addToTrie(String word) {
+        TrieNode node = trieRoot;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), letter -> new TrieNode());
+        }
+        node.word = word;
+        return new LinkedHashSet<>();
+    }
+
+    /**
+     * Removes {@code word} from the trie under {@code node}, which is reached by the first {@code depth} letters of
+     * the word, and returns true if {@code node} is no longer needed.
+     */
+    private static boolean removeFromTrie(TrieNode node, String word, int depth) {
+        if (depth == word.length()) {
+            node.word = null;
+        } else {
+            TrieNode child = node.children.get(word.charAt(depth));
+            if (child != null && removeFromTrie(child, word, depth + 1)) {
+                node.children.remove(word.charAt(depth));
+            }
+        }
+        return node.word == null && node.children.isEmpty();
+    }
+
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new TreeMap<>();
+        private String word;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.venue;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isLineNotStartingWithWhitespace;
 
 /**
  * Represents a Venue's address in EventWise.
@@ -34,7 +35,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isLineNotStartingWithWhitespace(test);
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.venue;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isDigits;
 
 /**
  * Represents a Venue's capacity in EventWise.
@@ -30,7 +31,7 @@ public class Capacity {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidCapacity(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isDigits(test, 1);
     }
 
     @Override
@@ -3,11 +3,16 @@ package seedu.address.model.venue;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.util.ReadOnlyWordIndex;
+import seedu.address.model.util.WordIndex;
 import seedu.address.model.venue.exceptions.DuplicateVenueException;
 import seedu.address.model.venue.exceptions.VenueNotFoundException;
 
@@ -18,7 +23,9 @@ import seedu.address.model.venue.exceptions.VenueNotFoundException;
  * unique in terms of identity in the UniqueVenueList. However, the removal of a venue uses Venue#equals(Object) so
  * as to ensure that the venue with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The venues are also indexed by name, the identity used by
+ * {@code Venue#isSameVenue(Venue)}, so that checking for and looking up a venue takes constant time, and by the
+ * words of their name, so that searching for venues by name does not go through every name.
  *
  * @see Venue#isSameVenue(Venue)
  */
@@ -27,13 +34,24 @@ public class UniqueVenueList implements Iterable<Venue> {
     private final ObservableList<Venue> internalList = FXCollections.observableArrayList();
     private final ObservableList<Venue> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Venue> venuesByName = new HashMap<>();
+    private final WordIndex<Name> venuesByWord = new WordIndex<>();
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent venue as the given argument.
      */
     public boolean contains(Venue toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameVenue);
+        return venuesByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the venue in the list with the given name, if there is one.
+     */
+    public Optional<Venue> getVenue(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(venuesByName.get(name));
     }
 
     /**
@@ -45,7 +63,10 @@ public class UniqueVenueList implements Iterable<Venue> {
         if (contains(toAdd)) {
             throw new DuplicateVenueException();
         }
+        venuesByWord.add(toAdd.getName(), toAdd.getName().venueName);
         internalList.add(toAdd);
+        venuesByName.put(toAdd.getName(), toAdd);
+        modificationCount++;
     }
 
     /**
@@ -65,7 +86,12 @@ public class UniqueVenueList implements Iterable<Venue> {
             throw new DuplicateVenueException();
         }
 
+        venuesByWord.remove(target.getName());
+        venuesByWord.add(editedVenue.getName(), editedVenue.getName().venueName);
         internalList.set(index, editedVenue);
+        venuesByName.remove(target.getName());
+        venuesByName.put(editedVenue.getName(), editedVenue);
+        modificationCount++;
     }
 
     /**
@@ -77,11 +103,14 @@ public class UniqueVenueList implements Iterable<Venue> {
         if (!internalList.remove(toRemove)) {
             throw new VenueNotFoundException();
         }
+        venuesByName.remove(toRemove.getName());
+        venuesByWord.remove(toRemove.getName());
+        modificationCount++;
     }
 
     public void setVenues(UniqueVenueList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setVenues(replacement.internalList);
     }
 
     /**
@@ -90,11 +119,16 @@ public class UniqueVenueList implements Iterable<Venue> {
      */
     public void setVenues(List<Venue> venues) {
         requireAllNonNull(venues);
-        if (!venuesAreUnique(venues)) {
-            throw new DuplicateVenueException();
-        }
+        Map<Name, Venue> replacementByName = indexByName(venues);
 
+        venuesByWord.clear();
+        for (Venue venue : venues) {
+            venuesByWord.add(venue.getName(), venue.getName().venueName);
+        }
         internalList.setAll(venues);
+        venuesByName.clear();
+        venuesByName.putAll(replacementByName);
+        modificationCount++;
     }
 
     /**
@@ -104,6 +138,21 @@ public class UniqueVenueList implements Iterable<Venue> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the names of the venues in the list indexed by the lower-cased words of the names.
+     */
+    public ReadOnlyWordIndex<Name> getNameIndex() {
+        return venuesByWord;
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count changes whenever an element is added, replaced or removed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Venue> iterator() {
         return internalList.iterator();
@@ -135,16 +184,17 @@ public class UniqueVenueList implements Iterable<Venue> {
     }
 
     /**
-     * Returns true if {@code venues} contains only unique venues.
+     * Returns {@code venues} indexed by name.
+     *
+     * @throws DuplicateVenueException if {@code venues} contains duplicate venues.
      */
-    private boolean venuesAreUnique(List<Venue> venues) {
-        for (int i = 0; i < venues.size() - 1; i++) {
-            for (int j = i + 1; j < venues.size(); j++) {
-                if (venues.get(i).isSameVenue(venues.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Venue> indexByName(List<Venue> venues) {
+        Map<Name, Venue> index = new HashMap<>();
+        for (Venue venue : venues) {
+            if (index.put(venue.getName(), venue) != null) {
+                throw new DuplicateVenueException();
             }
         }
-        return true;
+        return index;
     }
 }
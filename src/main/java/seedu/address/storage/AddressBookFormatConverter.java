@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts AddressBook data files between the json and the binary snapshot formats.
+ * Every element and reference in the address book is carried over, so converting a file to the other format and
+ * back gives the same data.
+ *
+ * Can be run on its own, e.g. {@code java -cp EventWise.jar seedu.address.storage.AddressBookFormatConverter
+ * json-to-binary data/addressbook.json data/addressbook.bin}.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String JSON_TO_BINARY = "json-to-binary";
+    public static final String BINARY_TO_JSON = "binary-to-json";
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFormatConverter ("
+            + JSON_TO_BINARY + " | " + BINARY_TO_JSON + ") SOURCE_FILE TARGET_FILE";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Data file %s does not exist.";
+
+    private AddressBookFormatConverter() {}
+
+    /**
+     * Saves the address book read from {@code source} to {@code target}.
+     *
+     * @throws DataLoadingException if {@code source} has no address book, or it could not be read.
+     * @throws IOException if the address book could not be saved to {@code target}.
+     */
+    public static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        ReadOnlyAddressBook addressBook = source.readAddressBook().orElseThrow(() -> new DataLoadingException(
+                new FileNotFoundException(String.format(MESSAGE_SOURCE_NOT_FOUND, source.getAddressBookFilePath()))));
+        target.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts a json data file to a binary snapshot.
+     */
+    public static void jsonToBinary(Path jsonFilePath, Path binaryFilePath) throws DataLoadingException, IOException {
+        convert(new JsonAddressBookStorage(jsonFilePath), new BinaryAddressBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts a binary snapshot to a json data file.
+     */
+    public static void binaryToJson(Path binaryFilePath, Path jsonFilePath) throws DataLoadingException, IOException {
+        convert(new BinaryAddressBookStorage(binaryFilePath), new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 3 || !(args[0].equals(JSON_TO_BINARY) || args[0].equals(BINARY_TO_JSON))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        Path sourcePath = Paths.get(args[1]);
+        Path targetPath = Paths.get(args[2]);
+        try {
+            if (args[0].equals(JSON_TO_BINARY)) {
+                jsonToBinary(sourcePath, targetPath);
+            } else {
+                binaryToJson(sourcePath, targetPath);
+            }
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert " + sourcePath + ": " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.println("Converted " + sourcePath + " to " + targetPath);
+    }
+}
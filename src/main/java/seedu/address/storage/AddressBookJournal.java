@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Reads, appends to and compacts the write-ahead journal kept next to a data file.
+ *
+ * The journal of {@code addressbook.json} is {@code addressbook.json.journal}, with one
+ * {@link JsonAdaptedJournalEntry} per line. While the journal is being folded into the data file it is renamed to
+ * {@code addressbook.json.journal.compacting}. The data file records the sequence number of the last entry folded
+ * into it, so entries that were folded before a crash are skipped instead of being applied twice.
+ */
+class AddressBookJournal {
+
+    public static final String SEQUENCE_FIELD = "journalSequence";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private AddressBookJournal() {}
+
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    public static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal.compacting");
+    }
+
+    /**
+     * Returns true if changes to the data file at {@code filePath} are kept in a journal.
+     */
+    public static boolean hasJournal(Path filePath) {
+        return Files.exists(getJournalPath(filePath)) || Files.exists(getCompactingJournalPath(filePath));
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry folded into {@code addressBook}.
+     */
+    public static long getSequence(ObjectNode addressBook) {
+        JsonNode sequence = addressBook.get(SEQUENCE_FIELD);
+        return sequence == null ? 0 : sequence.asLong();
+    }
+
+    /**
+     * Returns the JSON tree of the data file at {@code filePath} with its journal folded in,
+     * or {@code Optional.empty()} if there is neither a data file nor a journal.
+     *
+     * @throws DataLoadingException if the data file or the journal could not be read.
+     */
+    public static Optional<ObjectNode> read(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ObjectNode> snapshot = JsonUtil.readJsonFile(filePath, ObjectNode.class);
+        if (!snapshot.isPresent() && !hasJournal(filePath)) {
+            return Optional.empty();
+        }
+
+        ObjectNode addressBook = snapshot.orElseGet(JsonNodeFactory.instance::objectNode);
+        applyJournal(addressBook, getCompactingJournalPath(filePath));
+        applyJournal(addressBook, getJournalPath(filePath));
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Converts the JSON tree of a data file into a {@code ReadOnlyAddressBook}.
+     *
+     * @throws DataLoadingException if the tree violates any data constraints.
+     */
+    public static ReadOnlyAddressBook toModelType(ObjectNode addressBook, Path filePath)
+            throws DataLoadingException {
+        try {
+            return JsonUtil.fromJsonNode(addressBook, JsonSerializableAddressBook.class).toModelType();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Appends {@code lines} of journal entries to the journal of the data file at {@code filePath},
+     * and forces them to disk.
+     */
+    public static void append(Path filePath, String lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(getJournalPath(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Folds the compacting journal of the data file at {@code filePath} into the data file, then deletes it.
+     * The {@code backupCount} previous versions of the data file are kept as backups.
+     *
+     * @throws DataLoadingException if the data file or the compacting journal could not be read.
+     * @throws IOException if the data file could not be written.
+     */
+    public static void compact(Path filePath, int backupCount) throws DataLoadingException, IOException {
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        ObjectNode addressBook = JsonUtil.readJsonFile(filePath, ObjectNode.class)
+                .orElseGet(JsonNodeFactory.instance::objectNode);
+        applyJournal(addressBook, compactingJournalPath);
+
+        JsonUtil.saveJsonFile(addressBook, filePath, backupCount);
+        Files.deleteIfExists(compactingJournalPath);
+    }
+
+    /**
+     * Deletes the journal of the data file at {@code filePath}, once everything in it is part of the data file.
+     */
+    public static void delete(Path filePath) throws IOException {
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+    }
+
+    /**
+     * Applies the entries of {@code journalPath} that are newer than {@code addressBook} to it.
+     * A last line that cannot be read is the remains of an append cut short by a crash, and is ignored.
+     */
+    private static void applyJournal(ObjectNode addressBook, Path journalPath) throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        long sequence = getSequence(addressBook);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                    break;
+                }
+                logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+
+            if (entry.getSequence() <= sequence) {
+                continue;
+            }
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            sequence = entry.getSequence();
+        }
+        addressBook.put(SEQUENCE_FIELD, sequence);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.displayable.DisplayableListViewItem;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.rsvp.Rsvp;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.venue.Venue;
+
+/**
+ * An unchanging copy of the lists of a {@code ReadOnlyAddressBook}, as they were when the copy was made.
+ * The elements themselves are shared with the original address book, and are not copied.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+    private final ObservableList<Venue> venues;
+    private final ObservableList<Rsvp> rsvps;
+    private final ObservableList<Person> eventAttendees;
+    private final ObservableList<Vendor> eventVendors;
+    private final ObservableList<DisplayableListViewItem> displayableItems;
+    private final ObservableList<Vendor> vendors;
+    private final long modificationCount;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = copyOf(source.getPersonList());
+        events = copyOf(source.getEventList());
+        venues = copyOf(source.getVenueList());
+        rsvps = copyOf(source.getRsvpList());
+        eventAttendees = copyOf(source.getEventAttendeesList());
+        eventVendors = copyOf(source.getEventVendorsList());
+        displayableItems = copyOf(source.getDisplayableItemList());
+        vendors = copyOf(source.getVendorList());
+        modificationCount = source.getModificationCount();
+    }
+
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public ObservableList<Venue> getVenueList() {
+        return venues;
+    }
+
+    @Override
+    public ObservableList<Rsvp> getRsvpList() {
+        return rsvps;
+    }
+
+    @Override
+    public ObservableList<Person> getEventAttendeesList() {
+        return eventAttendees;
+    }
+
+    @Override
+    public ObservableList<Vendor> getEventVendorsList() {
+        return eventVendors;
+    }
+
+    @Override
+    public ObservableList<DisplayableListViewItem> getDisplayableItemList() {
+        return displayableItems;
+    }
+
+    @Override
+    public ObservableList<Vendor> getVendorList() {
+        return vendors;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+}
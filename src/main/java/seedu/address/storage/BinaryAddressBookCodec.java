@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.Note;
+import seedu.address.model.event.ToDate;
+import seedu.address.model.person.Person;
+import seedu.address.model.rsvp.Rsvp;
+import seedu.address.model.rsvp.RsvpStatus;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.venue.Address;
+import seedu.address.model.venue.Capacity;
+import seedu.address.model.venue.Venue;
+
+/**
+ * Writes and reads the binary snapshot format of an address book.
+ *
+ * A snapshot starts with {@link #MAGIC} and {@link #VERSION}, followed by a table of every distinct string in the
+ * address book, each written once as a length-prefixed UTF-8 string. The persons, venues, vendors, events and RSVPs
+ * lists follow, each as a count and then its elements. Every field is an index into the string table, and every
+ * reference from an event or RSVP is the index of the element in its list. {@code -1} stands for a missing note or
+ * venue.
+ */
+class BinaryAddressBookCodec {
+
+    public static final int MAGIC = 0x45574142; // "EWAB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "Data file is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot version %d is not supported.";
+    public static final String MESSAGE_TRUNCATED = "Address book snapshot ends before all of its data.";
+    public static final String MESSAGE_INVALID_INDEX = "Address book snapshot refers to a missing %s.";
+    public static final String MESSAGE_DUPLICATE_ELEMENT = "Address book snapshot contains duplicate %s(s).";
+    public static final String MESSAGE_UNSAVED_REFERENCE = "%s '%s' is referenced but not in the address book.";
+
+    private static final int NONE = -1;
+
+    private BinaryAddressBookCodec() {}
+
+    /**
+     * Writes {@code source} as a snapshot to {@code out}.
+     *
+     * @throws IOException if {@code out} could not be written to, or an event refers to an entity that is not in
+     *     the address book.
+     */
+    public static void write(ReadOnlyAddressBook source, DataOutputStream out) throws IOException {
+        List<Rsvp> rsvps = JsonSerializableAddressBook.getStorableRsvps(source);
+        StringTable strings = new StringTable();
+        Map<String, Integer> personIndexes = new HashMap<>();
+        Map<String, Integer> venueIndexes = new HashMap<>();
+        Map<String, Integer> vendorIndexes = new HashMap<>();
+        Map<String, Integer> eventIndexes = new HashMap<>();
+
+        List<int[]> personRecords = new ArrayList<>();
+        for (Person person : source.getPersonList()) {
+            personIndexes.put(person.getName().fullName, personRecords.size());
+            personRecords.add(new int[] {strings.indexOf(person.getName().fullName),
+                strings.indexOf(person.getPhone().value), strings.indexOf(person.getEmail().value)});
+        }
+
+        List<int[]> venueRecords = new ArrayList<>();
+        for (Venue venue : source.getVenueList()) {
+            venueIndexes.put(venue.getName().venueName, venueRecords.size());
+            venueRecords.add(new int[] {strings.indexOf(venue.getName().venueName),
+                strings.indexOf(venue.getAddress().venueAddress), strings.indexOf(venue.getCapacity().venueCapacity)});
+        }
+
+        List<int[]> vendorRecords = new ArrayList<>();
+        for (Vendor vendor : source.getVendorList()) {
+            vendorIndexes.put(vendor.getName().vendorName, vendorRecords.size());
+            vendorRecords.add(new int[] {strings.indexOf(vendor.getName().vendorName),
+                strings.indexOf(vendor.getPhone().vendorPhone), strings.indexOf(vendor.getEmail().vendorEmail)});
+        }
+
+        List<int[]> eventRecords = new ArrayList<>();
+        for (Event event : source.getEventList()) {
+            eventIndexes.put(event.getName().eventName, eventRecords.size());
+            eventRecords.add(toEventRecord(event, strings, personIndexes, venueIndexes, vendorIndexes));
+        }
+
+        List<int[]> rsvpRecords = new ArrayList<>();
+        for (Rsvp rsvp : rsvps) {
+            rsvpRecords.add(new int[] {eventIndexes.get(rsvp.getEventName().eventName),
+                personIndexes.get(rsvp.getPersonName().fullName), strings.indexOf(rsvp.getRsvpStatus().name())});
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        strings.writeTo(out);
+        writeRecords(out, personRecords);
+        writeRecords(out, venueRecords);
+        writeRecords(out, vendorRecords);
+        writeRecords(out, eventRecords);
+        writeRecords(out, rsvpRecords);
+        out.flush();
+    }
+
+    /**
+     * Returns the fields of {@code event} as indexes, as laid out in the snapshot: name, description, from date,
+     * to date, note, the number of guests and their indexes, the number of vendors and their indexes, and the venue.
+     */
+    private static int[] toEventRecord(Event event, StringTable strings, Map<String, Integer> personIndexes,
+            Map<String, Integer> venueIndexes, Map<String, Integer> vendorIndexes) throws IOException {
+        List<Integer> record = new ArrayList<>();
+        record.add(strings.indexOf(event.getName().eventName));
+        record.add(strings.indexOf(event.getDescription().eventDesc));
+        record.add(strings.indexOf(event.getFromDate().eventDate));
+        record.add(strings.indexOf(event.getToDate().eventDate));
+        record.add(event.getNote() == null ? NONE : strings.indexOf(event.getNote().note));
+
+        addReferences(record, event.getPersons(), personIndexes, Person.class, person -> person.getName().fullName);
+        addReferences(record, event.getVendors(), vendorIndexes, Vendor.class,
+                vendor -> vendor.getName().vendorName);
+        record.add(event.getVenue() == null
+                ? NONE
+                : indexOfReference(venueIndexes, Venue.class, event.getVenue().getName().venueName));
+
+        return record.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Adds the number of {@code elements} and their indexes to {@code record}.
+     * A list read lazily from a snapshot that has not been used yet is written from the indexes it was read with,
+     * so that saving does not look up its elements.
+     */
+    private static <T> void addReferences(List<Integer> record, List<T> elements, Map<String, Integer> indexes,
+            Class<T> type, Function<T, String> nameOf) throws IOException {
+        record.add(elements.size());
+        int[] rawIndexes = elements instanceof LazyReferenceList
+                ? ((LazyReferenceList<T>) elements).getRawIndexes()
+                : null;
+        if (rawIndexes == null) {
+            for (T element : elements) {
+                record.add(indexOfReference(indexes, type, nameOf.apply(element)));
+            }
+            return;
+        }
+
+        List<T> targets = ((LazyReferenceList<T>) elements).getTargets();
+        for (int rawIndex : rawIndexes) {
+            record.add(indexOfReference(indexes, type, nameOf.apply(targets.get(rawIndex))));
+        }
+    }
+
+    private static int indexOfReference(Map<String, Integer> indexes, Class<?> type, String name) throws IOException {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            throw new IOException(String.format(MESSAGE_UNSAVED_REFERENCE, type.getSimpleName(), name));
+        }
+        return index;
+    }
+
+    private static void writeRecords(DataOutputStream out, List<int[]> records) throws IOException {
+        out.writeInt(records.size());
+        for (int[] record : records) {
+            for (int field : record) {
+                out.writeInt(field);
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot from {@code in} into the model's {@code AddressBook} object.
+     * If {@code isLazy} is true, only the indexes of the guests and vendors of each event are kept, and the guests
+     * and vendors are looked up when the event's lists are first used. {@code in} is not needed once read.
+     *
+     * @throws IllegalValueException if the snapshot is malformed or there were any data constraints violated.
+     */
+    public static AddressBook read(ByteBuffer in, boolean isLazy) throws IllegalValueException {
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = in.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] strings = new String[readCount(in, Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(in, 1)];
+                in.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            return readLists(in, strings, isLazy);
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED, bue);
+        } catch (IllegalArgumentException iae) {
+            // Thrown by the model's constructors for fields that violate their constraints
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+    }
+
+    private static AddressBook readLists(ByteBuffer in, String[] strings, boolean isLazy)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+
+        List<Person> persons = new ArrayList<>();
+        for (int count = readCount(in, Integer.BYTES); persons.size() < count; ) {
+            Person person = new Person(new seedu.address.model.person.Name(readString(in, strings)),
+                    new seedu.address.model.person.Phone(readString(in, strings)),
+                    new seedu.address.model.person.Email(readString(in, strings)));
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ELEMENT, "person"));
+            }
+            addressBook.addPerson(person);
+            persons.add(person);
+        }
+
+        List<Venue> venues = new ArrayList<>();
+        for (int count = readCount(in, Integer.BYTES); venues.size() < count; ) {
+            Venue venue = new Venue(new seedu.address.model.venue.Name(readString(in, strings)),
+                    new Address(readString(in, strings)), new Capacity(readString(in, strings)));
+            if (addressBook.hasVenue(venue)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ELEMENT, "venue"));
+            }
+            addressBook.addVenue(venue);
+            venues.add(venue);
+        }
+
+        List<Vendor> vendors = new ArrayList<>();
+        for (int count = readCount(in, Integer.BYTES); vendors.size() < count; ) {
+            Vendor vendor = new Vendor(new seedu.address.model.vendor.Name(readString(in, strings)),
+                    new seedu.address.model.vendor.Phone(readString(in, strings)),
+                    new seedu.address.model.vendor.Email(readString(in, strings)));
+            if (addressBook.hasVendor(vendor)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ELEMENT, "vendor"));
+            }
+            addressBook.addVendor(vendor);
+            vendors.add(vendor);
+        }
+
+        List<Event> events = new ArrayList<>();
+        for (int count = readCount(in, Integer.BYTES); events.size() < count; ) {
+            Event event = readEvent(in, strings, persons, venues, vendors, isLazy);
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ELEMENT, "event"));
+            }
+            addressBook.addEvent(event);
+            events.add(event);
+        }
+
+        for (int count = readCount(in, Integer.BYTES), read = 0; read < count; read++) {
+            Event event = readElement(in, events, "event");
+            Person person = readElement(in, persons, "person");
+            Rsvp rsvp = new Rsvp(event, person, readRsvpStatus(in, strings));
+            if (addressBook.hasRsvp(rsvp)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ELEMENT, "RSVP"));
+            }
+            addressBook.addRsvp(rsvp);
+        }
+        return addressBook;
+    }
+
+    private static Event readEvent(ByteBuffer in, String[] strings, List<Person> persons, List<Venue> venues,
+            List<Vendor> vendors, boolean isLazy) throws IllegalValueException {
+        seedu.address.model.event.Name name = new seedu.address.model.event.Name(readString(in, strings));
+        Description description = new Description(readString(in, strings));
+        FromDate fromDate = new FromDate(readString(in, strings));
+        ToDate toDate = new ToDate(readString(in, strings));
+        int noteIndex = in.getInt();
+        Note note = noteIndex == NONE ? null : new Note(getString(strings, noteIndex));
+        List<Person> guests = readReferences(in, persons, "person", isLazy);
+        List<Vendor> eventVendors = readReferences(in, vendors, "vendor", isLazy);
+        int venueIndex = in.getInt();
+        Venue venue = venueIndex == NONE ? null : getElement(venues, venueIndex, "venue");
+
+        return new Event(name, description, fromDate, toDate, note, guests, eventVendors, venue);
+    }
+
+    /**
+     * Reads a count and that many indexes into {@code targets}, as the list of the elements they refer to.
+     * If {@code isLazy} is true, the indexes are only checked, and are looked up when the list is first used.
+     */
+    private static <T> List<T> readReferences(ByteBuffer in, List<T> targets, String elementName, boolean isLazy)
+            throws IllegalValueException {
+        int count = readCount(in, Integer.BYTES);
+        if (isLazy) {
+            int[] rawIndexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                rawIndexes[i] = in.getInt();
+                checkIndex(rawIndexes[i], targets.size(), elementName);
+            }
+            return new LazyReferenceList<>(rawIndexes, targets);
+        }
+
+        List<T> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            elements.add(readElement(in, targets, elementName));
+        }
+        return elements;
+    }
+
+    private static RsvpStatus readRsvpStatus(ByteBuffer in, String[] strings) throws IllegalValueException {
+        try {
+            return RsvpStatus.getRsvpStatus(readString(in, strings));
+        } catch (ParseException pe) {
+            throw new IllegalValueException(pe.getMessage(), pe);
+        }
+    }
+
+    /**
+     * Reads the number of elements that follow, each of which takes up at least {@code elementBytes}.
+     * A count that is negative or more than the rest of the snapshot can hold means the snapshot is corrupted.
+     */
+    private static int readCount(ByteBuffer in, int elementBytes) throws IllegalValueException {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining() / elementBytes) {
+            throw new IllegalValueException(count < 0 ? MESSAGE_NOT_A_SNAPSHOT : MESSAGE_TRUNCATED);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer in, String[] strings) throws IllegalValueException {
+        return getString(strings, in.getInt());
+    }
+
+    private static String getString(String[] strings, int index) throws IllegalValueException {
+        checkIndex(index, strings.length, "string");
+        return strings[index];
+    }
+
+    private static <T> T readElement(ByteBuffer in, List<T> elements, String elementName)
+            throws IllegalValueException {
+        return getElement(elements, in.getInt(), elementName);
+    }
+
+    private static <T> T getElement(List<T> elements, int index, String elementName) throws IllegalValueException {
+        checkIndex(index, elements.size(), elementName);
+        return elements.get(index);
+    }
+
+    private static void checkIndex(int index, int size, String elementName) throws IllegalValueException {
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, elementName));
+        }
+    }
+
+    /**
+     * The distinct strings of a snapshot, each with the index it is written at.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int indexOf(String string) {
+            return indexes.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is much quicker to load than the json file, but cannot be edited by hand.
+ * If the snapshot cannot be read, the data is recovered from the newest backup of the snapshot that can be read.
+ *
+ * @see BinaryAddressBookCodec
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final int backupCount;
+    private final boolean isLazyLoading;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0, false);
+    }
+
+    /**
+     * Creates a storage that keeps the {@code backupCount} previous versions of the snapshot as backups.
+     * If {@code isLazyLoading} is true, only the indexes of the guests and vendors of each event are kept when the
+     * snapshot is read, and the guests and vendors are looked up when they are first used, or never if the event is
+     * only saved again.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount, boolean isLazyLoading) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+        this.isLazyLoading = isLazyLoading;
+    }
+
+    /**
+     * Returns the path of the snapshot kept in place of the json file at {@code jsonFilePath}.
+     * {@code data/addressbook.json} is kept as {@code data/addressbook.bin}.
+     */
+    public static Path getSnapshotPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            return readSnapshot(filePath);
+        } catch (DataLoadingException e) {
+            for (int generation = 1; FileUtil.isFileExists(FileUtil.getBackupPath(filePath, generation));
+                    generation++) {
+                Path backupPath = FileUtil.getBackupPath(filePath, generation);
+                try {
+                    Optional<ReadOnlyAddressBook> addressBook = readSnapshot(backupPath);
+                    logger.warning("Recovered data from backup " + backupPath + " as " + filePath
+                            + " could not be loaded.");
+                    return addressBook;
+                } catch (DataLoadingException backupException) {
+                    logger.warning("Backup " + backupPath + " could not be loaded either.");
+                }
+            }
+            throw e;
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readSnapshot(Path filePath) throws DataLoadingException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        // The snapshot is copied onto the heap rather than memory-mapped, as a mapped file cannot be replaced on some
+        // platforms until the mapping is garbage collected, which would make the next save fail
+        try {
+            ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(BinaryAddressBookCodec.read(snapshot, isLazyLoading));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFile(filePath, out -> BinaryAddressBookCodec.write(addressBook, new DataOutputStream(out)),
+                backupCount);
+    }
+
+}
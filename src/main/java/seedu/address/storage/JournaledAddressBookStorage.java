@@ -0,0 +1,325 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, together with a write-ahead journal
+ * of the changes made since the file was last written.
+ *
+ * Each save only appends the elements of the persons, venues, vendors, events and RSVPs lists that changed since
+ * the previous save, found by comparing the lists against the elements last saved by identity. The journal is
+ * folded into the json file in the background once it holds too many entries or its oldest entry is too old.
+ * Each time the json file is rewritten, its previous versions are kept as backups, and if the json file and journal
+ * cannot be read, the data is recovered from the newest backup that can be read, without the journal.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 500;
+    public static final Duration DEFAULT_MAX_JOURNAL_AGE = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int backupCount;
+    private final int maxJournalEntries;
+    private final Duration maxJournalAge;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<TrackedList<?>> trackedLists = List.of(
+            new TrackedList<>("persons", ReadOnlyAddressBook::getPersonList, JsonAdaptedPerson::new),
+            new TrackedList<>("venues", ReadOnlyAddressBook::getVenueList, JsonAdaptedVenue::new),
+            new TrackedList<>("vendors", ReadOnlyAddressBook::getVendorList, JsonAdaptedVendor::new),
+            new TrackedList<>("events", ReadOnlyAddressBook::getEventList, JsonAdaptedEvent::new),
+            new TrackedList<>("rsvps", JsonSerializableAddressBook::getStorableRsvps, JsonAdaptedRsvp::new));
+
+    private boolean hasBaseline;
+    private long sequence;
+    private int journalEntries;
+    private long oldestEntryTime;
+    private Future<Void> pendingCompaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps the {@code backupCount} previous versions of the json file as backups.
+     */
+    public JournaledAddressBookStorage(Path filePath, int backupCount) {
+        this(filePath, backupCount, DEFAULT_MAX_JOURNAL_ENTRIES, DEFAULT_MAX_JOURNAL_AGE);
+    }
+
+    /**
+     * Creates a storage that keeps the {@code backupCount} previous versions of the json file as backups, and
+     * compacts the journal once it holds {@code maxJournalEntries} entries, or once its oldest entry is older than
+     * {@code maxJournalAge}.
+     */
+    public JournaledAddressBookStorage(Path filePath, int backupCount, int maxJournalEntries, Duration maxJournalAge) {
+        requireNonNull(filePath);
+        requireNonNull(maxJournalAge);
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+        this.maxJournalEntries = maxJournalEntries;
+        this.maxJournalAge = maxJournalAge;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return AddressBookJournal.getJournalPath(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The address book read from this storage's own file is what later saves are compared against.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            awaitCompaction();
+        }
+
+        Optional<ObjectNode> jsonAddressBook;
+        ReadOnlyAddressBook addressBook;
+        try {
+            jsonAddressBook = AddressBookJournal.read(filePath);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+            addressBook = AddressBookJournal.toModelType(jsonAddressBook.get(), filePath);
+        } catch (DataLoadingException e) {
+            Optional<ReadOnlyAddressBook> recovered = JsonAddressBookStorage.readNewestBackup(filePath, e);
+            if (filePath.equals(this.filePath)) {
+                // The json file and journal cannot be built on, so the next save writes everything
+                hasBaseline = false;
+            }
+            return recovered;
+        }
+
+        if (filePath.equals(this.filePath)) {
+            trackedLists.forEach(trackedList -> trackedList.reset(addressBook));
+            sequence = AddressBookJournal.getSequence(jsonAddressBook.get());
+            hasBaseline = true;
+            journalEntries = 0;
+            oldestEntryTime = System.currentTimeMillis();
+            if (AddressBookJournal.hasJournal(filePath)) {
+                try {
+                    startCompaction();
+                } catch (IOException ioe) {
+                    logger.warning("Failed to start compacting journal of " + filePath + ": " + ioe);
+                }
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file other than this storage's own writes the whole address book, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+        if (!hasBaseline) {
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        long timestamp = System.currentTimeMillis();
+        int entryCount = 0;
+        try {
+            StringBuilder entries = new StringBuilder();
+            for (TrackedList<?> trackedList : trackedLists) {
+                Optional<JsonAdaptedJournalEntry> entry = trackedList.update(addressBook, sequence + 1, timestamp);
+                if (entry.isPresent()) {
+                    sequence++;
+                    entryCount++;
+                    entries.append(JsonUtil.toCompactJsonString(entry.get())).append(System.lineSeparator());
+                }
+            }
+            if (entryCount == 0) {
+                return;
+            }
+            AddressBookJournal.append(filePath, entries.toString());
+        } catch (IOException ioe) {
+            // The saved elements have moved past what is on disk, so the next save has to write everything
+            hasBaseline = false;
+            throw ioe;
+        }
+
+        if (journalEntries == 0) {
+            oldestEntryTime = timestamp;
+        }
+        journalEntries += entryCount;
+        if (journalEntries >= maxJournalEntries || timestamp - oldestEntryTime >= maxJournalAge.toMillis()) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Waits for any compaction in progress to finish.
+     */
+    public synchronized void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + ee.getCause());
+            hasBaseline = false;
+        }
+        pendingCompaction = null;
+    }
+
+    /**
+     * Writes the whole address book to the json file and starts a new, empty journal.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+
+        ObjectNode jsonAddressBook = (ObjectNode) JsonUtil.toJsonNode(new JsonSerializableAddressBook(addressBook));
+        jsonAddressBook.put(AddressBookJournal.SEQUENCE_FIELD, sequence);
+        JsonUtil.saveJsonFile(jsonAddressBook, filePath, backupCount);
+        AddressBookJournal.delete(filePath);
+
+        trackedLists.forEach(trackedList -> trackedList.reset(addressBook));
+        hasBaseline = true;
+        journalEntries = 0;
+    }
+
+    /**
+     * Hands the journal over to be folded into the json file in the background, and starts a new journal.
+     * A journal left over from a compaction that did not finish is folded in first.
+     */
+    private void startCompaction() throws IOException {
+        if (pendingCompaction != null) {
+            if (!pendingCompaction.isDone()) {
+                return;
+            }
+            awaitCompaction();
+            if (!hasBaseline) {
+                return;
+            }
+        }
+
+        Path compactingJournalPath = AddressBookJournal.getCompactingJournalPath(filePath);
+        if (!Files.exists(compactingJournalPath)) {
+            Files.move(getJournalFilePath(), compactingJournalPath);
+            journalEntries = 0;
+        }
+        pendingCompaction = compactionExecutor.submit(() -> {
+            AddressBookJournal.compact(filePath, backupCount);
+            logger.fine("Compacted journal of " + filePath);
+            return null;
+        });
+    }
+
+    /**
+     * One top-level list of the address book, with the elements it had when last saved.
+     */
+    private static class TrackedList<T> {
+        private final String name;
+        private final Function<ReadOnlyAddressBook, List<T>> elementsGetter;
+        private final Function<T, Object> jsonAdapter;
+        private final List<T> savedElements = new ArrayList<>();
+
+        TrackedList(String name, Function<ReadOnlyAddressBook, List<T>> elementsGetter,
+                Function<T, Object> jsonAdapter) {
+            this.name = name;
+            this.elementsGetter = elementsGetter;
+            this.jsonAdapter = jsonAdapter;
+        }
+
+        void reset(ReadOnlyAddressBook addressBook) {
+            savedElements.clear();
+            savedElements.addAll(elementsGetter.apply(addressBook));
+        }
+
+        /**
+         * Returns the journal entry that turns the saved elements into the current elements of the list,
+         * if they differ, and takes the current elements as saved.
+         * Only the run of elements between the unchanged head and the unchanged tail of the list is written.
+         */
+        Optional<JsonAdaptedJournalEntry> update(ReadOnlyAddressBook addressBook, long sequence, long timestamp) {
+            List<T> elements = elementsGetter.apply(addressBook);
+            int commonLength = Math.min(elements.size(), savedElements.size());
+
+            int head = 0;
+            while (head < commonLength && elements.get(head) == savedElements.get(head)) {
+                head++;
+            }
+            int tail = 0;
+            while (tail < commonLength - head && elements.get(elements.size() - 1 - tail)
+                    == savedElements.get(savedElements.size() - 1 - tail)) {
+                tail++;
+            }
+
+            List<T> removed = savedElements.subList(head, savedElements.size() - tail);
+            List<T> added = elements.subList(head, elements.size() - tail);
+            if (removed.isEmpty() && added.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<JsonNode> addedJson = new ArrayList<>();
+            for (T element : added) {
+                addedJson.add(JsonUtil.toJsonNode(jsonAdapter.apply(element)));
+            }
+            JsonAdaptedJournalEntry entry =
+                    new JsonAdaptedJournalEntry(sequence, timestamp, name, head, removed.size(), addedJson);
+            removed.clear();
+            savedElements.addAll(head, added);
+            return Optional.of(entry);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import seedu.address.model.venue.Venue;
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * Guests, vendors and the venue are stored as references to the top-level lists of the data file.
  */
 class JsonAdaptedEvent {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
@@ -29,22 +30,22 @@ class JsonAdaptedEvent {
     private final String fromDate;
     private final String toDate;
     private final String note;
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
-    private final List<JsonAdaptedVendor> vendors = new ArrayList<>();
-    private final JsonAdaptedVenue venue;
+    private final List<JsonAdaptedReference> persons = new ArrayList<>();
+    private final List<JsonAdaptedReference> vendors = new ArrayList<>();
+    private final JsonAdaptedReference venue;
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
      */
     @JsonCreator
     public JsonAdaptedEvent(@JsonProperty("name") String name,
-                            @JsonProperty("email") String description,
+                            @JsonProperty("description") String description,
                             @JsonProperty("fromDate") String fromDate,
                             @JsonProperty("toDate") String toDate,
                             @JsonProperty("note") String note,
-                            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                            @JsonProperty("vendors") List<JsonAdaptedVendor> vendors,
-                            @JsonProperty("venue") JsonAdaptedVenue venue) {
+                            @JsonProperty("persons") List<JsonAdaptedReference> persons,
+                            @JsonProperty("vendors") List<JsonAdaptedReference> vendors,
+                            @JsonProperty("venue") JsonAdaptedReference venue) {
         this.name = name;
         this.description = description;
         this.fromDate = fromDate;
@@ -73,24 +74,25 @@ class JsonAdaptedEvent {
             note = source.getNote().note;
         }
         persons.addAll(source.getPersons().stream()
-                .map(JsonAdaptedPerson::new)
+                .map(person -> new JsonAdaptedReference(person.getName().fullName))
                 .collect(Collectors.toList()));
         vendors.addAll(source.getVendors().stream()
-                .map(JsonAdaptedVendor::new)
+                .map(vendor -> new JsonAdaptedReference(vendor.getName().vendorName))
                 .collect(Collectors.toList()));
         if (source.getVenue() != null) {
-            venue = new JsonAdaptedVenue(source.getVenue());
+            venue = new JsonAdaptedReference(source.getVenue().getName().venueName);
         } else {
             venue = null;
         }
     }
 
     /**
-     * Converts this Jackson-friendly adapted vendor object into the model's {@code Event} object.
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Guests, vendors and the venue are looked up through {@code resolver}.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted vendor.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(JsonReferenceResolver resolver) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -135,23 +137,21 @@ class JsonAdaptedEvent {
             }
         }
 
-        final List<Person> personList = new ArrayList<>();
-        for (JsonAdaptedPerson person: persons) {
-            personList.add(person.toModelType());
+        final List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedReference person: persons) {
+            modelPersons.add(resolver.resolvePerson(person));
         }
-        final List<Person> modelPersons = new ArrayList<>(personList);
 
-        final List<Vendor> vendorList = new ArrayList<>();
-        for (JsonAdaptedVendor vendor: vendors) {
-            vendorList.add(vendor.toModelType());
+        final List<Vendor> modelVendors = new ArrayList<>();
+        for (JsonAdaptedReference vendor: vendors) {
+            modelVendors.add(resolver.resolveVendor(vendor));
         }
-        final List<Vendor> modelVendors = new ArrayList<>(vendorList);
 
         if (venue == null) {
             return new Event(modelName, modelDescription, modelFromDate, modelToDate,
                     modelNote, modelPersons, modelVendors, null);
         } else {
-            final Venue modelVenue = venue.toModelType();
+            final Venue modelVenue = resolver.resolveVenue(venue);
             return new Event(modelName, modelDescription, modelFromDate, modelToDate, modelNote,
                     modelPersons, modelVendors, modelVenue);
         }
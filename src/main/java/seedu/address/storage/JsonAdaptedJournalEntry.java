@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of one change to a data file, as appended to its journal.
+ * An entry replaces {@code removed} elements of the named top-level list, starting at position {@code from},
+ * with the elements in {@code added}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_ENTRY_MISMATCH = "Journal entry %d does not match the data it applies to.";
+
+    private final long sequence;
+    private final long timestamp;
+    private final String list;
+    private final int from;
+    private final int removed;
+    private final List<JsonNode> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+            @JsonProperty("timestamp") long timestamp, @JsonProperty("list") String list,
+            @JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<JsonNode> added) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Applies this change to the JSON tree of a data file.
+     *
+     * @throws IllegalValueException if the change does not fit the list it applies to.
+     */
+    public void applyTo(ObjectNode addressBook) throws IllegalValueException {
+        JsonNode target = addressBook.get(list);
+        if (list == null || (target != null && !target.isArray())) {
+            throw new IllegalValueException(String.format(MESSAGE_ENTRY_MISMATCH, sequence));
+        }
+        ArrayNode elements = target == null ? addressBook.putArray(list) : (ArrayNode) target;
+        if (from < 0 || removed < 0 || from + removed > elements.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_ENTRY_MISMATCH, sequence));
+        }
+
+        for (int i = 0; i < removed; i++) {
+            elements.remove(from);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            elements.insert(from + i, added.get(i));
+        }
+    }
+}
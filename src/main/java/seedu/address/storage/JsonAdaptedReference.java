@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Jackson-friendly reference to a person, vendor, venue or event stored elsewhere in the data file.
+ * A reference is written as the identity name of the entity it points to.
+ *
+ * Data files written by older versions embed a full copy of the entity instead of its name. Such references
+ * are still accepted when reading so that older data files can be migrated, and keep the embedded copy.
+ */
+class JsonAdaptedReference {
+
+    public static final String MISSING_NAME_MESSAGE = "Reference is missing the name of the entity it refers to!";
+
+    private final String name;
+    private final JsonNode legacyEntity;
+
+    /**
+     * Constructs a {@code JsonAdaptedReference} to the entity with the given {@code name}.
+     */
+    public JsonAdaptedReference(String name) {
+        this(name, null);
+    }
+
+    private JsonAdaptedReference(String name, JsonNode legacyEntity) {
+        this.name = name;
+        this.legacyEntity = legacyEntity;
+    }
+
+    /**
+     * Reads a reference that is either the name of the entity or, in older data files, the embedded entity.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static JsonAdaptedReference fromJson(JsonNode node) {
+        if (node.isObject()) {
+            JsonNode nameNode = node.get("name");
+            String name = (nameNode == null || nameNode.isNull()) ? null : nameNode.asText();
+            return new JsonAdaptedReference(name, node);
+        }
+        return new JsonAdaptedReference(node.asText());
+    }
+
+    @JsonValue
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns true if this reference was read from an older data file that embeds the whole entity.
+     */
+    public boolean isLegacy() {
+        return legacyEntity != null;
+    }
+
+    /**
+     * Returns the embedded entity of a reference read from an older data file, or null otherwise.
+     */
+    public JsonNode getLegacyEntity() {
+        return legacyEntity;
+    }
+}
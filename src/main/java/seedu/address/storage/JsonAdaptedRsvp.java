@@ -11,21 +11,22 @@ import seedu.address.model.rsvp.RsvpStatus;
 
 /**
  * Jackson-friendly version of {@link Rsvp}.
+ * The event and person are stored as references to the top-level lists of the data file.
  */
 class JsonAdaptedRsvp {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "RSVP's %s field is missing!";
 
-    private final JsonAdaptedEvent event;
-    private final JsonAdaptedPerson person;
+    private final JsonAdaptedReference event;
+    private final JsonAdaptedReference person;
     private final String status;
 
     /**
      * Constructs a {@code JsonAdaptedRSVP} with the given rsvp details.
      */
     @JsonCreator
-    public JsonAdaptedRsvp(@JsonProperty("event") JsonAdaptedEvent event,
-                           @JsonProperty("person") JsonAdaptedPerson person,
+    public JsonAdaptedRsvp(@JsonProperty("event") JsonAdaptedReference event,
+                           @JsonProperty("person") JsonAdaptedReference person,
                            @JsonProperty("status") String status) {
         this.event = event;
         this.person = person;
@@ -36,17 +37,18 @@ class JsonAdaptedRsvp {
      * Converts a given {@code RSVP} into this class for Jackson use.
      */
     public JsonAdaptedRsvp(Rsvp source) {
-        event = new JsonAdaptedEvent(source.getEvent());
-        person = new JsonAdaptedPerson(source.getPerson());
+        event = new JsonAdaptedReference(source.getEventName().eventName);
+        person = new JsonAdaptedReference(source.getPersonName().fullName);
         status = source.getRsvpStatus().name();
     }
 
     /**
      * Converts this Jackson-friendly adapted Rsvp object into the model's {@code Rsvp} object.
+     * The event and person are looked up through {@code resolver}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted Rsvp.
      */
-    public Rsvp toModelType() throws IllegalValueException {
+    public Rsvp toModelType(JsonReferenceResolver resolver) throws IllegalValueException {
         if (event == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Event.class.getSimpleName()));
         }
@@ -58,6 +60,6 @@ class JsonAdaptedRsvp {
                     RsvpStatus.class.getSimpleName()));
         }
         RsvpStatus rsvpStatus = RsvpStatus.getRsvpStatus(status);
-        return new Rsvp(event.toModelType(), person.toModelType(), rsvpStatus);
+        return new Rsvp(resolver.resolveEvent(event), resolver.resolvePerson(person), rsvpStatus);
     }
 }
@@ -7,6 +7,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,15 +19,25 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * If the json file cannot be read, the data is recovered from the newest backup of the file that can be read.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps the {@code backupCount} previous versions of the json file as backups.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,15 +58,53 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook =
-                JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class);
+        try {
+            return readAddressBookFile(filePath);
+        } catch (DataLoadingException e) {
+            return readNewestBackup(filePath, e);
+        }
+    }
 
-        if (!jsonAddressBook.isPresent()) {
+    /**
+     * Returns the address book in the newest backup of the json file at {@code filePath} that can be read,
+     * as the json file itself could not be loaded because of {@code cause}.
+     *
+     * @throws DataLoadingException {@code cause}, if no backup can be read either.
+     */
+    static Optional<ReadOnlyAddressBook> readNewestBackup(Path filePath, DataLoadingException cause)
+            throws DataLoadingException {
+        for (int generation = 1; FileUtil.isFileExists(FileUtil.getBackupPath(filePath, generation)); generation++) {
+            Path backupPath = FileUtil.getBackupPath(filePath, generation);
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(backupPath);
+                logger.warning("Recovered data from backup " + backupPath + " as " + filePath
+                        + " could not be loaded.");
+                return addressBook;
+            } catch (DataLoadingException backupException) {
+                logger.warning("Backup " + backupPath + " could not be loaded either.");
+            }
+        }
+        throw cause;
+    }
+
+    private static Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (AddressBookJournal.hasJournal(filePath)) {
+            // Left behind by a JournaledAddressBookStorage, and holds changes that are not in the file yet
+            Optional<ObjectNode> journaledAddressBook = AddressBookJournal.read(filePath);
+            if (journaledAddressBook.isPresent()) {
+                return Optional.of(AddressBookJournal.toModelType(journaledAddressBook.get(), filePath));
+            }
+        }
+
+        if (!FileUtil.isFileExists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.read(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,8 +125,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(filePath, backupCount,
+                generator -> JsonSerializableAddressBook.write(addressBook, generator));
+        AddressBookJournal.delete(filePath);
     }
 
 }
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.venue.Venue;
+
+/**
+ * Resolves {@link JsonAdaptedReference}s against the persons, vendors, venues and events that have already
+ * been loaded from the top-level lists of a data file.
+ *
+ * References from older data files embed a copy of the entity. These resolve to the loaded entity of the same
+ * name if there is one, and otherwise to their embedded copy, so that every older data file can be migrated.
+ */
+class JsonReferenceResolver {
+
+    public static final String MESSAGE_UNKNOWN_REFERENCE = "%s '%s' is referenced but does not exist.";
+
+    private final Map<String, Person> persons = new HashMap<>();
+    private final Map<String, Vendor> vendors = new HashMap<>();
+    private final Map<String, Venue> venues = new HashMap<>();
+    private final Map<String, Event> events = new HashMap<>();
+
+    /**
+     * Makes {@code person} available to references by its name.
+     */
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        persons.put(person.getName().fullName, person);
+    }
+
+    /**
+     * Makes {@code vendor} available to references by its name.
+     */
+    public void addVendor(Vendor vendor) {
+        requireNonNull(vendor);
+        vendors.put(vendor.getName().vendorName, vendor);
+    }
+
+    /**
+     * Makes {@code venue} available to references by its name.
+     */
+    public void addVenue(Venue venue) {
+        requireNonNull(venue);
+        venues.put(venue.getName().venueName, venue);
+    }
+
+    /**
+     * Makes {@code event} available to references by its name.
+     */
+    public void addEvent(Event event) {
+        requireNonNull(event);
+        events.put(event.getName().eventName, event);
+    }
+
+    /**
+     * Returns the person that {@code reference} refers to.
+     *
+     * @throws IllegalValueException if the person does not exist or the embedded copy is invalid.
+     */
+    public Person resolvePerson(JsonAdaptedReference reference) throws IllegalValueException {
+        Person person = persons.get(getName(reference));
+        if (person != null) {
+            return person;
+        }
+        if (!reference.isLegacy()) {
+            throw unknownReference(Person.class, reference);
+        }
+        return readLegacyEntity(reference.getLegacyEntity(), JsonAdaptedPerson.class).toModelType();
+    }
+
+    /**
+     * Returns the vendor that {@code reference} refers to.
+     *
+     * @throws IllegalValueException if the vendor does not exist or the embedded copy is invalid.
+     */
+    public Vendor resolveVendor(JsonAdaptedReference reference) throws IllegalValueException {
+        Vendor vendor = vendors.get(getName(reference));
+        if (vendor != null) {
+            return vendor;
+        }
+        if (!reference.isLegacy()) {
+            throw unknownReference(Vendor.class, reference);
+        }
+        return readLegacyEntity(reference.getLegacyEntity(), JsonAdaptedVendor.class).toModelType();
+    }
+
+    /**
+     * Returns the venue that {@code reference} refers to.
+     *
+     * @throws IllegalValueException if the venue does not exist or the embedded copy is invalid.
+     */
+    public Venue resolveVenue(JsonAdaptedReference reference) throws IllegalValueException {
+        Venue venue = venues.get(getName(reference));
+        if (venue != null) {
+            return venue;
+        }
+        if (!reference.isLegacy()) {
+            throw unknownReference(Venue.class, reference);
+        }
+        return readLegacyEntity(reference.getLegacyEntity(), JsonAdaptedVenue.class).toModelType();
+    }
+
+    /**
+     * Returns the event that {@code reference} refers to.
+     *
+     * @throws IllegalValueException if the event does not exist or the embedded copy is invalid.
+     */
+    public Event resolveEvent(JsonAdaptedReference reference) throws IllegalValueException {
+        Event event = events.get(getName(reference));
+        if (event != null) {
+            return event;
+        }
+        if (!reference.isLegacy()) {
+            throw unknownReference(Event.class, reference);
+        }
+        return readLegacyEntity(reference.getLegacyEntity(), JsonAdaptedEvent.class).toModelType(this);
+    }
+
+    private static String getName(JsonAdaptedReference reference) throws IllegalValueException {
+        if (reference.getName() == null) {
+            throw new IllegalValueException(JsonAdaptedReference.MISSING_NAME_MESSAGE);
+        }
+        return reference.getName();
+    }
+
+    private static IllegalValueException unknownReference(Class<?> entityClass, JsonAdaptedReference reference) {
+        return new IllegalValueException(
+                String.format(MESSAGE_UNKNOWN_REFERENCE, entityClass.getSimpleName(), reference.getName()));
+    }
+
+    private static <T> T readLegacyEntity(JsonNode legacyEntity, Class<T> adaptedClass)
+            throws IllegalValueException {
+        try {
+            return JsonUtil.fromJsonNode(legacyEntity, adaptedClass);
+        } catch (IOException ioe) {
+            throw new IllegalValueException(ioe.getMessage(), ioe);
+        }
+    }
+}
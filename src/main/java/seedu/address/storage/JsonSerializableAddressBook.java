@@ -1,14 +1,24 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
@@ -19,6 +29,7 @@ import seedu.address.model.venue.Venue;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Events and RSVPs refer to persons, vendors, venues and events by name instead of embedding copies of them.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -28,6 +39,16 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_VENUE = "Venues list contains duplicate venue(s).";
     public static final String MESSAGE_DUPLICATE_VENDOR = "Vendors list contains duplicate vendor(s).";
     public static final String MESSAGE_DUPLICATE_RSVP = "RSVPs list contains duplicate venue(s).";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not contain an address book.";
+
+    private static final String PERSONS = "persons";
+    private static final String EVENTS = "events";
+    private static final String VENUES = "venues";
+    private static final String VENDORS = "vendors";
+    private static final String RSVPS = "rsvps";
+
+    // Lists shorter than this are quicker to convert on the calling thread
+    private static final int PARALLEL_THRESHOLD = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
@@ -35,6 +56,8 @@ class JsonSerializableAddressBook {
     private final List<JsonAdaptedVendor> vendors = new ArrayList<>();
     private final List<JsonAdaptedRsvp> rsvps = new ArrayList<>();
 
+    private JsonSerializableAddressBook() {}
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
@@ -62,55 +85,169 @@ class JsonSerializableAddressBook {
         events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
         venues.addAll(source.getVenueList().stream().map(JsonAdaptedVenue::new).collect(Collectors.toList()));
         vendors.addAll(source.getVendorList().stream().map(JsonAdaptedVendor::new).collect(Collectors.toList()));
-        rsvps.addAll(source.getRsvpList().stream().map(JsonAdaptedRsvp::new).collect(Collectors.toList()));
+
+        rsvps.addAll(getStorableRsvps(source).stream().map(JsonAdaptedRsvp::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the RSVPs of {@code source} that are saved to the data file.
+     * RSVPs whose event or person has since been removed cannot be referenced, and are not saved.
+     */
+    static List<Rsvp> getStorableRsvps(ReadOnlyAddressBook source) {
+        Set<String> eventNames = source.getEventList().stream()
+                .map(event -> event.getName().eventName).collect(Collectors.toSet());
+        Set<String> personNames = source.getPersonList().stream()
+                .map(person -> person.getName().fullName).collect(Collectors.toSet());
+        return source.getRsvpList().stream()
+                .filter(rsvp -> eventNames.contains(rsvp.getEventName().eventName)
+                        && personNames.contains(rsvp.getPersonName().fullName))
+                .collect(Collectors.toList());
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The elements of each list are converted in parallel once the lists they refer to have been converted.
+     * If several elements are invalid, the error is about the first of them in the order of the lists.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        JsonReferenceResolver resolver = new JsonReferenceResolver();
+
+        List<Person> modelPersons = convertAll(persons, JsonAdaptedPerson::toModelType,
+                Person::getName, MESSAGE_DUPLICATE_PERSON);
+        modelPersons.forEach(resolver::addPerson);
+        List<Venue> modelVenues = convertAll(venues, JsonAdaptedVenue::toModelType,
+                Venue::getName, MESSAGE_DUPLICATE_VENUE);
+        modelVenues.forEach(resolver::addVenue);
+        List<Vendor> modelVendors = convertAll(vendors, JsonAdaptedVendor::toModelType,
+                Vendor::getName, MESSAGE_DUPLICATE_VENDOR);
+        modelVendors.forEach(resolver::addVendor);
+        List<Event> modelEvents = convertAll(events, event -> event.toModelType(resolver),
+                Event::getName, MESSAGE_DUPLICATE_EVENT);
+        modelEvents.forEach(resolver::addEvent);
+        List<Rsvp> modelRsvps = convertAll(rsvps, rsvp -> rsvp.toModelType(resolver),
+                rsvp -> List.of(rsvp.getEventName(), rsvp.getPersonName()), MESSAGE_DUPLICATE_RSVP);
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        addressBook.setPersons(modelPersons);
+        addressBook.setVenues(modelVenues);
+        addressBook.setVendors(modelVendors);
+        addressBook.setEvents(modelEvents);
+        addressBook.setRsvps(modelRsvps);
+        return addressBook;
+    }
+
+    /**
+     * Returns the model's version of each of {@code adaptedElements}, in order.
+     * Lists of at least {@link #PARALLEL_THRESHOLD} elements are converted on the common fork-join pool.
+     *
+     * @param identity returns what identifies an element, as used by the model's unique lists.
+     * @throws IllegalValueException if an element is invalid, or has the same identity as an earlier element.
+     *     The error is about the first such element.
+     */
+    private static <T, R> List<R> convertAll(List<T> adaptedElements, Conversion<T, R> conversion,
+            Function<R, Object> identity, String duplicateMessage) throws IllegalValueException {
+        int size = adaptedElements.size();
+        List<R> elements = new ArrayList<>(Collections.nCopies(size, null));
+        IllegalValueException[] failures = new IllegalValueException[size];
+
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
         }
+        indexes.forEach(i -> {
+            try {
+                elements.set(i, conversion.convert(adaptedElements.get(i)));
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
 
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        Set<Object> identities = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+            if (!identities.add(identity.apply(elements.get(i)))) {
+                throw new IllegalValueException(duplicateMessage);
             }
-            addressBook.addEvent(event);
         }
+        return elements;
+    }
 
-        for (JsonAdaptedVenue jsonAdaptedVenue : venues) {
-            Venue venue = jsonAdaptedVenue.toModelType();
-            if (addressBook.hasVenue(venue)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_VENUE);
-            }
-            addressBook.addVenue(venue);
+    /**
+     * Writes {@code source} to {@code generator} one element at a time, in the same format as this class.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeList(generator, PERSONS, source.getPersonList(), JsonAdaptedPerson::new);
+        writeList(generator, VENUES, source.getVenueList(), JsonAdaptedVenue::new);
+        writeList(generator, VENDORS, source.getVendorList(), JsonAdaptedVendor::new);
+        writeList(generator, EVENTS, source.getEventList(), JsonAdaptedEvent::new);
+        writeList(generator, RSVPS, getStorableRsvps(source), JsonAdaptedRsvp::new);
+        generator.writeEndObject();
+    }
+
+    private static <T> void writeList(JsonGenerator generator, String fieldName, List<T> elements,
+            Function<T, ?> jsonAdapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T element : elements) {
+            JsonUtil.writeValue(generator, jsonAdapter.apply(element));
         }
+        generator.writeEndArray();
+    }
 
-        for (JsonAdaptedVendor jsonAdaptedVendor : vendors) {
-            Vendor vendor = jsonAdaptedVendor.toModelType();
-            if (addressBook.hasVendor(vendor)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_VENDOR);
-            }
-            addressBook.addVendor(vendor);
+    /**
+     * Reads the address book that {@code parser} streams into the model's {@code AddressBook} object, reading one
+     * element at a time instead of holding the whole file, or a tree of it, in memory.
+     *
+     * @throws IOException if the data is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
         }
 
-        for (JsonAdaptedRsvp jsonAdaptedRsvp : rsvps) {
-            Rsvp rsvp = jsonAdaptedRsvp.toModelType();
-            if (addressBook.hasRsvp(rsvp)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RSVP);
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                switch (fieldName) {
+                case PERSONS:
+                    addressBook.persons.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                    break;
+                case VENUES:
+                    addressBook.venues.add(JsonUtil.readValue(parser, JsonAdaptedVenue.class));
+                    break;
+                case VENDORS:
+                    addressBook.vendors.add(JsonUtil.readValue(parser, JsonAdaptedVendor.class));
+                    break;
+                case EVENTS:
+                    addressBook.events.add(JsonUtil.readValue(parser, JsonAdaptedEvent.class));
+                    break;
+                case RSVPS:
+                    addressBook.rsvps.add(JsonUtil.readValue(parser, JsonAdaptedRsvp.class));
+                    break;
+                default:
+                    parser.skipChildren();
+                }
             }
-            addressBook.addRsvp(rsvp);
         }
-        return addressBook;
+        return addressBook.toModelType();
+    }
+
+    /**
+     * Converts an adapted element into the model's version of it.
+     */
+    @FunctionalInterface
+    private interface Conversion<T, R> {
+        R convert(T adaptedElement) throws IllegalValueException;
     }
 }
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.event.MemberList;
+
+/**
+ * An unmodifiable list of the elements of a top-level list that an event refers to, such as its guests, as read
+ * from a binary snapshot. The elements are only looked up the first time the list is used; until then the list
+ * holds just their indexes into {@code targets}, copied out of the snapshot so that the snapshot itself can be freed.
+ *
+ * The indexes must have been checked to be within {@code targets} already.
+ */
+class LazyReferenceList<T> extends MemberList<T> {
+
+    private final List<T> targets;
+    private final int size;
+    private int[] rawIndexes;
+    private volatile List<T> elements;
+
+    /**
+     * Creates a list of the elements of {@code targets} at {@code rawIndexes}.
+     */
+    LazyReferenceList(int[] rawIndexes, List<T> targets) {
+        this.rawIndexes = rawIndexes;
+        this.size = rawIndexes.length;
+        this.targets = targets;
+    }
+
+    /**
+     * Returns true if the elements have been looked up.
+     */
+    boolean isDecoded() {
+        return elements != null;
+    }
+
+    /**
+     * Returns the indexes of the elements into the list returned by {@link #getTargets()}, without looking the
+     * elements up, or null if they have been looked up already. The array returned must not be modified.
+     */
+    synchronized int[] getRawIndexes() {
+        return rawIndexes;
+    }
+
+    /**
+     * Returns the top-level list, in the order it was read from the snapshot, that the raw indexes refer to.
+     */
+    List<T> getTargets() {
+        return targets;
+    }
+
+    private List<T> getElements() {
+        List<T> decodedElements = elements;
+        if (decodedElements != null) {
+            return decodedElements;
+        }
+
+        synchronized (this) {
+            if (elements == null) {
+                List<T> lookedUp = new ArrayList<>(size);
+                for (int rawIndex : rawIndexes) {
+                    lookedUp.add(targets.get(rawIndex));
+                }
+                elements = Collections.unmodifiableList(lookedUp);
+                rawIndexes = null;
+            }
+            return elements;
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return getElements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
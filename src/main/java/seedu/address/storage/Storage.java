@@ -29,4 +29,18 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves a snapshot of the given {@link ReadOnlyAddressBook} to the storage without waiting for it to be written.
+     * @param addressBook cannot be null. Later changes to it do not affect what is saved.
+     * @throws IOException if an earlier address book saved in the background could not be written.
+     *     The given address book is still saved.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Waits for every address book saved in the background to be written.
+     * @throws IOException if the last address book saved could not be written.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +16,9 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * AddressBook data saved in the background is written by a single writer thread. While a write is in progress,
+ * further saves only replace the address book waiting to be written, so a burst of saves results in one more write.
  */
 public class StorageManager implements Storage {
 
@@ -20,6 +26,18 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService addressBookWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private boolean isWriting;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyAddressBook unsavedAddressBook;
+    private IOException writeFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -71,8 +89,100 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // An older address book still being written in the background must not overwrite this one
+        awaitBackgroundWrites();
+
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            synchronized (this) {
+                unsavedAddressBook = null;
+                writeFailure = null;
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) throws IOException {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        IOException failure;
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            if (!isWriting) {
+                isWriting = true;
+                addressBookWriter.execute(this::writePendingAddressBooks);
+            }
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitBackgroundWrites();
+
+        ReadOnlyAddressBook unsaved;
+        synchronized (this) {
+            unsaved = unsavedAddressBook;
+            unsavedAddressBook = null;
+            writeFailure = null;
+        }
+        if (unsaved != null) {
+            // Retries the write that failed, and reports the failure if it fails again
+            logger.fine("Attempting to write to data file: " + getAddressBookFilePath());
+            addressBookStorage.saveAddressBook(unsaved);
+        }
+    }
+
+    /**
+     * Writes the address book waiting to be written until there is none left. Runs on the writer thread.
+     */
+    private void writePendingAddressBooks() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                if (pendingAddressBook == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                addressBook = pendingAddressBook;
+                pendingAddressBook = null;
+            }
+
+            try {
+                logger.fine("Attempting to write to data file: " + getAddressBookFilePath());
+                addressBookStorage.saveAddressBook(addressBook);
+                synchronized (this) {
+                    unsavedAddressBook = null;
+                    writeFailure = null;
+                }
+            } catch (IOException ioe) {
+                logger.warning("Failed to write to data file: " + getAddressBookFilePath() + ": " + ioe);
+                synchronized (this) {
+                    unsavedAddressBook = addressBook;
+                    writeFailure = ioe;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the writer thread to finish writing every address book saved in the background.
+     */
+    private synchronized void awaitBackgroundWrites() throws InterruptedIOException {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+            }
+        }
     }
 
 }
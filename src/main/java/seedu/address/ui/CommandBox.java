@@ -1,12 +1,23 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.suggestion.Suggestion;
+import seedu.address.logic.suggestion.SuggestionQuery;
+import seedu.address.logic.suggestion.SuggestionScheduler;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,18 +28,41 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Function<String, SuggestionQuery> suggestionQueryOf;
+    private final SuggestionScheduler suggestionScheduler =
+            new SuggestionScheduler(SuggestionScheduler.DEFAULT_DEBOUNCE_DELAY_MILLIS, Platform::runLater);
+    private final ContextMenu suggestionsMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which suggests nothing while typing.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> SuggestionQuery.NONE);
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which suggests the names found by the query
+     * that {@code suggestionQueryOf} returns for the text typed so far.
+     */
+    public CommandBox(CommandExecutor commandExecutor, Function<String, SuggestionQuery> suggestionQueryOf) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.suggestionQueryOf = suggestionQueryOf;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) ->
+                handleCommandTextChanged(commandText));
+    }
+
+    /**
+     * Stops looking up suggestions in the background, for when the application is closing.
+     */
+    public void stopSuggestions() {
+        suggestionScheduler.shutdown();
+        suggestionsMenu.hide();
     }
 
     /**
@@ -41,6 +75,9 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        suggestionScheduler.cancel();
+        suggestionsMenu.hide();
+
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -49,6 +86,43 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Looks up the suggestions for {@code commandText} in the background, replacing the lookup for the text before.
+     */
+    private void handleCommandTextChanged(String commandText) {
+        suggestionScheduler.request(suggestionQueryOf.apply(commandText), this::showSuggestions);
+    }
+
+    /**
+     * Replaces the suggestions shown with {@code suggestions}, and hides them if there are none.
+     * Picking a suggestion replaces the text typed with the command text of the suggestion.
+     */
+    private void showSuggestions(List<Suggestion> suggestions) {
+        String commandText = commandTextField.getText();
+        List<MenuItem> menuItems = suggestions.stream()
+                .filter(suggestion -> !suggestion.getCommandText().equals(commandText))
+                .map(this::toMenuItem)
+                .collect(Collectors.toList());
+        if (menuItems.isEmpty()) {
+            suggestionsMenu.hide();
+            return;
+        }
+
+        suggestionsMenu.getItems().setAll(menuItems);
+        if (!suggestionsMenu.isShowing()) {
+            suggestionsMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private MenuItem toMenuItem(Suggestion suggestion) {
+        MenuItem menuItem = new MenuItem(suggestion.getIndex().getOneBased() + ". " + suggestion.getName());
+        menuItem.setOnAction(event -> {
+            commandTextField.setText(suggestion.getCommandText());
+            commandTextField.positionCaret(suggestion.getCommandText().length());
+        });
+        return menuItem;
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
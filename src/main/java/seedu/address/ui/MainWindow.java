@@ -24,6 +24,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_EXIT_WITHOUT_SAVING = "Exit again to quit without saving.";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -36,7 +37,9 @@ public class MainWindow extends UiPart<Stage> {
     private VendorListPanel vendorListPanel;
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
+    private boolean hasWarnedOfUnsavedData;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -140,7 +143,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand, logic::getSuggestionQuery);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -177,9 +180,21 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
+        try {
+            logic.flushAddressBook();
+        } catch (CommandException e) {
+            logger.warning("Could not save data before exiting: " + e.getMessage());
+            if (!hasWarnedOfUnsavedData) {
+                hasWarnedOfUnsavedData = true;
+                resultDisplay.setFeedbackToUser(e.getMessage() + "\n" + MESSAGE_EXIT_WITHOUT_SAVING);
+                return;
+            }
+        }
+
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        commandBox.stopSuggestions();
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -12,7 +12,13 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", addressBookJournalEnabled=" + config.isAddressBookJournalEnabled()
+                + ", addressBookBackupCount=" + config.getAddressBookBackupCount()
+                + ", addressBookFormat=" + config.getAddressBookFormat()
+                + ", addressBookLazyLoadingEnabled=" + config.isAddressBookLazyLoadingEnabled()
+                + ", undoHistoryDepth=" + config.getUndoHistoryDepth()
+                + ", undoHistoryMemoryLimit=" + config.getUndoHistoryMemoryLimit() + "}";
         assertEquals(expected, config.toString());
     }
 
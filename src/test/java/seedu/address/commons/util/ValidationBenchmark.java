@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.event.Description;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.Note;
+import seedu.address.model.event.ToDate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.venue.Address;
+import seedu.address.model.venue.Capacity;
+
+/**
+ * Compares how long checking the fields of a generated address book takes with {@code String.matches} on the
+ * validation regular expressions, as the value classes used to, and with the {@code isValid} methods of the value
+ * classes. Not run as part of the tests; run it with {@code gradlew validationBenchmark}, optionally passing the number
+ * of persons with {@code -PbenchmarkPersons=N}.
+ */
+public class ValidationBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<Field> fields = generateFields(personCount);
+        System.out.printf("Fields: %,d%n", fields.size());
+
+        benchmark("regex", fields, field -> field.value.matches(field.regex));
+        benchmark("current", fields, field -> field.check.test(field.value));
+    }
+
+    private static void benchmark(String name, List<Field> fields, Predicate<Field> validator) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            validateAll(fields, validator);
+        }
+
+        long[] times = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            validateAll(fields, validator);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        System.out.printf("%-8s time median %.1f ms (min %.1f ms, max %.1f ms)%n", name,
+                times[MEASURED_ROUNDS / 2] / 1e6, times[0] / 1e6, times[MEASURED_ROUNDS - 1] / 1e6);
+    }
+
+    private static void validateAll(List<Field> fields, Predicate<Field> validator) {
+        for (Field field : fields) {
+            if (!validator.test(field)) {
+                throw new AssertionError("Generated field is invalid: " + field.value);
+            }
+        }
+    }
+
+    /**
+     * Returns the fields of an address book with {@code personCount} persons, and a tenth as many venues and events,
+     * as they are checked when the address book is loaded.
+     */
+    private static List<Field> generateFields(int personCount) {
+        List<Field> fields = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            fields.add(new Field("Person " + i, Name.VALIDATION_REGEX, Name::isValidName));
+            fields.add(new Field(String.valueOf(90000000 + i), Phone.VALIDATION_REGEX, Phone::isValidPhone));
+            fields.add(new Field("person" + i + "@example.com", Email.VALIDATION_REGEX, Email::isValidEmail));
+        }
+
+        int eventCount = Math.max(1, personCount / 10);
+        for (int i = 0; i < eventCount; i++) {
+            fields.add(new Field(i + " Kent Ridge Road", Address.VALIDATION_REGEX, Address::isValidAddress));
+            fields.add(new Field(String.valueOf(100 + i % 400), Capacity.VALIDATION_REGEX,
+                    Capacity::isValidCapacity));
+            fields.add(new Field("Description of event " + i, Description.VALIDATION_REGEX,
+                    Description::isValidDesc));
+            fields.add(new Field(String.format("%02d-%02d-2030", 1 + i % 28, 1 + i % 12), FromDate.VALIDATION_REGEX,
+                    FromDate::isValidDate));
+            fields.add(new Field(String.format("%02d-%02d-2031", 1 + i % 28, 1 + i % 12), ToDate.VALIDATION_REGEX,
+                    ToDate::isValidDate));
+            fields.add(new Field("Note " + i, Note.VALIDATION_REGEX, Note::isValidNote));
+        }
+        return fields;
+    }
+
+    /**
+     * A field value with the regular expression it used to be checked with, and the way it is checked now.
+     */
+    private static class Field {
+        private final String value;
+        private final String regex;
+        private final Predicate<String> check;
+
+        Field(String value, String regex, Predicate<String> check) {
+            this.value = value;
+            this.regex = regex;
+            this.check = check;
+        }
+    }
+}
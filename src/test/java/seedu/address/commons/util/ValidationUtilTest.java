@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.Note;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.venue.Address;
+import seedu.address.model.venue.Capacity;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "a", "A1", "abc", "Alice Pauline", "alice  ", " bob",
+            "12", "123", "98765432", "0", "00", "1 2", "12a", "x_y", "\u00DCn\u00EFcode", "\u0661\u0662\u0663",
+            "line\nbreak", "tab\tbed", "\u000Bvertical", "\u2029para", "end\u2028", "a\u0085b", "\u00A0nbsp", "-dash",
+            "Blk 30 Geylang St 29, #06-40");
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        assertSameAsRegex(test -> ValidationUtil.isDigits(test, 3), Phone.VALIDATION_REGEX);
+        assertSameAsRegex(test -> ValidationUtil.isDigits(test, 1), Capacity.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isAlphanumericWords_sameAsRegex() {
+        assertSameAsRegex(ValidationUtil::isAlphanumericWords, Name.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isAlphanumericOrSpaces_sameAsRegex() {
+        assertSameAsRegex(ValidationUtil::isAlphanumericOrSpaces, Note.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isLineNotStartingWithWhitespace_sameAsRegex() {
+        assertSameAsRegex(ValidationUtil::isLineNotStartingWithWhitespace, Address.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isValidDate() {
+        assertTrue(ValidationUtil.isValidDate("01-02-2023"));
+        assertTrue(ValidationUtil.isValidDate("1/2/23"));
+        assertTrue(ValidationUtil.isValidDate("29.02.2000"));
+        assertTrue(ValidationUtil.isValidDate("31-12-9999"));
+
+        assertFalse(ValidationUtil.isValidDate("29-02-1900")); // not a leap year
+        assertFalse(ValidationUtil.isValidDate("29-02-00")); // two-digit year 00 is never a leap year
+        assertFalse(ValidationUtil.isValidDate("31-04-2023")); // April has 30 days
+        assertFalse(ValidationUtil.isValidDate("01-02/2023")); // different separators
+        assertFalse(ValidationUtil.isValidDate("01-02-1599")); // four-digit years start at 1600
+        assertFalse(ValidationUtil.isValidDate("01-02-023"));
+        assertFalse(ValidationUtil.isValidDate("2023-02-01"));
+        assertFalse(ValidationUtil.isValidDate(""));
+
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isValidDate(null));
+    }
+
+    @Test
+    public void parseDate() {
+        assertEquals(Optional.of(LocalDate.of(2023, 2, 1)), ValidationUtil.parseDate("01-02-2023"));
+        assertEquals(Optional.of(LocalDate.of(2023, 2, 1)), ValidationUtil.parseDate("1/2/23"));
+        assertEquals(Optional.of(LocalDate.of(1600, 2, 29)), ValidationUtil.parseDate("29.02.1600"));
+        assertEquals(Optional.empty(), ValidationUtil.parseDate("29-02-2023"));
+        assertEquals(Optional.empty(), ValidationUtil.parseDate("2023-02-01"));
+    }
+
+    @Test
+    public void isValidDate_sameAsRegex() {
+        List<String> days = new ArrayList<>(List.of("", "0", "00", "123", "1a"));
+        for (int day = 1; day <= 32; day++) {
+            days.add(String.valueOf(day));
+            days.add(String.format("%02d", day));
+        }
+        List<String> months = new ArrayList<>(List.of("", "0", "00", "13", "012"));
+        for (int month = 1; month <= 12; month++) {
+            months.add(String.valueOf(month));
+            months.add(String.format("%02d", month));
+        }
+        List<String> years = List.of("", "0", "00", "04", "23", "24", "96", "100", "0024", "1500", "1599", "1600",
+                "1700", "1900", "1996", "2000", "2023", "2024", "2100", "2400", "9996", "9999", "20244", "2o24");
+
+        for (String day : days) {
+            for (String month : months) {
+                for (String year : years) {
+                    assertSameAsRegex(day + "-" + month + "-" + year);
+                    assertSameAsRegex(day + "/" + month + "/" + year);
+                }
+            }
+        }
+        for (String separators : List.of("..", "-/", "/.", " -", "--")) {
+            assertSameAsRegex("29" + separators.charAt(0) + "02" + separators.charAt(1) + "2024");
+            assertSameAsRegex("1" + separators.charAt(0) + "1" + separators.charAt(1) + "24");
+        }
+    }
+
+    private static void assertSameAsRegex(String date) {
+        assertEquals(date.matches(FromDate.VALIDATION_REGEX), ValidationUtil.isValidDate(date), date);
+    }
+
+    private static void assertSameAsRegex(Predicate<String> check, String regex) {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(regex), check.test(sample), sample);
+        }
+    }
+}
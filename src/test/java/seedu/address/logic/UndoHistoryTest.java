@@ -0,0 +1,186 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.UndoHistory.ESTIMATED_EDIT_SIZE;
+import static seedu.address.logic.UndoHistory.ESTIMATED_ELEMENT_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistoryTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final UndoHistory undoHistory = new UndoHistory(10, Long.MAX_VALUE);
+
+    public UndoHistoryTest() {
+        undoHistory.track(model);
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalStateException() {
+        assertFalse(undoHistory.canUndo());
+        assertThrows(IllegalStateException.class, undoHistory::undo);
+        assertThrows(IllegalStateException.class, undoHistory::redo);
+    }
+
+    @Test
+    public void commit_addressBookUnchanged_nothingToUndo() {
+        model.updateFilteredPersonList(person -> false);
+        undoHistory.commit();
+        assertFalse(undoHistory.canUndo());
+    }
+
+    @Test
+    public void undoRedo_severalCommands_revertedInOrder() {
+        AddressBook original = new AddressBook(model.getAddressBook());
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+
+        model.addPerson(AMY);
+        undoHistory.commit();
+        AddressBook afterAdd = new AddressBook(model.getAddressBook());
+        model.setPerson(ALICE, editedAlice);
+        model.deletePerson(BENSON);
+        undoHistory.commit();
+        AddressBook afterEdit = new AddressBook(model.getAddressBook());
+
+        undoHistory.undo();
+        assertEquals(afterAdd, model.getAddressBook());
+        undoHistory.undo();
+        assertEquals(original, model.getAddressBook());
+        assertFalse(undoHistory.canUndo());
+
+        undoHistory.redo();
+        assertEquals(afterAdd, model.getAddressBook());
+        undoHistory.redo();
+        assertEquals(afterEdit, model.getAddressBook());
+        assertFalse(undoHistory.canRedo());
+    }
+
+    @Test
+    public void undo_personRemovedFromMiddle_restoredAtSamePosition() {
+        List<Person> persons = new ArrayList<>(model.getAddressBook().getPersonList());
+        model.deletePerson(BENSON);
+        undoHistory.commit();
+
+        undoHistory.undo();
+        assertEquals(persons, model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_redoDiscarded() {
+        model.addPerson(AMY);
+        undoHistory.commit();
+        undoHistory.undo();
+        assertTrue(undoHistory.canRedo());
+
+        model.addPerson(BOB);
+        undoHistory.commit();
+        assertFalse(undoHistory.canRedo());
+    }
+
+    @Test
+    public void commit_moreCommandsThanMaxDepth_oldestDropped() {
+        UndoHistory shallowHistory = new UndoHistory(1, Long.MAX_VALUE);
+        shallowHistory.track(model);
+
+        model.addPerson(AMY);
+        shallowHistory.commit();
+        model.addPerson(BOB);
+        shallowHistory.commit();
+
+        shallowHistory.undo();
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+        assertFalse(shallowHistory.canUndo());
+    }
+
+    @Test
+    public void commit_overMemoryLimit_oldestDropped() {
+        long addSize = ESTIMATED_EDIT_SIZE + ESTIMATED_ELEMENT_SIZE;
+        UndoHistory smallHistory = new UndoHistory(10, addSize);
+        smallHistory.track(model);
+
+        model.addPerson(AMY);
+        smallHistory.commit();
+        assertEquals(addSize, smallHistory.getMemoryUsed());
+        model.addPerson(BOB);
+        smallHistory.commit();
+        assertEquals(addSize, smallHistory.getMemoryUsed());
+
+        smallHistory.undo();
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(smallHistory.canUndo());
+    }
+
+    @Test
+    public void commit_wholeListReplaced_onlyChangedElementsRecorded() {
+        List<Person> persons = new ArrayList<>(model.getAddressBook().getPersonList());
+        persons.set(1, new PersonBuilder(BENSON).withPhone("99999999").build());
+        persons.remove(3);
+        model.setPersons(persons);
+        undoHistory.commit();
+
+        // One edit replacing BENSON, and one edit removing the fourth person
+        assertEquals(2 * ESTIMATED_EDIT_SIZE + 3 * ESTIMATED_ELEMENT_SIZE, undoHistory.getMemoryUsed());
+
+        List<Person> original = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        undoHistory.undo();
+        assertEquals(original, model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void undo_eventBeingViewedRemoved_noEventViewed() {
+        Event event = new EventBuilder().withName("Career Fair").build();
+        model.addEvent(event);
+        model.setEventToView(event);
+        undoHistory.commit();
+
+        undoHistory.undo();
+        assertNull(model.getEventToView());
+    }
+
+    @Test
+    public void undo_eventBeingViewedEdited_previousEventViewed() {
+        Event event = new EventBuilder().withName("Career Fair").withPersons(List.of(ALICE)).build();
+        model.addEvent(event);
+        undoHistory.commit();
+        Event editedEvent = new EventBuilder(event).withPersons(List.of(ALICE, BENSON)).build();
+        model.setEvent(event, editedEvent);
+        model.setEventToView(editedEvent);
+        undoHistory.commit();
+
+        undoHistory.undo();
+        assertEquals(event, model.getEventToView());
+        assertEquals(List.of(ALICE), model.getFilteredEventAttendeesList());
+    }
+
+    @Test
+    public void diff_reorderedElements_restOfListRecorded() {
+        List<UndoHistory.Edit<String>> edits = UndoHistory.diff(0, List.of("a", "b", "c"), List.of("a", "c", "b"));
+        assertEquals(1, edits.size());
+
+        List<String> list = new ArrayList<>(List.of("a", "c", "b"));
+        edits.get(0).revert(list);
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+}
@@ -9,12 +9,15 @@ import static seedu.address.logic.commands.AddEventDetailsCommand.MESSAGE_VENUE;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_VENUE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_OUT_OF_RANGE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_VENDOR;
+import static seedu.address.testutil.TypicalVenues.LT27;
 
 import java.util.HashSet;
 import java.util.List;
@@ -142,6 +145,33 @@ public class AddEventDetailsCommandTest {
         assertCommandSuccess(addEventDetailsCommand, model, expectedSuccessMessage, expectedModel);
     }
 
+    @Test
+    public void execute_guestAndVendorAtEventOnSameDays_successWithWarnings() {
+        // Everyone is at Academic Awards Ceremony, which runs on some of the days of Basketball Competition
+        Index basketballIndex = Index.fromZeroBased(model.getFilteredEventsList().indexOf(BASKETBALL));
+        HashSet<Index> personIndexes = new HashSet<>();
+        personIndexes.add(INDEX_FIRST_PERSON);
+        HashSet<Index> vendorIndexes = new HashSet<>();
+        vendorIndexes.add(INDEX_SECOND_VENDOR);
+
+        AddEventDetailsCommand addEventDetailsCommand =
+                new AddEventDetailsCommand(basketballIndex, personIndexes, vendorIndexes, null);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person person = expectedModel.getAddressBook().getPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Vendor vendor = expectedModel.getAddressBook().getVendorList().get(INDEX_SECOND_VENDOR.getZeroBased());
+        Event editedEvent = new EventBuilder(BASKETBALL).withPersons(List.of(person)).withVendors(List.of(vendor))
+                .build();
+        expectedModel.setEvent(BASKETBALL, editedEvent);
+
+        String expectedMessage = String.join("\n",
+                String.format(MESSAGE_SUCCESS, basketballIndex.getOneBased(), BASKETBALL.getName(), person.getName(),
+                        vendor.getName()),
+                String.format(Messages.MESSAGE_GUEST_DOUBLE_BOOKED, person.getName(), ACADEMIC.getName()),
+                String.format(Messages.MESSAGE_VENDOR_DOUBLE_BOOKED, vendor.getName(), ACADEMIC.getName()));
+        assertCommandSuccess(addEventDetailsCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_addExistingPersonToEvent_failure() {
         // Person Indexes should only contain the index of the second person
@@ -260,6 +290,19 @@ public class AddEventDetailsCommandTest {
         assertCommandSuccess(addEventDetailsCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_venueBookedOnSameDays_failure() {
+        // Basketball Competition runs on the days that Academic Awards Ceremony is held at LT27
+        Index basketballIndex = Index.fromZeroBased(model.getFilteredEventsList().indexOf(BASKETBALL));
+        Index lt27Index = Index.fromZeroBased(model.getFilteredVenuesList().indexOf(LT27));
+
+        AddEventDetailsCommand addEventDetailsCommand =
+                new AddEventDetailsCommand(basketballIndex, new HashSet<>(), new HashSet<>(), lt27Index);
+
+        String expectedMessage = String.format(Messages.MESSAGE_VENUE_BOOKED, LT27.getName(), ACADEMIC.getName());
+        assertCommandFailure(addEventDetailsCommand, model, expectedMessage);
+    }
+
     @Test
     public void execute_addNewVendorToEvent_success() {
         HashSet<Index> personIndexes = new HashSet<>();
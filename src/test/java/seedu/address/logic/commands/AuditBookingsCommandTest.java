@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
+import static seedu.address.testutil.TypicalEvents.FOC;
+import static seedu.address.testutil.TypicalEvents.FSC;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalVendors.SUN;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AuditBookingsCommand}.
+ */
+public class AuditBookingsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noDoubleBookings_noConflicts() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new AuditBookingsCommand(), model, AuditBookingsCommand.MESSAGE_NO_CONFLICTS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_doubleBookings_conflictsListed() throws Exception {
+        // FSC 2024 does not run on any day of Academic Awards Ceremony, so Alice is not double booked there
+        Event basketballWithAlice = new EventBuilder(BASKETBALL).withPersons(List.of(ALICE)).build();
+        Event fscWithAlice = new EventBuilder(FSC).withPersons(List.of(ALICE)).build();
+        Event focWithSun = new EventBuilder(FOC).withVendors(List.of(SUN)).build();
+        model.setEvent(BASKETBALL, basketballWithAlice);
+        model.setEvent(FSC, fscWithAlice);
+        model.setEvent(FOC, focWithSun);
+
+        CommandResult result = new AuditBookingsCommand().execute(model);
+
+        String expectedConflicts = String.join("\n",
+                String.format(AuditBookingsCommand.MESSAGE_GUEST_CONFLICT, ALICE.getName(), BASKETBALL.getName(),
+                        ACADEMIC.getName()),
+                String.format(AuditBookingsCommand.MESSAGE_VENDOR_CONFLICT, SUN.getName(), FOC.getName(),
+                        ACADEMIC.getName()));
+        assertEquals(String.format(AuditBookingsCommand.MESSAGE_CONFLICTS, 2, expectedConflicts),
+                result.getFeedbackToUser());
+        assertEquals(List.of(focWithSun, ACADEMIC, basketballWithAlice), model.getFilteredEventsList());
+    }
+}
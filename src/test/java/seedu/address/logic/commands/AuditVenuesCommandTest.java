@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
+import static seedu.address.testutil.TypicalEvents.FOC;
+import static seedu.address.testutil.TypicalVenues.LT27;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AuditVenuesCommand}.
+ */
+public class AuditVenuesCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noDoubleBookings_noConflicts() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new AuditVenuesCommand(), model, AuditVenuesCommand.MESSAGE_NO_CONFLICTS, expectedModel);
+    }
+
+    @Test
+    public void execute_doubleBookings_conflictsListed() throws Exception {
+        Event basketballAtLt27 = new EventBuilder(BASKETBALL).withVenue(LT27).build();
+        Event focAtLt27 = new EventBuilder(FOC).withVenue(LT27).build();
+        model.setEvent(BASKETBALL, basketballAtLt27);
+        model.setEvent(FOC, focAtLt27);
+
+        CommandResult result = new AuditVenuesCommand().execute(model);
+
+        String expectedConflicts = String.join("\n",
+                String.format(AuditVenuesCommand.MESSAGE_CONFLICT, LT27.getName(), FOC.getName(),
+                        BASKETBALL.getName()),
+                String.format(AuditVenuesCommand.MESSAGE_CONFLICT, LT27.getName(), FOC.getName(), ACADEMIC.getName()),
+                String.format(AuditVenuesCommand.MESSAGE_CONFLICT, LT27.getName(), BASKETBALL.getName(),
+                        ACADEMIC.getName()));
+        assertEquals(String.format(AuditVenuesCommand.MESSAGE_CONFLICTS, 3, expectedConflicts),
+                result.getFeedbackToUser());
+        assertEquals(List.of(focAtLt27, ACADEMIC, basketballAtLt27), model.getFilteredEventsList());
+    }
+}
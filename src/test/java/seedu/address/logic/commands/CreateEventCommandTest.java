@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ACADEMIC;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -22,6 +24,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -30,6 +33,7 @@ import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.rsvp.Rsvp;
 import seedu.address.model.rsvp.RsvpStatus;
+import seedu.address.model.util.ReadOnlyWordIndex;
 import seedu.address.model.vendor.Vendor;
 import seedu.address.model.venue.Venue;
 import seedu.address.testutil.EventBuilder;
@@ -204,6 +208,66 @@ public class CreateEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitChanges(AddressBookChanges changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsWithGuest(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsWithVendor(Vendor vendor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsAtVenue(Venue venue) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsFrom(LocalDate date, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsOverlapping(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsAtVenueBetween(Venue venue, LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyWordIndex<seedu.address.model.person.Name> getPersonNameIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyWordIndex<seedu.address.model.event.Name> getEventNameIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DisplayableListViewItem> search(Collection<String> terms, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setDisplayedItems(List<? extends DisplayableListViewItem> items) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetEvents() {
             throw new AssertionError("This method should not be called.");
@@ -308,6 +372,31 @@ public class CreateEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setEvents(List<Event> events) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setVenues(List<Venue> venues) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setVendors(List<Vendor> vendors) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Rsvp> getRsvps(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Rsvp findRsvp(Event event, Person person) {
             throw new AssertionError("This method should not be called.");
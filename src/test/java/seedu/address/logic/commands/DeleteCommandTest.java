@@ -23,6 +23,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -50,9 +51,8 @@ public class DeleteCommandTest {
     public void execute_validIndexWithPersonInEvent_success() {
         // Set up test case
         Event firstEvent = model.getFilteredEventsList().get(INDEX_FIRST_EVENT.getZeroBased());
-        Event testEvent = model.getFilteredEventsList().get(INDEX_FIRST_EVENT.getZeroBased());
         Person testFirstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        testEvent.setPersons(List.of(testFirstPerson));
+        Event testEvent = new EventBuilder(firstEvent).withPersons(List.of(testFirstPerson)).build();
 
         // Set the model's event
         model.setEvent(firstEvent, testEvent);
@@ -22,6 +22,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
 import seedu.address.model.vendor.Vendor;
+import seedu.address.testutil.EventBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -49,9 +50,8 @@ public class DeleteVendorCommandTest {
     public void execute_validIndexWithVendorInEvent_success() {
         // Set up test case
         Event firstEvent = model.getFilteredEventsList().get(INDEX_FIRST_EVENT.getZeroBased());
-        Event testEvent = model.getFilteredEventsList().get(INDEX_FIRST_EVENT.getZeroBased());
         Vendor testFirstVendor = model.getFilteredVendorList().get(INDEX_FIRST_VENDOR.getZeroBased());
-        testEvent.setVendors(List.of(testFirstVendor));
+        Event testEvent = new EventBuilder(firstEvent).withVendors(List.of(testFirstVendor)).build();
 
         // Set the model's event
         model.setEvent(firstEvent, testEvent);
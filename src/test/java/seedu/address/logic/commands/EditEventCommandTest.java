@@ -12,9 +12,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_NAME_FSC;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_TO_DATE_CAREER_FAIR;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.CODING;
 import static seedu.address.testutil.TypicalEvents.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
+import static seedu.address.testutil.TypicalVenues.LT27;
 
 import org.junit.jupiter.api.Test;
 
@@ -99,6 +102,20 @@ public class EditEventCommandTest {
         assertCommandFailure(editEventCommand, model, EditEventCommand.MESSAGE_DUPLICATE_EVENT);
     }
 
+    @Test
+    public void execute_rescheduledOntoVenueBooking_failure() {
+        // Code Competition is held at LT27 after Academic Awards Ceremony, which is also at LT27
+        Event codingAtLt27 = new EventBuilder(CODING).withVenue(LT27).build();
+        model.setEvent(CODING, codingAtLt27);
+        Index codingIndex = Index.fromZeroBased(model.getFilteredEventsList().indexOf(codingAtLt27));
+
+        EditEventDescriptor descriptor = new EditEventDescriptorBuilder().withFromDate("09-11-2023").build();
+        EditEventCommand editEventCommand = new EditEventCommand(codingIndex, descriptor);
+
+        String expectedMessage = String.format(Messages.MESSAGE_VENUE_BOOKED, LT27.getName(), ACADEMIC.getName());
+        assertCommandFailure(editEventCommand, model, expectedMessage);
+    }
+
     @Test
     public void execute_invalidEventIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventsList().size() + 1);
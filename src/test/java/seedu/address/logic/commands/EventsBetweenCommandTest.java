@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
+import static seedu.address.testutil.TypicalEvents.FOC;
+import static seedu.address.testutil.TypicalEvents.FOW;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.ToDate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code EventsBetweenCommand}.
+ */
+public class EventsBetweenCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        EventsBetweenCommand novemberCommand =
+                new EventsBetweenCommand(new FromDate("01-11-2023"), new ToDate("30-11-2023"));
+        EventsBetweenCommand decemberCommand =
+                new EventsBetweenCommand(new FromDate("01-12-2023"), new ToDate("31-12-2023"));
+
+        // same object -> returns true
+        assertTrue(novemberCommand.equals(novemberCommand));
+
+        // same values -> returns true
+        assertTrue(novemberCommand.equals(
+                new EventsBetweenCommand(new FromDate("01-11-2023"), new ToDate("30-11-2023"))));
+
+        // different types -> returns false
+        assertFalse(novemberCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(novemberCommand.equals(null));
+
+        // different dates -> returns false
+        assertFalse(novemberCommand.equals(decemberCommand));
+    }
+
+    @Test
+    public void execute_dateRange_eventsRunningInRangeListed() {
+        CommandResult result = new EventsBetweenCommand(new FromDate("01-11-2023"), new ToDate("10-11-2023"))
+                .execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 4), result.getFeedbackToUser());
+        assertEquals(List.of(FOC, FOW, ACADEMIC, BASKETBALL), model.getFilteredEventsList());
+    }
+
+    @Test
+    public void execute_noEventsInRange_noEventFound() {
+        CommandResult result = new EventsBetweenCommand(new FromDate("01-01-2030"), new ToDate("31-12-2030"))
+                .execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(List.of(), model.getFilteredEventsList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FromDate from = new FromDate("01-11-2023");
+        ToDate to = new ToDate("30-11-2023");
+        EventsBetweenCommand command = new EventsBetweenCommand(from, to);
+        String expected = EventsBetweenCommand.class.getCanonicalName() + "{from=" + from + ", to=" + to + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.Operator;
+import seedu.address.model.query.PersonQueryCompiler;
+import seedu.address.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private QueryParser queryParser = new QueryParser(new PersonQueryCompiler().getFields());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFirstCommand = new FilterCommand(new Query.Condition("name", Operator.MATCHES, "first"));
+        FilterCommand filterSecondCommand = new FilterCommand(new Query.Condition("name", Operator.MATCHES, "second"));
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(
+                new FilterCommand(new Query.Condition("name", Operator.MATCHES, "first"))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_query_matchingPersonsListed() throws Exception {
+        CommandResult result = new FilterCommand(queryParser.parse("name:meier not rsvp:CCC")).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatches_noPersonsListed() throws Exception {
+        CommandResult result = new FilterCommand(queryParser.parse("email:*@acme.com")).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = new Query.Condition("name", Operator.MATCHES, "alice");
+        FilterCommand filterCommand = new FilterCommand(query);
+        String expected = FilterCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
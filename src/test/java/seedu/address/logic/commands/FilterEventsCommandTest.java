@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.EventQueryCompiler;
+import seedu.address.model.query.Operator;
+import seedu.address.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterEventsCommand}.
+ */
+public class FilterEventsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private QueryParser queryParser = new QueryParser(new EventQueryCompiler().getFields());
+
+    @Test
+    public void equals() {
+        FilterEventsCommand filterFirstCommand =
+                new FilterEventsCommand(new Query.Condition("name", Operator.MATCHES, "first"));
+        FilterEventsCommand filterSecondCommand =
+                new FilterEventsCommand(new Query.Condition("name", Operator.MATCHES, "second"));
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(
+                new FilterEventsCommand(new Query.Condition("name", Operator.MATCHES, "first"))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_query_matchingEventsListed() throws Exception {
+        CommandResult result = new FilterEventsCommand(queryParser.parse("to<01-01-2024")).execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(List.of(ACADEMIC, BASKETBALL), model.getFilteredEventsList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = new Query.Condition("from", Operator.AT_LEAST, "01-01-2025");
+        FilterEventsCommand filterEventsCommand = new FilterEventsCommand(query);
+        String expected = FilterEventsCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, filterEventsCommand.toString());
+    }
+}
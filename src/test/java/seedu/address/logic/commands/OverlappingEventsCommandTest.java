@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
+import static seedu.address.testutil.TypicalEvents.FOC;
+import static seedu.address.testutil.TypicalEvents.FOW;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_OUT_OF_RANGE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code OverlappingEventsCommand}.
+ */
+public class OverlappingEventsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        OverlappingEventsCommand firstCommand = new OverlappingEventsCommand(INDEX_FIRST_EVENT);
+        OverlappingEventsCommand secondCommand = new OverlappingEventsCommand(INDEX_SECOND_EVENT);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new OverlappingEventsCommand(INDEX_FIRST_EVENT)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_validIndex_overlappingEventsListed() throws Exception {
+        Index academicIndex = Index.fromZeroBased(model.getFilteredEventsList().indexOf(ACADEMIC));
+        CommandResult result = new OverlappingEventsCommand(academicIndex).execute(model);
+        assertEquals(String.format(OverlappingEventsCommand.MESSAGE_SUCCESS, 3, ACADEMIC.getName()),
+                result.getFeedbackToUser());
+        assertEquals(List.of(FOC, FOW, BASKETBALL), model.getFilteredEventsList());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        assertCommandFailure(new OverlappingEventsCommand(INDEX_OUT_OF_RANGE), model,
+                Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void toStringMethod() {
+        OverlappingEventsCommand command = new OverlappingEventsCommand(INDEX_FIRST_EVENT);
+        String expected = OverlappingEventsCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_EVENT
+                + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.UndoHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final UndoHistory undoHistory = new UndoHistory(10, Long.MAX_VALUE);
+
+    public RedoCommandTest() {
+        undoHistory.track(model);
+    }
+
+    @Test
+    public void constructor_nullUndoHistory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RedoCommand(null));
+    }
+
+    @Test
+    public void execute_nothingToRedo_failure() {
+        assertCommandFailure(new RedoCommand(undoHistory), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_commandToRedo_success() {
+        model.addPerson(AMY);
+        undoHistory.commit();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        undoHistory.undo();
+
+        assertCommandSuccess(new RedoCommand(undoHistory), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertTrue(undoHistory.canUndo());
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand(undoHistory);
+
+        // same object -> returns true
+        assertTrue(redoCommand.equals(redoCommand));
+
+        // same history -> returns true
+        assertTrue(redoCommand.equals(new RedoCommand(undoHistory)));
+
+        // different history -> returns false
+        assertFalse(redoCommand.equals(new RedoCommand(new UndoHistory(10, Long.MAX_VALUE))));
+
+        // different types -> returns false
+        assertFalse(redoCommand.equals(new UndoCommand(undoHistory)));
+
+        // null -> returns false
+        assertFalse(redoCommand.equals(null));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_SEARCH_RESULTS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
+import static seedu.address.testutil.TypicalEvents.CODING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalVendors.SUN;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(Collections.singletonList("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_keywordWithTypo_matchesListed() {
+        CommandResult result = new SearchCommand(List.of("competiton")).execute(model);
+        assertEquals(String.format(MESSAGE_SEARCH_RESULTS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(BASKETBALL, CODING), model.getFilteredDisplayableItemList());
+    }
+
+    @Test
+    public void execute_exactAndCloseMatches_exactMatchListedFirst() {
+        new SearchCommand(List.of("kurz")).execute(model);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredDisplayableItemList());
+    }
+
+    @Test
+    public void execute_keywordsMatchingDifferentTypes_allTypesListed() {
+        // "sun" is a whole word of the vendor's name, so it is listed before the prefix match of "ALI"
+        new SearchCommand(List.of("sun", "ALI")).execute(model);
+        assertEquals(Arrays.asList(SUN, ALICE), model.getFilteredDisplayableItemList());
+    }
+
+    @Test
+    public void execute_noMatches_noResultsListed() {
+        CommandResult result = new SearchCommand(List.of("zzzzzz")).execute(model);
+        assertEquals(String.format(MESSAGE_SEARCH_RESULTS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredDisplayableItemList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword");
+        SearchCommand searchCommand = new SearchCommand(keywords);
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.UndoHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final UndoHistory undoHistory = new UndoHistory(10, Long.MAX_VALUE);
+
+    public UndoCommandTest() {
+        undoHistory.track(model);
+    }
+
+    @Test
+    public void constructor_nullUndoHistory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UndoCommand(null));
+    }
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(undoHistory), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_commandToUndo_success() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        model.addPerson(AMY);
+        undoHistory.commit();
+
+        assertCommandSuccess(new UndoCommand(undoHistory), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertTrue(undoHistory.canRedo());
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand(undoHistory);
+
+        // same object -> returns true
+        assertTrue(undoCommand.equals(undoCommand));
+
+        // same history -> returns true
+        assertTrue(undoCommand.equals(new UndoCommand(undoHistory)));
+
+        // different history -> returns false
+        assertFalse(undoCommand.equals(new UndoCommand(new UndoHistory(10, Long.MAX_VALUE))));
+
+        // different types -> returns false
+        assertFalse(undoCommand.equals(new RedoCommand(undoHistory)));
+
+        // null -> returns false
+        assertFalse(undoCommand.equals(null));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UpcomingEventsCommand}.
+ */
+public class UpcomingEventsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        UpcomingEventsCommand upcomingFiveCommand = new UpcomingEventsCommand(5);
+        UpcomingEventsCommand upcomingTenCommand = new UpcomingEventsCommand(10);
+
+        // same object -> returns true
+        assertTrue(upcomingFiveCommand.equals(upcomingFiveCommand));
+
+        // same values -> returns true
+        assertTrue(upcomingFiveCommand.equals(new UpcomingEventsCommand(5)));
+
+        // different types -> returns false
+        assertFalse(upcomingFiveCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(upcomingFiveCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(upcomingFiveCommand.equals(upcomingTenCommand));
+    }
+
+    @Test
+    public void execute_futureEvents_soonestEventsListed() {
+        LocalDate today = LocalDate.now();
+        Event nextWeek = createEvent("Career Fair", today.plusWeeks(1));
+        Event todayEvent = createEvent("Hackathon", today);
+        Event nextMonth = createEvent("Orientation", today.plusMonths(1));
+        model.addEvent(nextWeek);
+        model.addEvent(nextMonth);
+        model.addEvent(todayEvent);
+
+        // The typical events are all in the past
+        CommandResult result = new UpcomingEventsCommand(2).execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(List.of(nextWeek, todayEvent), model.getFilteredEventsList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        UpcomingEventsCommand command = new UpcomingEventsCommand(5);
+        String expected = UpcomingEventsCommand.class.getCanonicalName() + "{count=5}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static Event createEvent(String name, LocalDate date) {
+        String formattedDate = String.format("%02d-%02d-%04d", date.getDayOfMonth(), date.getMonthValue(),
+                date.getYear());
+        return new EventBuilder().withName(name).withFromDate(formattedDate).withToDate(formattedDate).build();
+    }
+}
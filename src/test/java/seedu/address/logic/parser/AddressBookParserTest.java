@@ -22,6 +22,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddEventDetailsCommand;
+import seedu.address.logic.commands.AuditBookingsCommand;
+import seedu.address.logic.commands.AuditVenuesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearEventsCommand;
 import seedu.address.logic.commands.ClearGuestsCommand;
@@ -33,18 +35,30 @@ import seedu.address.logic.commands.DeleteVendorCommand;
 import seedu.address.logic.commands.DeleteVenueCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.EventsBetweenCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FilterEventsCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindEventCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OverlappingEventsCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UpcomingEventsCommand;
 import seedu.address.logic.commands.ViewEventCommand;
 import seedu.address.logic.commands.ViewEventsCommand;
 import seedu.address.logic.commands.ViewVendorsCommand;
 import seedu.address.logic.commands.ViewVenuesCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.ToDate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Operator;
+import seedu.address.model.query.Query;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -129,6 +143,18 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -153,6 +179,31 @@ public class AddressBookParserTest {
                 new seedu.address.model.event.NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> keywords = Arrays.asList("alic", "competiton");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new SearchCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        Query query = new Query.Condition("rsvp", Operator.MATCHES, "CC");
+        assertEquals(new FilterCommand(query), parser.parseCommand(FilterCommand.COMMAND_WORD + " rsvp:CC"));
+        assertEquals(new FilterEventsCommand(query),
+                parser.parseCommand(FilterEventsCommand.COMMAND_WORD + " rsvp:CC"));
+    }
+
+    @Test
+    public void parseCommand_eventDates() throws Exception {
+        assertEquals(new EventsBetweenCommand(new FromDate("01-12-2024"), new ToDate("31-12-2024")),
+                parser.parseCommand(EventsBetweenCommand.COMMAND_WORD + " from/01-12-2024 to/31-12-2024"));
+        assertEquals(new UpcomingEventsCommand(3), parser.parseCommand(UpcomingEventsCommand.COMMAND_WORD + " 3"));
+        assertEquals(new OverlappingEventsCommand(INDEX_FIRST_EVENT),
+                parser.parseCommand(OverlappingEventsCommand.COMMAND_WORD + " eid/1"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -176,6 +227,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ViewEventsCommand.COMMAND_WORD) instanceof ViewEventsCommand);
     }
 
+    @Test
+    public void parseCommand_audit() throws Exception {
+        assertTrue(parser.parseCommand(AuditVenuesCommand.COMMAND_WORD) instanceof AuditVenuesCommand);
+        assertTrue(parser.parseCommand(AuditBookingsCommand.COMMAND_WORD) instanceof AuditBookingsCommand);
+    }
+
     @Test
     public void parseCommand_viewVenues() throws Exception {
         assertTrue(parser.parseCommand(ViewVendorsCommand.COMMAND_WORD) instanceof ViewVendorsCommand);
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_INTERVAL;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.EventsBetweenCommand;
+import seedu.address.model.event.FromDate;
+import seedu.address.model.event.ToDate;
+
+public class EventsBetweenCommandParserTest {
+    private EventsBetweenCommandParser parser = new EventsBetweenCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsEventsBetweenCommand() {
+        EventsBetweenCommand expectedCommand =
+                new EventsBetweenCommand(new FromDate("01-12-2024"), new ToDate("31-12-2024"));
+        assertParseSuccess(parser, " from/01-12-2024 to/31-12-2024", expectedCommand);
+
+        // same day
+        assertParseSuccess(parser, " from/01-12-2024 to/01-12-2024",
+                new EventsBetweenCommand(new FromDate("01-12-2024"), new ToDate("01-12-2024")));
+    }
+
+    @Test
+    public void parse_missingDate_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, EventsBetweenCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/01-12-2024", expectedMessage);
+        assertParseFailure(parser, " to/31-12-2024", expectedMessage);
+        assertParseFailure(parser, " december from/01-12-2024 to/31-12-2024", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDates_throwsParseException() {
+        assertParseFailure(parser, " from/32-12-2024 to/31-12-2024", FromDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from/31-12-2024 to/01-12-2024", MESSAGE_INVALID_INTERVAL);
+    }
+}
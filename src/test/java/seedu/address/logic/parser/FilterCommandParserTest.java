@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.query.Operator;
+import seedu.address.model.query.Query;
+
+public class FilterCommandParserTest {
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedCommand = new FilterCommand(new Query.And(List.of(
+                new Query.Condition("email", Operator.MATCHES, "*@acme.com"),
+                new Query.Condition("event", Operator.MATCHES, "Career Fair"))));
+        assertParseSuccess(parser, " email:*@acme.com event:\"Career Fair\"", expectedCommand);
+    }
+
+    @Test
+    public void parse_eventField_throwsParseException() {
+        assertParseFailure(parser, " from>=01-01-2025", String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, "from",
+                "name, phone, email, rsvp, event"));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterEventsCommand;
+import seedu.address.model.query.Operator;
+import seedu.address.model.query.Query;
+
+public class FilterEventsCommandParserTest {
+    private FilterEventsCommandParser parser = new FilterEventsCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterEventsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterEventsCommand() {
+        FilterEventsCommand expectedCommand = new FilterEventsCommand(new Query.And(List.of(
+                new Query.Condition("from", Operator.AT_LEAST, "01-01-2025"),
+                new Query.Condition("venue", Operator.MATCHES, "Hall A"))));
+        assertParseSuccess(parser, " from>=01-01-2025 venue:\"Hall A\"", expectedCommand);
+    }
+}
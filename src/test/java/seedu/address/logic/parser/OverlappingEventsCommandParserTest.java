@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.OverlappingEventsCommand;
+
+public class OverlappingEventsCommandParserTest {
+    private OverlappingEventsCommandParser parser = new OverlappingEventsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsOverlappingEventsCommand() {
+        String userInput = String.format(" %s%d", PREFIX_EVENT_ID, INDEX_FIRST_EVENT.getOneBased());
+        assertParseSuccess(parser, userInput, new OverlappingEventsCommand(INDEX_FIRST_EVENT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                OverlappingEventsCommand.MESSAGE_USAGE));
+    }
+}
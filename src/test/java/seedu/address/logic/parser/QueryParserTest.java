@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_EMPTY_QUERY;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_EXPECTED_CONDITION;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_INVALID_VALUE;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_UNBALANCED_PARENTHESES;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_UNCLOSED_QUOTE;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_UNKNOWN_FIELD;
+import static seedu.address.logic.parser.QueryParser.MESSAGE_UNSUPPORTED_OPERATOR;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.EventQueryCompiler;
+import seedu.address.model.query.FieldType;
+import seedu.address.model.query.Operator;
+import seedu.address.model.query.PersonQueryCompiler;
+import seedu.address.model.query.Query;
+
+public class QueryParserTest {
+
+    private static final Query EMAIL_AT_ACME = new Query.Condition("email", Operator.MATCHES, "*@acme.com");
+    private static final Query RSVP_CC = new Query.Condition("rsvp", Operator.MATCHES, "CC");
+    private static final Query NAME_ALICE = new Query.Condition("name", Operator.MATCHES, "alice");
+
+    private final QueryParser personQueryParser = new QueryParser(new PersonQueryCompiler().getFields());
+    private final QueryParser eventQueryParser = new QueryParser(new EventQueryCompiler().getFields());
+
+    @Test
+    public void parse_singleCondition_returnsCondition() throws Exception {
+        assertEquals(EMAIL_AT_ACME, personQueryParser.parse("email:*@acme.com"));
+        assertEquals(EMAIL_AT_ACME, personQueryParser.parse("  EMAIL:*@acme.com \t"));
+        assertEquals(new Query.Condition("venue", Operator.MATCHES, "Hall A"),
+                eventQueryParser.parse("venue:\"Hall A\""));
+        assertEquals(new Query.Condition("from", Operator.AT_LEAST, "01-01-2025"),
+                eventQueryParser.parse("from>=01-01-2025"));
+        assertEquals(new Query.Condition("to", Operator.LESS_THAN, "01-01-2025"),
+                eventQueryParser.parse("to<01-01-2025"));
+    }
+
+    @Test
+    public void parse_combinedConditions_notBindsTightestAndOrLoosest() throws Exception {
+        Query expected = new Query.Or(List.of(
+                new Query.And(List.of(RSVP_CC, new Query.Not(EMAIL_AT_ACME))),
+                NAME_ALICE));
+        assertEquals(expected, personQueryParser.parse("rsvp:CC not email:*@acme.com or name:alice"));
+        assertEquals(expected, personQueryParser.parse("rsvp:CC AND NOT email:*@acme.com OR name:alice"));
+    }
+
+    @Test
+    public void parse_parentheses_grouped() throws Exception {
+        Query expected = new Query.And(List.of(new Query.Or(List.of(NAME_ALICE, RSVP_CC)), EMAIL_AT_ACME));
+        assertEquals(expected, personQueryParser.parse("(name:alice or rsvp:CC) email:*@acme.com"));
+        assertEquals(new Query.Not(new Query.Or(List.of(NAME_ALICE, RSVP_CC))),
+                personQueryParser.parse("not(name:alice or rsvp:CC)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(personQueryParser, "  ", MESSAGE_EMPTY_QUERY);
+        assertParseFailure(personQueryParser, "alice", String.format(MESSAGE_EXPECTED_CONDITION, "alice"));
+        assertParseFailure(personQueryParser, "name:alice or", String.format(MESSAGE_EXPECTED_CONDITION, ""));
+        assertParseFailure(personQueryParser, "age:30", String.format(MESSAGE_UNKNOWN_FIELD, "age",
+                "name, phone, email, rsvp, event"));
+        assertParseFailure(personQueryParser, "name>alice",
+                String.format(MESSAGE_UNSUPPORTED_OPERATOR, "name", ">"));
+        assertParseFailure(eventQueryParser, "from>=2025-01-01", String.format(MESSAGE_INVALID_VALUE,
+                "2025-01-01", "from", FieldType.DATE.getMessageConstraints()));
+        assertParseFailure(personQueryParser, "rsvp:yes", String.format(MESSAGE_INVALID_VALUE,
+                "yes", "rsvp", FieldType.RSVP_STATUS.getMessageConstraints()));
+        assertParseFailure(eventQueryParser, "venue:\"Hall A", String.format(MESSAGE_UNCLOSED_QUOTE, "venue"));
+        assertParseFailure(personQueryParser, "(name:alice", MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(personQueryParser, "name:alice)", MESSAGE_UNBALANCED_PARENTHESES);
+    }
+
+    private static void assertParseFailure(QueryParser parser, String queryText, String expectedMessage) {
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parse(queryText));
+    }
+}
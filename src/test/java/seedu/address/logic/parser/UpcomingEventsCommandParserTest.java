@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.UpcomingEventsCommand;
+
+public class UpcomingEventsCommandParserTest {
+    private UpcomingEventsCommandParser parser = new UpcomingEventsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsDefaultCount() {
+        assertParseSuccess(parser, "  ", new UpcomingEventsCommand(UpcomingEventsCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_validCount_returnsUpcomingEventsCommand() {
+        assertParseSuccess(parser, " 10 ", new UpcomingEventsCommand(10));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingEventsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "ten", expectedMessage);
+    }
+}
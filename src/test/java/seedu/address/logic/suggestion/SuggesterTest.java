@@ -0,0 +1,70 @@
+package seedu.address.logic.suggestion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class SuggesterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Suggester suggester = new Suggester(model);
+
+    @Test
+    public void prepare_indexOfPersonTyped_personsSuggestedWithIndices() {
+        assertEquals(List.of(new Suggestion(Index.fromOneBased(3), "Carl Kurz", "delete 3"),
+                new Suggestion(Index.fromOneBased(6), "Fiona Kunz", "delete 6")),
+                suggester.prepare("delete kurz").run(10));
+    }
+
+    @Test
+    public void prepare_findKeywordsTyped_completedWithName() {
+        assertEquals(List.of(new Suggestion(Index.fromOneBased(1), "Alice Pauline", "find Alice Pauline")),
+                suggester.prepare("find ali").run(10));
+    }
+
+    @Test
+    public void prepare_indexAfterPrefixTyped_namesOfThatListSuggested() {
+        assertEquals(List.of(new Suggestion(Index.fromOneBased(6), "Code Competition", "viewEvent eid/6")),
+                suggester.prepare("viewEvent eid/code").run(10));
+        assertEquals(List.of(new Suggestion(Index.fromOneBased(1), "SUN Caters", "addEventDetails eid/1 vdr/1")),
+                suggester.prepare("addEventDetails eid/1 vdr/sun").run(10));
+    }
+
+    @Test
+    public void prepare_noNameBeingTyped_nothingSuggested() {
+        assertSame(SuggestionQuery.NONE, suggester.prepare("delete"));
+        assertSame(SuggestionQuery.NONE, suggester.prepare("delete "));
+        assertSame(SuggestionQuery.NONE, suggester.prepare("delete 1"));
+        assertSame(SuggestionQuery.NONE, suggester.prepare("viewEvent eid/1 2"));
+        assertSame(SuggestionQuery.NONE, suggester.prepare("list alice"));
+        assertSame(SuggestionQuery.NONE, suggester.prepare("edit alice n/Bob"));
+    }
+
+    @Test
+    public void prepare_filteredList_indicesOfFilteredList() {
+        model.updateFilteredPersonList(FIONA::equals);
+        assertEquals(List.of(new Suggestion(Index.fromOneBased(1), "Fiona Kunz", "delete 1")),
+                new Suggester(model).prepare("delete fiona").run(10));
+    }
+
+    @Test
+    public void prepare_listChangedAfterQuery_onlyLaterQueriesSeeChange() {
+        SuggestionQuery queryBeforeAdd = suggester.prepare("delete amy");
+        model.addPerson(AMY);
+
+        assertEquals(List.of(), queryBeforeAdd.run(10));
+        assertEquals(List.of(new Suggestion(Index.fromOneBased(8), "Amy Bee", "delete 8")),
+                suggester.prepare("delete amy").run(10));
+    }
+}
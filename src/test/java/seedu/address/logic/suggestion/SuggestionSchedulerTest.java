@@ -0,0 +1,78 @@
+package seedu.address.logic.suggestion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class SuggestionSchedulerTest {
+
+    private static final long DEBOUNCE_DELAY_MILLIS = 50;
+
+    private final Suggester suggester = new Suggester(new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+    private final SuggestionScheduler scheduler = new SuggestionScheduler(DEBOUNCE_DELAY_MILLIS, Runnable::run);
+    private final List<List<Suggestion>> handedOver = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void request_severalQueriesInQuickSuccession_onlyLastHandedOver() throws Exception {
+        CountDownLatch lastHandedOver = new CountDownLatch(1);
+        scheduler.request(suggester.prepare("delete ali"), handedOver::add);
+        scheduler.request(suggester.prepare("delete alic"), handedOver::add);
+        scheduler.request(suggester.prepare("delete kurz"), suggestions -> {
+            handedOver.add(suggestions);
+            lastHandedOver.countDown();
+        });
+
+        assertTrue(lastHandedOver.await(5, TimeUnit.SECONDS));
+        Thread.sleep(2 * DEBOUNCE_DELAY_MILLIS);
+        assertEquals(List.of(suggester.prepare("delete kurz").run(SuggestionScheduler.MAX_SUGGESTIONS)), handedOver);
+    }
+
+    @Test
+    public void request_nothingToSuggest_emptyListHandedOverAtOnce() {
+        scheduler.request(SuggestionQuery.NONE, handedOver::add);
+        assertEquals(List.of(List.of()), handedOver);
+    }
+
+    @Test
+    public void cancel_queryPending_nothingHandedOver() throws Exception {
+        scheduler.request(suggester.prepare("delete ali"), handedOver::add);
+        scheduler.cancel();
+
+        Thread.sleep(3 * DEBOUNCE_DELAY_MILLIS);
+        assertEquals(List.of(), handedOver);
+    }
+
+    @Test
+    public void request_queryFails_emptyListHandedOver() throws Exception {
+        SuggestionQuery failingQuery = new SuggestionQuery(new NameSnapshot(List.of()), List.of("ali"), "", false) {
+            @Override
+            public List<Suggestion> run(int limit) {
+                throw new IllegalStateException("Names changed while searching");
+            }
+        };
+        CountDownLatch handedOverOnce = new CountDownLatch(1);
+        scheduler.request(failingQuery, suggestions -> {
+            handedOver.add(suggestions);
+            handedOverOnce.countDown();
+        });
+
+        assertTrue(handedOverOnce.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of()), handedOver);
+    }
+}
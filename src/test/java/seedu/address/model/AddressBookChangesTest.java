@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.Person;
+import seedu.address.model.rsvp.Rsvp;
+import seedu.address.model.rsvp.RsvpStatus;
+import seedu.address.model.rsvp.exceptions.RsvpNotFoundException;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangesTest {
+
+    private final Event careerFair = new EventBuilder().withName("Career Fair")
+            .withPersons(List.of(ALICE, BENSON)).build();
+    private final Event hackathon = new EventBuilder().withName("Hackathon").withPersons(List.of(ALICE)).build();
+    private final Rsvp aliceCareerFair = new Rsvp(careerFair, ALICE, RsvpStatus.CC);
+    private final Rsvp bensonCareerFair = new Rsvp(careerFair, BENSON, RsvpStatus.TBC);
+    private final Rsvp aliceHackathon = new Rsvp(hackathon, ALICE, RsvpStatus.CC);
+
+    private final AddressBook addressBook = new AddressBook();
+    private final AddressBookChanges changes = new AddressBookChanges();
+
+    public AddressBookChangesTest() {
+        addressBook.setPersons(List.of(ALICE, BENSON));
+        addressBook.setEvents(List.of(careerFair, hackathon));
+        addressBook.setRsvps(List.of(aliceCareerFair, bensonCareerFair, aliceHackathon));
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(changes.isEmpty());
+        changes.removeRsvp(aliceCareerFair);
+        assertFalse(changes.isEmpty());
+    }
+
+    @Test
+    public void applyChanges_manyChanges_eachListChangedOnce() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        Event editedCareerFair = new EventBuilder(careerFair).withPersons(List.of(editedAlice, BENSON)).build();
+        Event editedHackathon = new EventBuilder(hackathon).withPersons(List.of(editedAlice)).build();
+        Rsvp editedAliceCareerFair = new Rsvp(editedCareerFair, editedAlice, RsvpStatus.CC);
+        Rsvp editedAliceHackathon = new Rsvp(editedHackathon, editedAlice, RsvpStatus.CC);
+
+        changes.setPerson(ALICE, editedAlice);
+        changes.setEvent(careerFair, editedCareerFair);
+        changes.setEvent(hackathon, editedHackathon);
+        changes.setRsvp(aliceCareerFair, editedAliceCareerFair);
+        changes.setRsvp(aliceHackathon, editedAliceHackathon);
+        changes.removeRsvp(bensonCareerFair);
+
+        long modificationCount = addressBook.getModificationCount();
+        addressBook.applyChanges(changes);
+
+        assertEquals(modificationCount + 3, addressBook.getModificationCount());
+        assertEquals(List.of(editedAlice, BENSON), addressBook.getPersonList());
+        assertEquals(List.of(editedCareerFair, editedHackathon), addressBook.getEventList());
+        assertEquals(List.of(editedAliceCareerFair, editedAliceHackathon), addressBook.getRsvpList());
+    }
+
+    @Test
+    public void applyChanges_elementReplacedTwice_lastReplacementApplied() {
+        Event firstEdit = new EventBuilder(careerFair).withDescription("First edit").build();
+        Event secondEdit = new EventBuilder(careerFair).withDescription("Second edit").build();
+        changes.setEvent(careerFair, firstEdit);
+        changes.setEvent(firstEdit, secondEdit);
+
+        addressBook.applyChanges(changes);
+        assertEquals(List.of(secondEdit, hackathon), addressBook.getEventList());
+    }
+
+    @Test
+    public void applyChanges_missingTarget_nothingChanged() {
+        Event missingEvent = new EventBuilder().withName("Missing Event").build();
+        changes.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        changes.setEvent(missingEvent, missingEvent);
+
+        long modificationCount = addressBook.getModificationCount();
+        assertThrows(EventNotFoundException.class, () -> addressBook.applyChanges(changes));
+        assertEquals(modificationCount, addressBook.getModificationCount());
+        assertEquals(List.of(ALICE, BENSON), addressBook.getPersonList());
+    }
+
+    @Test
+    public void applyChanges_targetWithDifferentFields_throwsNotFoundException() {
+        changes.removeRsvp(new Rsvp(careerFair, ALICE, RsvpStatus.CCC));
+        assertThrows(RsvpNotFoundException.class, () -> addressBook.applyChanges(changes));
+    }
+}
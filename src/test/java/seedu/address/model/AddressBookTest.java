@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -109,6 +110,20 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getRsvpList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_changed_countChanges() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertNotEquals(initialCount, countAfterAdd);
+
+        addressBook.hasPerson(ALICE);
+        assertEquals(countAfterAdd, addressBook.getModificationCount());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(countAfterAdd, addressBook.getModificationCount());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -172,6 +187,11 @@ public class AddressBookTest {
         public ObservableList<Vendor> getVendorList() {
             return vendors;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
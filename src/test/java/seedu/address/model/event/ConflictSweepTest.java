@@ -0,0 +1,103 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class ConflictSweepTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Test
+    public void findConflicts_sharedKeyOnSameDays_conflictFound() {
+        Event careerFair = createEvent("Career Fair", 0, 3);
+        Event hackathon = createEvent("Hackathon", 3, 4);
+        Event orientation = createEvent("Orientation", 5, 6);
+        Event sportsDay = createEvent("Sports Day", 1, 1);
+        Map<Event, List<String>> venues = Map.of(careerFair, List.of("LT27"), hackathon, List.of("LT27"),
+                orientation, List.of("LT27"), sportsDay, List.of("CLB"));
+
+        List<Conflict<String>> conflicts = ConflictSweep.findConflicts(List.of(orientation, hackathon, sportsDay,
+                careerFair), venues::get);
+
+        assertEquals(List.of(new Conflict<>("LT27", careerFair, hackathon)), conflicts);
+    }
+
+    @Test
+    public void findConflicts_noKeys_noConflicts() {
+        Event careerFair = createEvent("Career Fair", 0, 3);
+        Event hackathon = createEvent("Hackathon", 0, 3);
+
+        assertEquals(Collections.emptyList(), ConflictSweep.findConflicts(List.of(careerFair, hackathon),
+                event -> Collections.emptyList()));
+    }
+
+    @Test
+    public void findConflicts_randomEvents_sameAsComparingEveryPair() {
+        Random random = new Random(2103);
+        List<Event> events = new ArrayList<>();
+        Map<Event, List<Integer>> keys = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(365);
+            Event event = createEvent("Event " + i, start, start + random.nextInt(20));
+            events.add(event);
+            keys.put(event, List.of(random.nextInt(10), 10 + random.nextInt(10)));
+        }
+
+        Set<Conflict<Integer>> expectedConflicts = new HashSet<>();
+        for (Event first : events) {
+            for (Event second : events) {
+                if (isBefore(first, second) && overlaps(first, second)) {
+                    for (Integer key : keys.get(first)) {
+                        if (keys.get(second).contains(key)) {
+                            expectedConflicts.add(new Conflict<>(key, first, second));
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Conflict<Integer>> conflicts = ConflictSweep.findConflicts(events, keys::get);
+        assertEquals(expectedConflicts.size(), conflicts.size());
+        assertEquals(expectedConflicts, new HashSet<>(conflicts));
+    }
+
+    /**
+     * Returns true if {@code first} comes before {@code second} in the order the events are swept through.
+     */
+    private static boolean isBefore(Event first, Event second) {
+        int comparison = first.getFromDate().getDate().compareTo(second.getFromDate().getDate());
+        return comparison < 0
+                || (comparison == 0 && first.getName().eventName.compareTo(second.getName().eventName) < 0);
+    }
+
+    private static boolean overlaps(Event first, Event second) {
+        return !first.getToDate().getDate().isBefore(second.getFromDate().getDate())
+                && !second.getToDate().getDate().isBefore(first.getFromDate().getDate());
+    }
+
+    private static Event createEvent(String name, int fromDay, int toDay) {
+        return new EventBuilder().withName(name).withFromDate(format(day(fromDay))).withToDate(format(day(toDay)))
+                .build();
+    }
+
+    private static LocalDate day(int day) {
+        return FIRST_DAY.plusDays(day);
+    }
+
+    private static String format(LocalDate date) {
+        return String.format("%02d-%02d-%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+}
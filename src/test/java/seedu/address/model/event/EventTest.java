@@ -13,6 +13,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_TO_DATE_C
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.FOW;
 import static seedu.address.testutil.TypicalEvents.FSC;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +58,30 @@ public class EventTest {
         assertFalse(FSC.isSameEvent(editedFsc));
     }
 
+    @Test
+    public void isOverlapping() {
+        Event careerFair = new EventBuilder().withFromDate("01-12-2024").withToDate("03-12-2024").build();
+
+        // same days -> returns true
+        assertTrue(careerFair.isOverlapping(careerFair));
+
+        // sharing only the last day -> returns true
+        assertTrue(careerFair.isOverlapping(new EventBuilder().withFromDate("03-12-2024")
+                .withToDate("05-12-2024").build()));
+
+        // running inside the other event -> returns true
+        assertTrue(careerFair.isOverlapping(new EventBuilder().withFromDate("02-12-2024")
+                .withToDate("02-12-2024").build()));
+
+        // ending the day before -> returns false
+        assertFalse(careerFair.isOverlapping(new EventBuilder().withFromDate("29-11-2024")
+                .withToDate("30-11-2024").build()));
+
+        // starting the day after -> returns false
+        assertFalse(careerFair.isOverlapping(new EventBuilder().withFromDate("04-12-2024")
+                .withToDate("04-12-2024").build()));
+    }
+
     @Test
     public void getDisplayTitle_isValid() {
         assertEquals(FSC.getDisplayTitle(), FSC.getName().toString());
@@ -121,5 +149,10 @@ public class EventTest {
     public void isHashcodeValid() {
         assertEquals(FSC.hashCode(), FSC.hashCode());
         assertNotEquals(FSC.hashCode(), FOW.hashCode());
+
+        // equal events with different guests -> same hash code
+        Event fscWithGuests = new EventBuilder(FSC).withPersons(List.of(ALICE, BENSON)).build();
+        assertEquals(FSC, fscWithGuests);
+        assertEquals(FSC.hashCode(), fscWithGuests.hashCode());
     }
 }
@@ -0,0 +1,105 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventTimelineTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final Comparator<Event> BY_START_THEN_NAME =
+            Comparator.<Event, LocalDate>comparing(event -> event.getFromDate().getDate())
+                    .thenComparing(event -> event.getName().eventName);
+
+    private final EventTimeline timeline = new EventTimeline();
+
+    @Test
+    public void getEventsBetween_eventsTouchingRange_included() {
+        Event endsOnFirstDay = createEvent("Career Fair", 0, 3);
+        Event insideRange = createEvent("Hackathon", 4, 5);
+        Event startsOnLastDay = createEvent("Orientation", 6, 9);
+        Event spansRange = createEvent("Welfare Week", 0, 9);
+        Event afterRange = createEvent("Sports Day", 7, 7);
+        for (Event event : List.of(afterRange, startsOnLastDay, insideRange, spansRange, endsOnFirstDay)) {
+            timeline.add(event);
+        }
+
+        assertEquals(List.of(endsOnFirstDay, spansRange, insideRange, startsOnLastDay),
+                timeline.getEventsBetween(day(3), day(6)));
+    }
+
+    @Test
+    public void getEventsFrom_limit_earliestEventsReturned() {
+        Event past = createEvent("Career Fair", 0, 9);
+        Event first = createEvent("Hackathon", 2, 2);
+        Event secondByName = createEvent("Orientation", 3, 4);
+        Event firstByName = createEvent("Library Tour", 3, 3);
+        for (Event event : List.of(secondByName, past, firstByName, first)) {
+            timeline.add(event);
+        }
+
+        assertEquals(List.of(first, firstByName), timeline.getEventsFrom(day(1), 2));
+        assertEquals(List.of(first, firstByName, secondByName), timeline.getEventsFrom(day(1), 10));
+    }
+
+    @Test
+    public void getEventsBetween_randomEvents_sameAsScanningEveryEvent() {
+        Random random = new Random(2103);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(365);
+            Event event = createEvent("Event " + i, start, start + random.nextInt(30));
+            events.add(event);
+            timeline.add(event);
+        }
+        for (int i = 0; i < 200; i++) {
+            timeline.remove(events.remove(random.nextInt(events.size())));
+        }
+        assertEquals(events.size(), timeline.size());
+
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(400);
+            int to = from + random.nextInt(20);
+            assertEquals(scanEventsBetween(events, day(from), day(to)), timeline.getEventsBetween(day(from), day(to)));
+            assertEquals(scanEventsFrom(events, day(from), 7), timeline.getEventsFrom(day(from), 7));
+        }
+    }
+
+    private static List<Event> scanEventsBetween(List<Event> events, LocalDate from, LocalDate to) {
+        return events.stream()
+                .filter(event -> !event.getFromDate().getDate().isAfter(to)
+                        && !event.getToDate().getDate().isBefore(from))
+                .sorted(BY_START_THEN_NAME)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Event> scanEventsFrom(List<Event> events, LocalDate date, int limit) {
+        return events.stream()
+                .filter(event -> !event.getFromDate().getDate().isBefore(date))
+                .sorted(BY_START_THEN_NAME)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static Event createEvent(String name, int fromDay, int toDay) {
+        return new EventBuilder().withName(name).withFromDate(format(day(fromDay))).withToDate(format(day(toDay)))
+                .build();
+    }
+
+    private static LocalDate day(int day) {
+        return FIRST_DAY.plusDays(day);
+    }
+
+    private static String format(LocalDate date) {
+        return String.format("%02d-%02d-%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+}
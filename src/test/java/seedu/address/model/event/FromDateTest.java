@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class FromDateTest {
@@ -71,4 +73,23 @@ public class FromDateTest {
         FromDate sameFromDate = new FromDate("11-11-2023");
         assertEquals(fromDate.hashCode(), sameFromDate.hashCode());
     }
+
+    @Test
+    public void getDate() {
+        assertEquals(LocalDate.of(2023, 11, 9), new FromDate("09-11-2023").getDate());
+        assertEquals(LocalDate.of(2023, 11, 9), new FromDate("9/11/2023").getDate());
+        assertEquals(LocalDate.of(2030, 2, 1), new FromDate("1.2.30").getDate()); // two-digit year
+    }
+
+    @Test
+    public void isNotPast() {
+        LocalDate today = LocalDate.now();
+        assertTrue(new FromDate(format(today)).isNotPast());
+        assertTrue(new FromDate(format(today.plusDays(1)).replace('-', '/')).isNotPast());
+        assertFalse(new FromDate(format(today.minusDays(1))).isNotPast());
+    }
+
+    private static String format(LocalDate date) {
+        return String.format("%02d-%02d-%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
 }
@@ -0,0 +1,152 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MemberListTest {
+
+    private final MemberList<Person> memberList = MemberList.of(List.of(BENSON, ALICE));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MemberList.of(null));
+    }
+
+    @Test
+    public void of_memberList_returnsSameList() {
+        assertSame(memberList, MemberList.of(memberList));
+    }
+
+    @Test
+    public void get_keepsOrderOfList() {
+        assertEquals(List.of(BENSON, ALICE), memberList);
+        assertEquals(ALICE, memberList.get(1));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(memberList.contains(ALICE));
+        assertFalse(memberList.contains(CARL));
+
+        // same identity but different fields -> returns false
+        assertFalse(memberList.contains(new PersonBuilder(ALICE).withPhone("99999999").build()));
+    }
+
+    @Test
+    public void indexOf() {
+        assertEquals(1, memberList.indexOf(ALICE));
+        assertEquals(-1, memberList.indexOf(CARL));
+
+        // duplicate members -> index of first member
+        assertEquals(0, MemberList.of(List.of(ALICE, BENSON, ALICE)).indexOf(ALICE));
+    }
+
+    @Test
+    public void manyMembers_allFound() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        MemberList<Person> manyMembers = MemberList.of(persons);
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, manyMembers.indexOf(persons.get(i)));
+        }
+    }
+
+    @Test
+    public void of_listChangedAfterwards_changesNotSeen() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE));
+        MemberList<Person> members = MemberList.of(persons);
+        persons.add(BENSON);
+        assertEquals(List.of(ALICE), members);
+    }
+
+    @Test
+    public void with_originalListUnchanged() {
+        MemberList<Person> edited = memberList.with(CARL);
+        assertEquals(List.of(BENSON, ALICE, CARL), edited);
+        assertEquals(2, edited.indexOf(CARL));
+        assertEquals(List.of(BENSON, ALICE), memberList);
+        assertFalse(memberList.contains(CARL));
+    }
+
+    @Test
+    public void without_originalListUnchanged() {
+        MemberList<Person> edited = memberList.without(BENSON);
+        assertEquals(List.of(ALICE), edited);
+        assertEquals(0, edited.indexOf(ALICE));
+        assertEquals(List.of(BENSON, ALICE), memberList);
+
+        // member not in list -> returns same list
+        assertSame(memberList, memberList.without(CARL));
+
+        // duplicate members -> first member removed
+        assertEquals(List.of(BENSON, ALICE), MemberList.of(List.of(ALICE, BENSON, ALICE)).without(ALICE));
+    }
+
+    @Test
+    public void replace_originalListUnchanged() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        MemberList<Person> edited = memberList.replace(ALICE, editedAlice);
+        assertEquals(List.of(BENSON, editedAlice), edited);
+        assertFalse(edited.contains(ALICE));
+        assertEquals(1, edited.indexOf(editedAlice));
+        assertEquals(List.of(BENSON, ALICE), memberList);
+
+        // member not in list -> returns same list
+        assertSame(memberList, memberList.replace(CARL, editedAlice));
+    }
+
+    @Test
+    public void edit_membersWithSameHashCode_correctMemberEdited() {
+        // "Aa" and "BB" have the same hash code
+        MemberList<String> members = MemberList.of(List.of("Aa", "BB", "Aa"));
+        assertEquals(1, members.indexOf("BB"));
+        assertEquals(List.of("Aa", "Aa"), members.without("BB"));
+        assertEquals(List.of("Aa", "Cc", "Aa"), members.replace("BB", "Cc"));
+        assertEquals(List.of("BB", "Aa"), members.without("Aa"));
+    }
+
+    @Test
+    public void edit_manyEdits_sameAsArrayList() {
+        MemberList<String> members = MemberList.empty();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            members = members.with("Member " + i);
+            expected.add("Member " + i);
+        }
+        for (int i = 0; i < 500; i += 3) {
+            members = members.without("Member " + i);
+            expected.remove("Member " + i);
+        }
+        for (int i = 1; i < 500; i += 3) {
+            members = members.replace("Member " + i, "Edited " + i);
+            expected.set(expected.indexOf("Member " + i), "Edited " + i);
+        }
+
+        assertEquals(expected, members);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, members.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> memberList.add(CARL));
+        assertThrows(UnsupportedOperationException.class, () -> memberList.remove(ALICE));
+    }
+}
@@ -69,6 +69,25 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new EventBuilder().withName("Alice Bob").build()));
     }
 
+    @Test
+    public void test_withIndex_matchesSameEvents() {
+        UniqueEventList events = new UniqueEventList();
+        Event sportsDay = new EventBuilder().withName("Sports Day").build();
+        Event concert = new EventBuilder().withName("Concert").build();
+        events.add(sportsDay);
+        events.add(concert);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("sPORts", "Gala"))
+                .withIndex(events.getNameIndex());
+        assertTrue(predicate.test(sportsDay));
+        assertFalse(predicate.test(concert));
+
+        // Matches are looked up again after the list changes
+        Event gala = new EventBuilder().withName("Charity Gala").build();
+        events.setEvent(concert, gala);
+        assertTrue(predicate.test(gala));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
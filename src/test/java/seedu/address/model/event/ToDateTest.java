@@ -71,4 +71,14 @@ public class ToDateTest {
         ToDate sameToDate = new ToDate("11-11-2023");
         assertEquals(toDate.hashCode(), sameToDate.hashCode());
     }
+
+    @Test
+    public void isAfter() {
+        ToDate toDate = new ToDate("09-11-2023");
+        assertTrue(toDate.isAfter(new FromDate("09-11-2023"))); // same day
+        assertTrue(toDate.isAfter(new FromDate("8/11/2023")));
+        assertTrue(toDate.isAfter(new FromDate("31-12-22"))); // two-digit year
+        assertFalse(toDate.isAfter(new FromDate("10.11.2023")));
+        assertFalse(toDate.isAfter(new FromDate("01-01-2024")));
+    }
 }
@@ -10,7 +10,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_TO_DATE_C
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.FOC;
 import static seedu.address.testutil.TypicalEvents.FSC;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalVendors.SUN;
+import static seedu.address.testutil.TypicalVendors.UNS;
+import static seedu.address.testutil.TypicalVenues.CLB;
+import static seedu.address.testutil.TypicalVenues.ECUBE;
+import static seedu.address.testutil.TypicalVenues.LT27;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -169,6 +177,117 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
     }
 
+    @Test
+    public void getEventsWithGuest_eventsChanged_returnsCurrentEvents() {
+        Event careerFair = new EventBuilder().withName("Career Fair").withPersons(List.of(ALICE, BENSON)).build();
+        Event hackathon = new EventBuilder().withName("Hackathon").withPersons(List.of(ALICE)).build();
+        uniqueEventList.setEvents(List.of(careerFair, hackathon));
+        assertEquals(List.of(careerFair, hackathon), uniqueEventList.getEventsWithGuest(ALICE));
+        assertEquals(List.of(careerFair), uniqueEventList.getEventsWithGuest(BENSON));
+
+        Event editedHackathon = new EventBuilder(hackathon).withPersons(List.of(BENSON)).build();
+        uniqueEventList.setEvent(hackathon, editedHackathon);
+        assertEquals(List.of(careerFair), uniqueEventList.getEventsWithGuest(ALICE));
+        assertEquals(List.of(careerFair, editedHackathon), uniqueEventList.getEventsWithGuest(BENSON));
+
+        uniqueEventList.remove(careerFair);
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsWithGuest(ALICE));
+        assertEquals(List.of(editedHackathon), uniqueEventList.getEventsWithGuest(BENSON));
+    }
+
+    @Test
+    public void getEventsWithVendorAndAtVenue_eventsAdded_returnsEvents() {
+        Event careerFair = new EventBuilder().withName("Career Fair").withVendors(List.of(SUN)).withVenue(LT27)
+                .build();
+        Event hackathon = new EventBuilder().withName("Hackathon").withVendors(List.of(SUN, UNS)).build();
+        uniqueEventList.add(careerFair);
+        assertEquals(List.of(careerFair), uniqueEventList.getEventsWithVendor(SUN));
+
+        // Events added after the indexes are built are indexed too
+        uniqueEventList.add(hackathon);
+        assertEquals(List.of(careerFair, hackathon), uniqueEventList.getEventsWithVendor(SUN));
+        assertEquals(List.of(hackathon), uniqueEventList.getEventsWithVendor(UNS));
+        assertEquals(List.of(careerFair), uniqueEventList.getEventsAtVenue(LT27));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsAtVenue(CLB));
+    }
+
+    @Test
+    public void setEvent_guestsReplaced_indexesUpdated() {
+        Event careerFair = new EventBuilder().withName("Career Fair").withPersons(List.of(ALICE)).build();
+        uniqueEventList.add(careerFair);
+        assertEquals(List.of(careerFair), uniqueEventList.getEventsWithGuest(ALICE));
+
+        Event editedCareerFair = new EventBuilder(careerFair)
+                .withPersons(careerFair.getPersons().replace(ALICE, BENSON)).build();
+        uniqueEventList.setEvent(careerFair, editedCareerFair);
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsWithGuest(ALICE));
+        assertEquals(List.of(editedCareerFair), uniqueEventList.getEventsWithGuest(BENSON));
+    }
+
+    @Test
+    public void getEventsBetweenAndOverlapping_eventsChanged_returnsCurrentEvents() {
+        Event careerFair = new EventBuilder().withName("Career Fair").withFromDate("01-12-2024")
+                .withToDate("03-12-2024").build();
+        Event hackathon = new EventBuilder().withName("Hackathon").withFromDate("03-12-2024")
+                .withToDate("04-12-2024").build();
+        uniqueEventList.setEvents(List.of(hackathon, careerFair));
+        assertEquals(List.of(careerFair, hackathon),
+                uniqueEventList.getEventsBetween(LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 3)));
+        assertEquals(List.of(hackathon), uniqueEventList.getEventsOverlapping(careerFair));
+
+        Event movedHackathon = new EventBuilder(hackathon).withFromDate("05-12-2024").withToDate("05-12-2024").build();
+        uniqueEventList.setEvent(hackathon, movedHackathon);
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsOverlapping(careerFair));
+        assertEquals(List.of(movedHackathon), uniqueEventList.getEventsFrom(LocalDate.of(2024, 12, 2), 5));
+
+        uniqueEventList.remove(careerFair);
+        assertEquals(Collections.emptyList(),
+                uniqueEventList.getEventsBetween(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 4)));
+    }
+
+    @Test
+    public void getEventsAtVenueBetween_venuesChanged_returnsCurrentBookings() {
+        Event careerFair = new EventBuilder().withName("Career Fair").withFromDate("01-12-2024")
+                .withToDate("03-12-2024").withVenue(LT27).build();
+        Event hackathon = new EventBuilder().withName("Hackathon").withFromDate("03-12-2024")
+                .withToDate("04-12-2024").withVenue(CLB).build();
+        uniqueEventList.setEvents(List.of(careerFair, hackathon));
+        assertEquals(List.of(careerFair),
+                uniqueEventList.getEventsAtVenueBetween(LT27, LocalDate.of(2024, 12, 3), LocalDate.of(2024, 12, 4)));
+
+        Event movedHackathon = new EventBuilder(hackathon).withVenue(LT27).build();
+        uniqueEventList.setEvent(hackathon, movedHackathon);
+        assertEquals(List.of(careerFair, movedHackathon),
+                uniqueEventList.getEventsAtVenueBetween(LT27, LocalDate.of(2024, 12, 3), LocalDate.of(2024, 12, 4)));
+        assertEquals(Collections.emptyList(),
+                uniqueEventList.getEventsAtVenueBetween(CLB, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 4)));
+
+        uniqueEventList.remove(careerFair);
+        assertEquals(List.of(movedHackathon),
+                uniqueEventList.getEventsAtVenueBetween(LT27, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    public void setEventAndRemove_staleTargetWithOtherVenue_storedEventUnindexed() {
+        Event careerFair = new EventBuilder().withName("Career Fair").withFromDate("01-12-2024")
+                .withToDate("03-12-2024").withVenue(LT27).build();
+        uniqueEventList.add(careerFair);
+
+        // Equal to the stored event, as equals does not compare venues, but held at another venue
+        Event staleCareerFair = new EventBuilder(careerFair).withVenue(CLB).build();
+        Event movedCareerFair = new EventBuilder(careerFair).withVenue(ECUBE).build();
+        uniqueEventList.setEvent(staleCareerFair, movedCareerFair);
+        assertEquals(Collections.emptyList(),
+                uniqueEventList.getEventsAtVenueBetween(LT27, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 3)));
+        assertEquals(List.of(movedCareerFair),
+                uniqueEventList.getEventsAtVenueBetween(ECUBE, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 3)));
+
+        uniqueEventList.remove(staleCareerFair);
+        assertEquals(Collections.emptyList(),
+                uniqueEventList.getEventsAtVenueBetween(ECUBE, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 3)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsAtVenue(ECUBE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
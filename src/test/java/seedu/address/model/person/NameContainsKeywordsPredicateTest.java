@@ -69,6 +69,28 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
+    @Test
+    public void test_withIndex_matchesSamePersons() {
+        UniquePersonList persons = new UniquePersonList();
+        Person aliceBob = new PersonBuilder().withName("Alice Bob").build();
+        Person carol = new PersonBuilder().withName("Carol").build();
+        persons.add(aliceBob);
+        persons.add(carol);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "Dave"))
+                .withIndex(persons.getNameIndex());
+        assertTrue(predicate.test(aliceBob));
+        assertFalse(predicate.test(carol));
+
+        // Matches are looked up again after the list changes
+        Person dave = new PersonBuilder().withName("Dave").build();
+        persons.setPerson(carol, dave);
+        assertTrue(predicate.test(dave));
+        Person eve = new PersonBuilder().withName("Eve").build();
+        persons.setPerson(aliceBob, eve);
+        assertFalse(predicate.test(eve));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
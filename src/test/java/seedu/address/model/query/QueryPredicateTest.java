@@ -0,0 +1,117 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalEvents.BASKETBALL;
+import static seedu.address.testutil.TypicalEvents.CODING;
+import static seedu.address.testutil.TypicalEvents.EXHIBITION;
+import static seedu.address.testutil.TypicalEvents.FOC;
+import static seedu.address.testutil.TypicalEvents.FOW;
+import static seedu.address.testutil.TypicalEvents.FSC;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPredicateTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final PersonQueryCompiler personCompiler = new PersonQueryCompiler();
+    private final EventQueryCompiler eventCompiler = new EventQueryCompiler();
+
+    @Test
+    public void test_personQueries_matchingPersonsListed() throws Exception {
+        assertEquals(List.of(ALICE), filterPersons("name:\"alice pauline\""));
+        assertEquals(List.of(), filterPersons("name:\"pauline alice\""));
+        assertEquals(List.of(ALICE), filterPersons("name=\"ALICE PAULINE\""));
+        assertEquals(List.of(ALICE), filterPersons("email:alice@*"));
+        assertEquals(List.of(BENSON), filterPersons("phone:98765432"));
+        assertEquals(List.of(ALICE), filterPersons("rsvp:cc"));
+        assertEquals(List.of(BENSON, DANIEL), filterPersons("name:meier"));
+        assertEquals(List.of(DANIEL), filterPersons("name:meier not rsvp:CCC"));
+        assertEquals(model.getAddressBook().getPersonList(), filterPersons("event:\"Academic Awards Ceremony\""));
+        assertEquals(List.of(), filterPersons("event:\"Tech Expo\""));
+    }
+
+    @Test
+    public void test_eventQueries_matchingEventsListed() throws Exception {
+        assertEquals(List.of(FSC), filterEvents("from>=01-01-2024"));
+        assertEquals(List.of(FOC, FOW), filterEvents("from=01-02-2023"));
+        assertEquals(List.of(ACADEMIC, BASKETBALL), filterEvents("to<09-11-2024"));
+        assertEquals(List.of(ACADEMIC), filterEvents("venue:LT27"));
+        assertEquals(List.of(ACADEMIC), filterEvents("vendor:\"SUN Caters\""));
+        assertEquals(List.of(ACADEMIC), filterEvents("guest:kurz"));
+        assertEquals(List.of(EXHIBITION), filterEvents("rsvp:CCC"));
+        assertEquals(List.of(FSC, FOC, FOW, BASKETBALL, CODING),
+                filterEvents("name:competition or description:*camp*"));
+    }
+
+    @Test
+    public void test_addressBookChanged_queryCompiledAgain() throws Exception {
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Alice Meier").build();
+        model.updateFilteredPersonList(toPersonPredicate("name:alice"));
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        model.setPerson(BENSON, renamedBenson);
+        assertEquals(List.of(ALICE, renamedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void compileQuery_conditions_selectivityKnownFromIndexesAndEstimatedOtherwise() throws Exception {
+        int personCount = model.getAddressBook().getPersonList().size();
+        assertEquals(1.0 / personCount, compilePersons("rsvp:CC").getSelectivity());
+        assertEquals(2.0 / personCount, compilePersons("name:meier").getSelectivity());
+        assertEquals(QueryCompiler.PATTERN_SELECTIVITY, compilePersons("email:*@acme.com").getSelectivity());
+        assertEquals(1 - QueryCompiler.EQUALS_SELECTIVITY, compilePersons("not phone=123").getSelectivity());
+        assertEquals(QueryCompiler.PATTERN_SELECTIVITY / personCount,
+                compilePersons("email:*@acme.com rsvp:CC").getSelectivity());
+    }
+
+    @Test
+    public void equals() {
+        Query query = new Query.Condition("name", Operator.MATCHES, "alice");
+        QueryPredicate<Person> predicate = new QueryPredicate<>(query, personCompiler, model);
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new QueryPredicate<>(query, new PersonQueryCompiler(), model)));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new QueryPredicate<>(query, eventCompiler, model)));
+        assertFalse(predicate.equals(new QueryPredicate<>(
+                new Query.Condition("name", Operator.MATCHES, "bob"), personCompiler, model)));
+    }
+
+    private List<Person> filterPersons(String queryText) throws ParseException {
+        model.updateFilteredPersonList(toPersonPredicate(queryText));
+        return List.copyOf(model.getFilteredPersonList());
+    }
+
+    private List<Event> filterEvents(String queryText) throws ParseException {
+        Query query = new QueryParser(eventCompiler.getFields()).parse(queryText);
+        model.updateFilteredEventList(new QueryPredicate<>(query, eventCompiler, model));
+        return List.copyOf(model.getFilteredEventsList());
+    }
+
+    private QueryPredicate<Person> toPersonPredicate(String queryText) throws ParseException {
+        Query query = new QueryParser(personCompiler.getFields()).parse(queryText);
+        return new QueryPredicate<>(query, personCompiler, model);
+    }
+
+    private CompiledQuery<Person> compilePersons(String queryText) throws ParseException {
+        return personCompiler.compileQuery(new QueryParser(personCompiler.getFields()).parse(queryText), model);
+    }
+}
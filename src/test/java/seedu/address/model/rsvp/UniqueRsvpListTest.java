@@ -16,6 +16,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.rsvp.exceptions.DuplicateRsvpException;
 import seedu.address.model.rsvp.exceptions.RsvpNotFoundException;
 
 public class UniqueRsvpListTest {
@@ -49,6 +50,59 @@ public class UniqueRsvpListTest {
         assertEquals(validRsvp, results.get());
     }
 
+    @Test
+    public void getRsvp_rsvpInList_returnsRsvp() {
+        uniqueRsvpList.add(validRsvp);
+        assertEquals(Optional.of(validRsvp), uniqueRsvpList.getRsvp(ACADEMIC, ALICE));
+        assertEquals(Optional.empty(), uniqueRsvpList.getRsvp(ACADEMIC, BENSON));
+        assertEquals(Optional.empty(), uniqueRsvpList.getRsvp(BASKETBALL, ALICE));
+    }
+
+    @Test
+    public void getRsvps_eventAndPerson_returnsTheirRsvps() {
+        Rsvp bensonRsvp = new Rsvp(ACADEMIC, BENSON, RsvpStatus.TBC);
+        Rsvp basketballRsvp = new Rsvp(BASKETBALL, ALICE, RsvpStatus.CC);
+        uniqueRsvpList.add(validRsvp);
+        uniqueRsvpList.add(bensonRsvp);
+        uniqueRsvpList.add(basketballRsvp);
+
+        assertEquals(List.of(validRsvp, bensonRsvp), uniqueRsvpList.getRsvps(ACADEMIC));
+        assertEquals(List.of(validRsvp, basketballRsvp), uniqueRsvpList.getRsvps(ALICE));
+
+        uniqueRsvpList.remove(validRsvp);
+        assertEquals(List.of(bensonRsvp), uniqueRsvpList.getRsvps(ACADEMIC));
+        assertEquals(List.of(basketballRsvp), uniqueRsvpList.getRsvps(ALICE));
+    }
+
+    @Test
+    public void add_sameRsvpWithDifferentStatus_replacesRsvp() {
+        Rsvp updatedRsvp = new Rsvp(ACADEMIC, ALICE, RsvpStatus.TBC);
+        uniqueRsvpList.add(validRsvp);
+        uniqueRsvpList.add(updatedRsvp);
+        assertEquals(List.of(updatedRsvp), uniqueRsvpList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(updatedRsvp), uniqueRsvpList.getRsvp(ACADEMIC, ALICE));
+    }
+
+    @Test
+    public void add_sameRsvpAfterEarlierRsvpRemoved_replacesInPlace() {
+        Rsvp bensonRsvp = new Rsvp(ACADEMIC, BENSON, RsvpStatus.TBC);
+        Rsvp basketballRsvp = new Rsvp(BASKETBALL, ALICE, RsvpStatus.CC);
+        uniqueRsvpList.add(validRsvp);
+        uniqueRsvpList.add(bensonRsvp);
+        uniqueRsvpList.add(basketballRsvp);
+        uniqueRsvpList.remove(validRsvp);
+
+        Rsvp updatedBensonRsvp = new Rsvp(ACADEMIC, BENSON, RsvpStatus.CC);
+        Rsvp updatedBasketballRsvp = new Rsvp(BASKETBALL, ALICE, RsvpStatus.CCC);
+        uniqueRsvpList.add(updatedBasketballRsvp);
+        uniqueRsvpList.add(updatedBensonRsvp);
+        assertEquals(List.of(updatedBensonRsvp, updatedBasketballRsvp), uniqueRsvpList.asUnmodifiableObservableList());
+
+        // A target that is equal to the stored RSVP but not the same object is still found
+        uniqueRsvpList.remove(new Rsvp(ACADEMIC, BENSON, RsvpStatus.CC));
+        assertEquals(List.of(updatedBasketballRsvp), uniqueRsvpList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void add_nullRsvp_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRsvpList.add(null));
@@ -83,6 +137,14 @@ public class UniqueRsvpListTest {
         assertEquals(expectedUniqueRsvpList, uniqueRsvpList);
     }
 
+    @Test
+    public void setRsvp_editedRsvpHasNonUniqueIdentity_throwsDuplicateRsvpException() {
+        Rsvp othrRsvp = new Rsvp(BASKETBALL, BENSON, RsvpStatus.TBC);
+        uniqueRsvpList.add(validRsvp);
+        uniqueRsvpList.add(othrRsvp);
+        assertThrows(DuplicateRsvpException.class, () -> uniqueRsvpList.setRsvp(validRsvp, othrRsvp));
+    }
+
     @Test
     public void remove_nullRsvp_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRsvpList.remove(null));
@@ -132,6 +194,14 @@ public class UniqueRsvpListTest {
         assertEquals(expectedUniqueRsvpList, uniqueRsvpList);
     }
 
+    @Test
+    public void setRsvps_listWithDuplicateRsvps_throwsDuplicateRsvpException() {
+        uniqueRsvpList.add(validRsvp);
+        List<Rsvp> listWithDuplicateRsvps = List.of(validRsvp, new Rsvp(ACADEMIC, ALICE, RsvpStatus.TBC));
+        assertThrows(DuplicateRsvpException.class, () -> uniqueRsvpList.setRsvps(listWithDuplicateRsvps));
+        assertTrue(uniqueRsvpList.contains(validRsvp));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
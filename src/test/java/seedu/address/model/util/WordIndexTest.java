@@ -0,0 +1,136 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class WordIndexTest {
+
+    private final WordIndex<String> wordIndex = new WordIndex<>();
+
+    @Test
+    public void toWords() {
+        assertEquals(List.of(), WordIndex.toWords("   "));
+        assertEquals(List.of("alice", "pauline"), WordIndex.toWords(" Alice  PAULINE "));
+    }
+
+    @Test
+    public void getKeysWithAnyWord_wordsInDifferentCase_unionReturned() {
+        wordIndex.add("1", "Alice Pauline");
+        wordIndex.add("2", "Benson Meier");
+        wordIndex.add("3", "Alice Meier");
+
+        assertEquals(Set.of("1", "3"), wordIndex.getKeysWithAnyWord(List.of("ALICE")));
+        assertEquals(Set.of("1", "2", "3"), wordIndex.getKeysWithAnyWord(List.of("pauline", "meier")));
+        assertTrue(wordIndex.getKeysWithAnyWord(List.of("Ali")).isEmpty());
+        assertTrue(wordIndex.getKeysWithAnyWord(List.of()).isEmpty());
+    }
+
+    @Test
+    public void getKeysWithAllWords_severalWords_intersectionReturned() {
+        wordIndex.add("1", "Alice Pauline");
+        wordIndex.add("2", "Benson Meier");
+        wordIndex.add("3", "Alice Meier");
+
+        assertEquals(Set.of("3"), wordIndex.getKeysWithAllWords(List.of("meier", "Alice")));
+        assertTrue(wordIndex.getKeysWithAllWords(List.of("Alice", "Carl")).isEmpty());
+        assertTrue(wordIndex.getKeysWithAllWords(List.of()).isEmpty());
+    }
+
+    @Test
+    public void remove_keyInIndex_keyNoLongerFound() {
+        wordIndex.add("1", "Alice Pauline");
+        wordIndex.add("2", "Alice Meier");
+        long modificationCount = wordIndex.getModificationCount();
+
+        wordIndex.remove("1");
+        assertEquals(Set.of("2"), wordIndex.getKeysWithAnyWord(List.of("alice", "pauline")));
+        assertNotEquals(modificationCount, wordIndex.getModificationCount());
+
+        // The same key can be added again with another name
+        wordIndex.add("1", "Carl Kurz");
+        assertEquals(Set.of("1"), wordIndex.getKeysWithAnyWord(List.of("kurz")));
+    }
+
+    @Test
+    public void remove_keyNotInIndex_nothingChanged() {
+        wordIndex.add("1", "Alice Pauline");
+        long modificationCount = wordIndex.getModificationCount();
+
+        wordIndex.remove("2");
+        assertEquals(modificationCount, wordIndex.getModificationCount());
+    }
+
+    @Test
+    public void search_prefixesAndTypos_rankedBestFirst() {
+        wordIndex.add("alicia", "Alicia Tan");
+        wordIndex.add("alec", "Alec Yeoh");
+        wordIndex.add("alice", "Alice Pauline");
+        wordIndex.add("alic", "Alic Lim");
+        wordIndex.add("bob", "Bob Choo");
+
+        // "alic" is exact, "alice" and "alicia" start with "alic", and "alec" is one typo away from "alic"
+        assertEquals(List.of(new NameMatch<>("alic", 1, WordIndex.EXACT_MATCH_COST),
+                new NameMatch<>("alice", 1, WordIndex.PREFIX_MATCH_COST),
+                new NameMatch<>("alicia", 1, WordIndex.PREFIX_MATCH_COST),
+                new NameMatch<>("alec", 1, WordIndex.TYPO_MATCH_COST + 1)),
+                wordIndex.search(List.of("ALIC"), 10));
+
+        // Two typos are allowed in longer terms
+        assertEquals(List.of(new NameMatch<>("alicia", 1, WordIndex.TYPO_MATCH_COST + 2)),
+                wordIndex.search(List.of("alciai"), 10));
+    }
+
+    @Test
+    public void search_moreTermsMatched_rankedFirst() {
+        wordIndex.add("1", "Alice Pauline");
+        wordIndex.add("2", "Pauline Tan");
+
+        List<NameMatch<String>> matches = wordIndex.search(List.of("paul", "alice"), 10);
+        assertEquals(List.of("1", "2"), List.of(matches.get(0).getKey(), matches.get(1).getKey()));
+        assertEquals(2, matches.get(0).getTermsMatched());
+        assertEquals(WordIndex.PREFIX_MATCH_COST + WordIndex.EXACT_MATCH_COST, matches.get(0).getCost());
+    }
+
+    @Test
+    public void search_shortTerm_noTypos() {
+        wordIndex.add("1", "Al");
+        wordIndex.add("2", "Bo");
+
+        assertEquals(Set.of("1"), toKeys(wordIndex.search(List.of("al"), 10)));
+        assertTrue(wordIndex.search(List.of("ab"), 10).isEmpty());
+    }
+
+    @Test
+    public void search_moreMatchesThanLimit_bestMatchesKept() {
+        for (int i = 0; i < 50; i++) {
+            wordIndex.add("partial" + i, "Carlson " + i);
+        }
+        wordIndex.add("exact", "Carl");
+
+        List<NameMatch<String>> matches = wordIndex.search(List.of("carl"), 5);
+        assertEquals(5, matches.size());
+        assertEquals("exact", matches.get(0).getKey());
+    }
+
+    @Test
+    public void search_wordRemoved_noLongerMatched() {
+        wordIndex.add("1", "Alice");
+        wordIndex.add("2", "Alicia");
+        wordIndex.remove("2");
+
+        assertEquals(Set.of("1"), toKeys(wordIndex.search(List.of("alic"), 10)));
+        wordIndex.clear();
+        assertTrue(wordIndex.search(List.of("alic"), 10).isEmpty());
+    }
+
+    private static Set<String> toKeys(List<NameMatch<String>> matches) {
+        return matches.stream().map(NameMatch::getKey).collect(Collectors.toSet());
+    }
+}
@@ -11,9 +11,12 @@ import static seedu.address.testutil.TypicalVenues.LT27;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.util.WordIndex;
 import seedu.address.model.venue.exceptions.DuplicateVenueException;
 import seedu.address.model.venue.exceptions.VenueNotFoundException;
 import seedu.address.testutil.VenueBuilder;
@@ -45,6 +48,22 @@ public class UniqueVenueListTest {
         assertTrue(uniqueVenueList.contains(editedClb));
     }
 
+    @Test
+    public void getVenue_venueInList_returnsVenue() {
+        uniqueVenueList.add(LT27);
+        assertEquals(Optional.of(LT27), uniqueVenueList.getVenue(LT27.getName()));
+        assertEquals(Optional.empty(), uniqueVenueList.getVenue(CLB.getName()));
+    }
+
+    @Test
+    public void setVenue_editedIdentity_nameIndexUpdated() {
+        uniqueVenueList.add(LT27);
+        uniqueVenueList.setVenue(LT27, CLB);
+        assertEquals(Set.of(CLB.getName()), uniqueVenueList.getNameIndex()
+                .getKeysWithAnyWord(WordIndex.toWords(CLB.getName().venueName)));
+        assertEquals(Optional.empty(), uniqueVenueList.getVenue(LT27.getName()));
+    }
+
     @Test
     public void add_nullVenue_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueVenueList.add(null));
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookFormatConverter.jsonToBinary(jsonFilePath, binaryFilePath);
+        AddressBookFormatConverter.binaryToJson(binaryFilePath, convertedFilePath);
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedFilePath));
+    }
+
+    @Test
+    public void convert_binaryToJsonAndBack_sameFile() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path convertedFilePath = testFolder.resolve("converted.bin");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookFormatConverter.binaryToJson(binaryFilePath, jsonFilePath);
+        AddressBookFormatConverter.jsonToBinary(jsonFilePath, convertedFilePath);
+        assertArrayEquals(Files.readAllBytes(binaryFilePath), Files.readAllBytes(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.jsonToBinary(
+                testFolder.resolve("missing.json"), testFolder.resolve("addressbook.bin")));
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.rsvp.Rsvp;
+import seedu.address.model.rsvp.RsvpStatus;
+import seedu.address.model.vendor.Vendor;
+import seedu.address.model.venue.Venue;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VendorBuilder;
+import seedu.address.testutil.VenueBuilder;
+
+/**
+ * Compares how long {@link JsonAddressBookStorage} and {@link BinaryAddressBookStorage} take to load the same
+ * generated address book. Not run as part of the tests; run it with {@code gradlew storageBenchmark}, optionally
+ * passing the number of persons with {@code -PbenchmarkPersons=N}.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20000;
+    private static final int GUESTS_PER_EVENT = 10;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = generateAddressBook(personCount);
+        System.out.printf("Address book: %d persons, %d venues, %d vendors, %d events, %d RSVPs%n",
+                addressBook.getPersonList().size(), addressBook.getVenueList().size(),
+                addressBook.getVendorList().size(), addressBook.getEventList().size(),
+                addressBook.getRsvpList().size());
+
+        Path folder = Files.createTempDirectory("storage-benchmark");
+        try {
+            AddressBookStorage jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+            AddressBookStorage binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+            benchmark("json", jsonStorage, addressBook);
+            benchmark("binary", binaryStorage, addressBook);
+            benchmark("lazy", new BinaryAddressBookStorage(folder.resolve("lazy.bin"), 0, true), addressBook);
+        } finally {
+            try (Stream<Path> files = Files.list(folder)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(folder);
+        }
+    }
+
+    private static void benchmark(String name, AddressBookStorage storage, AddressBook addressBook)
+            throws IOException, DataLoadingException {
+        storage.saveAddressBook(addressBook);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            storage.readAddressBook();
+        }
+
+        long[] loadTimes = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            storage.readAddressBook();
+            loadTimes[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(loadTimes);
+        System.out.printf("%-6s file size %,d bytes, load time median %.1f ms (min %.1f ms, max %.1f ms)%n", name,
+                Files.size(storage.getAddressBookFilePath()), loadTimes[MEASURED_ROUNDS / 2] / 1e6,
+                loadTimes[0] / 1e6, loadTimes[MEASURED_ROUNDS - 1] / 1e6);
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons, and a tenth as many venues, vendors and events.
+     * Every event has a venue, a vendor and {@link #GUESTS_PER_EVENT} guests, each with an RSVP.
+     */
+    private static AddressBook generateAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com").build();
+            addressBook.addPerson(person);
+            persons.add(person);
+        }
+
+        int eventCount = Math.max(1, personCount / 10);
+        for (int i = 0; i < eventCount; i++) {
+            Venue venue = new VenueBuilder().withName("Venue " + i).withAddress(i + " Kent Ridge Road")
+                    .withCapacity(String.valueOf(100 + i % 400)).build();
+            Vendor vendor = new VendorBuilder().withName("Vendor " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("vendor" + i + "@example.com").build();
+            addressBook.addVenue(venue);
+            addressBook.addVendor(vendor);
+
+            List<Person> guests = new ArrayList<>();
+            for (int j = 0; j < GUESTS_PER_EVENT; j++) {
+                guests.add(persons.get((i * GUESTS_PER_EVENT + j) % persons.size()));
+            }
+            Event event = new EventBuilder().withName("Event " + i).withDescription("Description of event " + i)
+                    .withFromDate("01-01-2030").withToDate("02-01-2030").withNote("Note " + i)
+                    .withPersons(guests).withVendors(List.of(vendor)).withVenue(venue).build();
+            addressBook.addEvent(event);
+            for (int j = 0; j < guests.size(); j++) {
+                Rsvp rsvp = new Rsvp(event, guests.get(j), RsvpStatus.values()[j % RsvpStatus.values().length]);
+                if (!addressBook.hasRsvp(rsvp)) {
+                    addressBook.addRsvp(rsvp);
+                }
+            }
+        }
+        return addressBook;
+    }
+}
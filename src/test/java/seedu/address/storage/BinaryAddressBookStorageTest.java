@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSnapshotPath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getSnapshotPath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"), BinaryAddressBookStorage.getSnapshotPath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("NotASnapshot.bin");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] snapshot = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(snapshot, snapshot.length / 2));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookCodec.MAGIC);
+            out.writeInt(BinaryAddressBookCodec.VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertAddressBookEquals(original, readBack);
+
+        // References are restored as the elements of the top-level lists
+        Event event = readBack.getEventList().stream()
+                .filter(e -> !e.getPersons().isEmpty() && e.getVenue() != null).findFirst().get();
+        assertSame(readBack.getPersonList().get(readBack.getPersonList().indexOf(event.getPersons().get(0))),
+                event.getPersons().get(0));
+        assertSame(readBack.getVenueList().get(readBack.getVenueList().indexOf(event.getVenue())), event.getVenue());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertAddressBookEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_recoveredFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 2, false);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(filePath, "corrupted");
+        assertAddressBookEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_eventWithUnknownGuest_throwsIoException() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Event event = addressBook.getEventList().get(0);
+        Event eventWithUnknownGuest = new Event(event.getName(), event.getDescription(), event.getFromDate(),
+                event.getToDate(), event.getNote(), List.of(HOON), event.getVendors(), event.getVenue());
+        addressBook.setEvent(event, eventWithUnknownGuest);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("TempAddressBook.bin"));
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookCodec.MAGIC);
+            out.writeInt(BinaryAddressBookCodec.VERSION);
+            // Strings: a name, a phone and an email
+            out.writeInt(3);
+            for (String string : new String[] {"Alice Pauline", "94351253", "alice@example.com"}) {
+                out.writeInt(string.length());
+                out.writeBytes(string);
+            }
+            // The same person twice
+            out.writeInt(2);
+            for (int i = 0; i < 2; i++) {
+                out.writeInt(0);
+                out.writeInt(1);
+                out.writeInt(2);
+            }
+        }
+
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        assertThrows(IllegalValueException.class,
+                String.format(BinaryAddressBookCodec.MESSAGE_DUPLICATE_ELEMENT, "person"), () ->
+                        BinaryAddressBookCodec.read(snapshot, false));
+    }
+
+    @Test
+    public void readAddressBook_lazyLoading_eventListsDecodedOnFirstUse() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath, 0, true).readAddressBook().get();
+        Event event = readBack.getEventList().stream().filter(e -> !e.getPersons().isEmpty()).findFirst().get();
+        LazyReferenceList<?> guests = (LazyReferenceList<?>) event.getPersons();
+        assertFalse(guests.isDecoded());
+
+        assertSame(readBack.getPersonList().get(readBack.getPersonList().indexOf(guests.get(0))), guests.get(0));
+        assertTrue(guests.isDecoded());
+        assertAddressBookEquals(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_lazilyLoaded_eventListsNotDecoded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 0, true);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        storage.saveAddressBook(readBack);
+        for (Event event : readBack.getEventList()) {
+            assertFalse(((LazyReferenceList<?>) event.getPersons()).isDecoded());
+            assertFalse(((LazyReferenceList<?>) event.getVendors()).isDecoded());
+        }
+        assertAddressBookEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_overLoadedSnapshot_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // The loaded snapshot must not keep the file open, or it could not be replaced on every platform
+        for (boolean isLazyLoading : new boolean[] {false, true}) {
+            BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 1, isLazyLoading);
+            ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+            storage.saveAddressBook(readBack);
+            assertAddressBookEquals(original, storage.readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void readAddressBook_lazyLoadingInvalidGuest_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookCodec.MAGIC);
+            out.writeInt(BinaryAddressBookCodec.VERSION);
+            // Strings: an event name, description and date
+            out.writeInt(3);
+            for (String string : new String[] {"Party", "Birthday party", "12-12-2030"}) {
+                out.writeInt(string.length());
+                out.writeBytes(string);
+            }
+            // No persons, venues or vendors
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeInt(0);
+            // An event with a guest that does not exist
+            out.writeInt(1);
+            for (int field : new int[] {0, 1, 2, 2, -1, 1, 0, 0, -1}) {
+                out.writeInt(field);
+            }
+            out.writeInt(0);
+        }
+
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath, 0, true).readAddressBook());
+    }
+
+    private static void assertAddressBookEquals(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getVenueList(), actual.getVenueList());
+        assertEquals(expected.getVendorList(), actual.getVendorList());
+        assertEquals(expected.getEventList(), actual.getEventList());
+        assertEquals(expected.getRsvpList(), actual.getRsvpList());
+        for (int i = 0; i < expected.getEventList().size(); i++) {
+            assertEquals(expected.getEventList().get(i).getPersons(), actual.getEventList().get(i).getPersons());
+            assertEquals(expected.getEventList().get(i).getVendors(), actual.getEventList().get(i).getVendors());
+            assertEquals(expected.getEventList().get(i).getVenue(), actual.getEventList().get(i).getVenue());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_firstSave_writesWholeFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_changed_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        String savedFile = Files.readString(filePath);
+
+        modify(original);
+        storage.saveAddressBook(original);
+        assertEquals(savedFile, Files.readString(filePath));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        // Replays the journal over the file
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertAddressBookEquals(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        assertAddressBookEquals(readBack, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compactedIntoFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 0, 1, Duration.ofDays(1));
+        storage.saveAddressBook(original);
+
+        modify(original);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertFalse(AddressBookJournal.hasJournal(filePath));
+
+        // Later changes are journaled against the compacted file
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertAddressBookEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertAddressBookEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_recoveredFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, 1, Duration.ofDays(1));
+        storage.saveAddressBook(original);
+        AddressBook firstSaved = new AddressBook(original);
+
+        // Compacting the journal into the file keeps the file it replaces as a backup
+        modify(original);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertTrue(Files.exists(FileUtil.getBackupPath(filePath, 1)));
+
+        Files.write(filePath, "not json".getBytes(StandardCharsets.UTF_8));
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 1);
+        assertAddressBookEquals(firstSaved, reopened.readAddressBook().get());
+
+        // The next save writes the whole address book over the corrupted file
+        reopened.saveAddressBook(original);
+        assertFalse(AddressBookJournal.hasJournal(filePath));
+        assertAddressBookEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        modify(original);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"sequence\":99,\"li".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertAddressBookEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_entryDoesNotMatchFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(storage.getJournalFilePath(), List.of(
+                "{\"sequence\":1,\"timestamp\":0,\"list\":\"persons\",\"from\":100,\"removed\":1,\"added\":[]}",
+                "{\"sequence\":2,\"timestamp\":0,\"list\":\"persons\",\"from\":0,\"removed\":0,\"added\":[]}"));
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_plainStorage_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        modify(original);
+        storage.saveAddressBook(original);
+
+        JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = plainStorage.readAddressBook().get();
+        assertAddressBookEquals(original, readBack);
+
+        // The journal is part of the file once the whole address book is written again
+        plainStorage.saveAddressBook(readBack);
+        assertFalse(AddressBookJournal.hasJournal(filePath));
+        assertAddressBookEquals(original, plainStorage.readAddressBook().get());
+    }
+
+    /**
+     * Adds, removes and replaces elements in several lists of {@code addressBook}.
+     */
+    private static void modify(AddressBook addressBook) {
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(BENSON);
+        Event editedAcademic = new EventBuilder(ACADEMIC).withPersons(List.of(ALICE, HOON)).build();
+        addressBook.setEvent(ACADEMIC, editedAcademic);
+        addressBook.setRsvps(List.of(addressBook.getRsvpList().get(0)));
+    }
+
+    private static void assertAddressBookEquals(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getVenueList(), actual.getVenueList());
+        assertEquals(expected.getVendorList(), actual.getVendorList());
+        assertEquals(expected.getEventList(), actual.getEventList());
+        assertEquals(expected.getRsvpList(), actual.getRsvpList());
+        for (int i = 0; i < expected.getEventList().size(); i++) {
+            assertEquals(expected.getEventList().get(i).getPersons(), actual.getEventList().get(i).getPersons());
+            assertEquals(expected.getEventList().get(i).getVendors(), actual.getEventList().get(i).getVendors());
+        }
+    }
+}
@@ -4,15 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ACADEMIC;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalVendors.getTypicalVendors;
+import static seedu.address.testutil.TypicalVenues.getTypicalVenues;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.FromDate;
 import seedu.address.model.event.Name;
+import seedu.address.model.person.Person;
 
 public class JsonAdaptedEventTest {
     private static final String INVALID_NAME = "H@CKERTH0N";
@@ -29,10 +35,34 @@ public class JsonAdaptedEventTest {
     private static final String VALID_NOTE = ACADEMIC.getNote().toString();
 
 
+    private final JsonReferenceResolver resolver = getTypicalResolver();
+
+    private static JsonReferenceResolver getTypicalResolver() {
+        JsonReferenceResolver resolver = new JsonReferenceResolver();
+        getTypicalPersons().forEach(resolver::addPerson);
+        getTypicalVendors().forEach(resolver::addVendor);
+        getTypicalVenues().forEach(resolver::addVenue);
+        return resolver;
+    }
+
     @Test
     public void toModelType_validEventDetails_returnsEvent() throws Exception {
         JsonAdaptedEvent event = new JsonAdaptedEvent(ACADEMIC);
-        assertEquals(ACADEMIC, event.toModelType());
+        Event modelEvent = event.toModelType(resolver);
+        assertEquals(ACADEMIC, modelEvent);
+        assertEquals(ACADEMIC.getPersons(), modelEvent.getPersons());
+        assertEquals(ACADEMIC.getVendors(), modelEvent.getVendors());
+        assertEquals(ACADEMIC.getVenue(), modelEvent.getVenue());
+    }
+
+    @Test
+    public void toModelType_unknownGuest_throwsIllegalValueException() {
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_NAME, VALID_DESCRIPTION, VALID_FROM_DATE, VALID_TO_DATE, VALID_NOTE,
+                        List.of(new JsonAdaptedReference("Unknown Guest")), new ArrayList<>(), null);
+        String expectedMessage = String.format(JsonReferenceResolver.MESSAGE_UNKNOWN_REFERENCE,
+                Person.class.getSimpleName(), "Unknown Guest");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(resolver));
     }
 
     @Test
@@ -41,7 +71,7 @@ public class JsonAdaptedEventTest {
                 new JsonAdaptedEvent(INVALID_NAME, VALID_DESCRIPTION, VALID_FROM_DATE,
                         VALID_TO_DATE, VALID_NOTE, new ArrayList<>(), new ArrayList<>(), null);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(resolver));
     }
 
     @Test
@@ -50,7 +80,7 @@ public class JsonAdaptedEventTest {
                 new JsonAdaptedEvent(null, VALID_DESCRIPTION, VALID_FROM_DATE,
                         VALID_TO_DATE, VALID_NOTE, new ArrayList<>(), new ArrayList<>(), null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(resolver));
     }
 
     @Test
@@ -59,7 +89,7 @@ public class JsonAdaptedEventTest {
                 new JsonAdaptedEvent(VALID_NAME, INVALID_DESCRIPTION, VALID_FROM_DATE,
                         VALID_TO_DATE, VALID_NOTE, new ArrayList<>(), new ArrayList<>(), null);
         String expectedMessage = Description.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(resolver));
     }
 
     @Test
@@ -68,7 +98,7 @@ public class JsonAdaptedEventTest {
                 new JsonAdaptedEvent(VALID_NAME, null, VALID_FROM_DATE,
                         VALID_TO_DATE, VALID_NOTE, new ArrayList<>(), new ArrayList<>(), null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Description.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(resolver));
     }
 
     @Test
@@ -77,7 +107,7 @@ public class JsonAdaptedEventTest {
                 new JsonAdaptedEvent(VALID_NAME, VALID_DESCRIPTION, INVALID_FROM_DATE,
                         VALID_TO_DATE, VALID_NOTE, new ArrayList<>(), new ArrayList<>(), null);
         String expectedMessage = FromDate.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(resolver));
     }
 
     @Test
@@ -87,6 +117,6 @@ public class JsonAdaptedEventTest {
                         VALID_TO_DATE, VALID_NOTE, new ArrayList<>(),
                         new ArrayList<>(), null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, FromDate.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(resolver));
     }
 }
@@ -6,6 +6,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ACADEMIC;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,32 +17,50 @@ import seedu.address.model.rsvp.RsvpStatus;
 
 public class JsonAdaptedRsvpTest {
     private static final Rsvp validRsvp = new Rsvp(ACADEMIC, ALICE, RsvpStatus.CC);
+    private static final JsonAdaptedReference ACADEMIC_REFERENCE =
+            new JsonAdaptedReference(ACADEMIC.getName().eventName);
+    private static final JsonAdaptedReference ALICE_REFERENCE = new JsonAdaptedReference(ALICE.getName().fullName);
+
+    private final JsonReferenceResolver resolver = new JsonReferenceResolver();
+
+    @BeforeEach
+    public void setUp() {
+        resolver.addPerson(ALICE);
+        resolver.addEvent(ACADEMIC);
+    }
 
     @Test
     public void toModelType_validRsvp_returnsRsvp() throws Exception {
         JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(validRsvp);
-        assertEquals(validRsvp, rsvp.toModelType());
+        assertEquals(validRsvp, rsvp.toModelType(resolver));
+    }
+
+    @Test
+    public void toModelType_unknownEvent_throwsIllegalValueException() {
+        JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(new JsonAdaptedReference("Unknown Event"), ALICE_REFERENCE, "CC");
+        String expectedMessage = String.format(JsonReferenceResolver.MESSAGE_UNKNOWN_REFERENCE,
+                Event.class.getSimpleName(), "Unknown Event");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> rsvp.toModelType(resolver));
     }
 
     @Test
     public void toModelType_nullEvent_throwsIllegalValueException() {
-        JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(null, new JsonAdaptedPerson(ALICE), "CC");
+        JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(null, ALICE_REFERENCE, "CC");
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Event.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, rsvp::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> rsvp.toModelType(resolver));
     }
 
     @Test
     public void toModelType_nullPerson_throwsIllegalValueException() {
-        JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(new JsonAdaptedEvent(ACADEMIC), null, "CC");
+        JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(ACADEMIC_REFERENCE, null, "CC");
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, rsvp::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> rsvp.toModelType(resolver));
     }
 
     @Test
     public void toModelType_nullStatus_throwsIllegalValueException() {
-        JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(new JsonAdaptedEvent(ACADEMIC),
-                new JsonAdaptedPerson(ALICE), null);
+        JsonAdaptedRsvp rsvp = new JsonAdaptedRsvp(ACADEMIC_REFERENCE, ALICE_REFERENCE, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, RsvpStatus.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, rsvp::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> rsvp.toModelType(resolver));
     }
 }
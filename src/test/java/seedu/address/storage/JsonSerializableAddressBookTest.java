@@ -1,16 +1,26 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.rsvp.Rsvp;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +29,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path LEGACY_NESTED_FILE = TEST_DATA_FOLDER.resolve("legacyNestedAddressBook.json");
+    private static final Path UNKNOWN_REFERENCE_FILE = TEST_DATA_FOLDER.resolve("unknownReferenceAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +56,113 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_legacyNestedFile_referencesResolvedToTopLevelEntities() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LEGACY_NESTED_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Event event = addressBookFromFile.getEventList().get(0);
+        assertSame(addressBookFromFile.getPersonList().get(0), event.getPersons().get(0));
+        assertSame(addressBookFromFile.getVendorList().get(0), event.getVendors().get(0));
+        assertSame(addressBookFromFile.getVenueList().get(0), event.getVenue());
+
+        Rsvp rsvp = addressBookFromFile.getRsvpList().get(0);
+        assertSame(event, rsvp.getEvent());
+        assertSame(addressBookFromFile.getPersonList().get(0), rsvp.getPerson());
+    }
+
+    @Test
+    public void toModelType_legacyNestedFile_savedInReferenceFormat() throws Exception {
+        AddressBook addressBook = JsonUtil.readJsonFile(LEGACY_NESTED_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertTrue(json.contains("\"persons\" : [ \"Alice Pauline\" ]"));
+        assertTrue(json.contains("\"person\" : \"Alice Pauline\""));
+
+        AddressBook migrated = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(addressBook.getEventList(), migrated.getEventList());
+        assertEquals(addressBook.getRsvpList(), migrated.getRsvpList());
+    }
+
+    @Test
+    public void toModelType_manyPersons_orderKept() throws Exception {
+        List<JsonAdaptedPerson> persons = generatePersons(1000);
+        AddressBook addressBook = withPersons(persons).toModelType();
+        assertEquals(1000, addressBook.getPersonList().size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).toModelType(), addressBook.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_manyInvalidPersons_firstInvalidPersonReported() {
+        List<JsonAdaptedPerson> persons = generatePersons(1000);
+        persons.set(600, new JsonAdaptedPerson("Person 600", "+651234", "person600@example.com"));
+        persons.set(900, new JsonAdaptedPerson("Person 900", "91234567", "not an email"));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, withPersons(persons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_duplicateReported() {
+        List<JsonAdaptedPerson> persons = generatePersons(1000);
+        persons.set(300, persons.get(100));
+        persons.set(600, new JsonAdaptedPerson("Person 600", "+651234", "person600@example.com"));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                withPersons(persons)::toModelType);
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_legacyNestedFile_sameAsToModelType() throws Exception {
+        // Events come before venues and vendors in this file, which also has a field that is not a list
+        AddressBook expected = JsonUtil.readJsonFile(LEGACY_NESTED_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        try (JsonParser parser = JsonUtil.createParser(LEGACY_NESTED_FILE)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.read(parser);
+            assertEquals(expected.getEventList(), addressBookFromFile.getEventList());
+            assertEquals(expected.getRsvpList(), addressBookFromFile.getRsvpList());
+
+            Event event = addressBookFromFile.getEventList().get(0);
+            assertSame(addressBookFromFile.getVenueList().get(0), event.getVenue());
+            assertSame(event, addressBookFromFile.getRsvpList().get(0).getEvent());
+        }
+    }
+
+    @Test
+    public void toModelType_unknownReference_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_REFERENCE_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonReferenceResolver.MESSAGE_UNKNOWN_REFERENCE,
+                Person.class.getSimpleName(), "Alice Pauline"), dataFromFile::toModelType);
+    }
+
+    private static List<JsonAdaptedPerson> generatePersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new JsonAdaptedPerson("Person " + i, String.valueOf(90000000 + i),
+                    "person" + i + "@example.com"));
+        }
+        return persons;
+    }
+
+    private static JsonSerializableAddressBook withPersons(List<JsonAdaptedPerson> persons) {
+        return new JsonSerializableAddressBook(persons, List.of(), List.of(), List.of(), List.of());
+    }
+
 }
@@ -2,9 +2,16 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +67,67 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookInBackground_laterChanges_notSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(original);
+        AddressBook saved = new AddressBook(original);
+        original.addPerson(HOON);
+
+        storageManager.flushAddressBook();
+        assertEquals(saved, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookInBackground_duringWrite_writesLatestOnce() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                written.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await();
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie);
+                }
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(addressBook);
+        firstWriteStarted.await();
+        addressBook.addPerson(HOON);
+        storageManager.saveAddressBookInBackground(addressBook);
+        addressBook.addPerson(IDA);
+        storageManager.saveAddressBookInBackground(addressBook);
+        firstWriteReleased.countDown();
+
+        storageManager.flushAddressBook();
+        assertEquals(2, written.size());
+        assertEquals(addressBook.getPersonList(), written.get(1).getPersonList());
+    }
+
+    @Test
+    public void flushAddressBook_writeFailed_throwsIoException() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        storageManager.saveAddressBookInBackground(getTypicalAddressBook());
+        assertThrows(IOException.class, () -> storageManager.flushAddressBook());
+
+        // The failure is only reported once
+        storageManager.flushAddressBook();
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());